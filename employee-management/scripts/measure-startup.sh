@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request: from launching the JVM until GET /actuator/health answers.
+#
+#   scripts/measure-startup.sh baseline   # target/employee-management-*.jar, default settings
+#   scripts/measure-startup.sh fast       # target/fast-startup (mvn -Pfast-startup package): AOT + CDS archive
+#   RUNS=5 EXTRA_ARGS="--spring.main.lazy-initialization=true" scripts/measure-startup.sh fast
+#
+# The application itself also logs and publishes the value as app.startup.time-to-first-request.
+set -euo pipefail
+
+MODE="${1:-baseline}"
+RUNS="${RUNS:-3}"
+PORT="${PORT:-8080}"
+EXTRA_ARGS="${EXTRA_ARGS:-}"
+cd "$(dirname "$0")/.."
+
+case "$MODE" in
+  baseline)
+    JAR=$(ls target/employee-management-*.jar | grep -v original | head -n 1)
+    CMD=(java -jar "$JAR")
+    ;;
+  fast)
+    JAR=$(ls target/fast-startup/employee-management-*.jar | head -n 1)
+    CMD=(java -XX:SharedArchiveFile=target/fast-startup/application.jsa -Dspring.aot.enabled=true
+         -jar "$JAR" --spring.profiles.active=fast-startup)
+    ;;
+  *)
+    echo "usage: $0 baseline|fast" >&2
+    exit 1
+    ;;
+esac
+
+for run in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  # shellcheck disable=SC2086
+  "${CMD[@]}" --server.port="$PORT" $EXTRA_ARGS > "target/startup-$MODE-$run.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited, see target/startup-$MODE-$run.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  echo "$MODE run $run: time to first request $(( (end - start) / 1000000 )) ms"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
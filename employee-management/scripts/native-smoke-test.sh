@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Smoke-tests the native executable against an in-memory H2 database:
+# startup time, login and token refresh (JJWT), CRUD round trip (Hibernate, Jackson, validation),
+# the OpenAPI document (springdoc) and the resident set size.
+#
+#   scripts/native-smoke-test.sh target/employee-management
+set -euo pipefail
+
+BINARY="${1:-target/employee-management}"
+PORT="${PORT:-18080}"
+BASE="http://localhost:$PORT"
+LOG="$(dirname "$BINARY")/native-smoke-test.log"
+
+start=$(date +%s%N)
+"$BINARY" \
+  --server.port="$PORT" \
+  --spring.datasource.url="jdbc:h2:mem:smoke;MODE=MySQL;DB_CLOSE_DELAY=-1" \
+  --spring.datasource.driverClassName=org.h2.Driver \
+  --spring.datasource.username=sa \
+  --spring.datasource.password= \
+  --spring.jpa.database-platform=org.hibernate.dialect.H2Dialect \
+  --spring.jpa.hibernate.ddl-auto=none \
+  --spring.jpa.show-sql=false > "$LOG" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null "$BASE/actuator/health"; do
+  kill -0 "$pid" 2>/dev/null || { echo "FAIL: application exited, see $LOG" >&2; exit 1; }
+  sleep 0.01
+done
+echo "startup: time to first request $(( ($(date +%s%N) - start) / 1000000 )) ms"
+
+fail() { echo "FAIL: $1" >&2; exit 1; }
+field() { sed -n "s/.*\"$1\":\"\{0,1\}\([^\",}]*\).*/\1/p"; }
+
+# The default users are seeded right after startup
+for _ in $(seq 1 50); do
+  login=$(curl -s -H 'Content-Type: application/json' -d '{"username":"adminuser","password":"password123"}' "$BASE/api/v1/auth/login")
+  token=$(echo "$login" | field token)
+  [ -n "$token" ] && break
+  sleep 0.1
+done
+[ -n "$token" ] || fail "login: $login"
+refresh=$(echo "$login" | field refreshToken)
+refreshed=$(curl -s -H 'Content-Type: application/json' -d "{\"refreshToken\":\"$refresh\"}" "$BASE/api/v1/auth/refresh" | field token)
+[ -n "$refreshed" ] || fail "refresh"
+auth="Authorization: Bearer $refreshed"
+
+department=$(curl -sf -H "$auth" -H 'Content-Type: application/json' -d '{"name":"Engineering"}' "$BASE/api/v1/departments" | field id)
+[ -n "$department" ] || fail "create department"
+employee=$(curl -sf -H "$auth" -H 'Content-Type: application/json' \
+  -d "{\"name\":\"Ada Lovelace\",\"role\":\"Engineer\",\"salary\":5000,\"dateOfBirth\":\"1990-12-10\",\"email\":\"ada@example.com\",\"phoneNumber\":\"+491234567890\",\"hireDate\":\"2020-01-01\",\"address\":\"London\",\"department\":{\"id\":$department}}" \
+  "$BASE/api/v1/employees" | field id)
+[ -n "$employee" ] || fail "create employee"
+curl -sf -H "$auth" "$BASE/api/v1/employees/$employee" | grep -q 'ada@example.com' || fail "get employee"
+curl -sf -H "$auth" "$BASE/api/v1/employees" > /dev/null || fail "list employees"
+curl -s -o /dev/null -w '%{http_code}' -H "$auth" -H 'Content-Type: application/json' -d '{"name":""}' \
+  "$BASE/api/v1/departments" | grep -q 400 || fail "validation error"
+curl -sf "$BASE/v3/api-docs" | grep -q 'Employee Management API' || fail "OpenAPI document"
+
+echo "rss: $(ps -o rss= -p "$pid" | tr -d ' ') KiB"
+echo "native smoke test passed"
@@ -0,0 +1,30 @@
+package de.zeroco.employeemanagement.benchmark;
+
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    // A typical API payload: employee with department, a manager (with its own department) and three projects
+    static Employee employeeGraph() {
+        Department engineering = new Department(1L, "Engineering", null);
+        Set<Project> projects = new HashSet<>();
+        for (long p = 1; p <= 3; p++) {
+            projects.add(new Project(p, "Project " + p, new HashSet<>()));
+        }
+        Employee manager = new Employee(10L, "Grace Manager", "Engineering Manager", 120000.0, LocalDate.of(1975, 3, 4),
+                "grace.manager@example.com", "555-0101", LocalDate.of(2010, 5, 1), "1 Lead Lane",
+                engineering, null, new HashSet<>());
+        return new Employee(11L, "Alan Engineer", "Software Engineer", 85000.0, LocalDate.of(1990, 6, 23),
+                "alan.engineer@example.com", "555-0102", LocalDate.of(2019, 9, 1), "2 Code Court",
+                engineering, manager, projects);
+    }
+}
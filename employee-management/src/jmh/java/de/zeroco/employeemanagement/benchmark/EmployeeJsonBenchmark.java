@@ -0,0 +1,42 @@
+package de.zeroco.employeemanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trip of an {@link Employee} with nested department, manager and projects, using an ObjectMapper
+ * configured like Spring Boot's (JavaTimeModule, dates as ISO strings).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Employee employee;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employee = BenchmarkFixtures.employeeGraph();
+        json = objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserialize() throws Exception {
+        return objectMapper.readValue(json, Employee.class);
+    }
+}
@@ -0,0 +1,79 @@
+package de.zeroco.employeemanagement.benchmark;
+
+import de.zeroco.employeemanagement.EmployeeManagementApplication;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.repository.DepartmentRepository;
+import de.zeroco.employeemanagement.repository.ProjectRepository;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EmployeeService#createEmployee} and {@link EmployeeService#updateEmployee} against the full JPA stack on
+ * an in-memory H2 database (the "test" profile), without the web layer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private Department department;
+    private Set<Project> projects;
+    private Long existingId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        employeeService = context.getBean(EmployeeService.class);
+        department = context.getBean(DepartmentRepository.class).save(new Department(null, "Benchmarking", null));
+        projects = new HashSet<>();
+        for (int p = 0; p < 3; p++) {
+            projects.add(context.getBean(ProjectRepository.class).save(new Project(null, "Benchmark " + p, new HashSet<>())));
+        }
+        existingId = employeeService.createEmployee(newEmployee()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee createEmployee() {
+        return employeeService.createEmployee(newEmployee());
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        return employeeService.updateEmployee(existingId, newEmployee());
+    }
+
+    private Employee newEmployee() {
+        long n = sequence.incrementAndGet();
+        Set<Project> assigned = new HashSet<>();
+        projects.forEach(p -> assigned.add(new Project(p.getId(), null, null)));
+        return new Employee(null, "Bench " + n, "Engineer", 70000.0 + n % 1000, LocalDate.of(1988, 1, 1),
+                "bench" + n + "@example.com", "555-0199", LocalDate.of(2021, 1, 1), "3 Perf Place",
+                new Department(department.getId(), null, null), null, assigned);
+    }
+}
@@ -0,0 +1,55 @@
+package de.zeroco.employeemanagement.benchmark;
+
+import de.zeroco.employeemanagement.model.Employee;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of {@link Employee} as done for every POST/PUT, for a valid payload and for one that fails
+ * several constraints (violations allocate message interpolation state).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Employee valid;
+    private Employee invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkFixtures.employeeGraph();
+        invalid = BenchmarkFixtures.employeeGraph();
+        invalid.setName("");
+        invalid.setEmail("not-an-email");
+        invalid.setSalary(-1.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Employee>> validateInvalid() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,44 @@
+package de.zeroco.employeemanagement.benchmark;
+
+import de.zeroco.employeemanagement.exception.DuplicateEmailException;
+import de.zeroco.employeemanagement.exception.GlobalExceptionHandler;
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error body construction in {@link GlobalExceptionHandler}. Exception creation (stack trace capture) is part of
+ * the measured cost, as it is on the real 404/409 paths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorBodyBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/employees/42"));
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> notFound() {
+        return handler.handleResourceNotFoundException(new ResourceNotFoundException("Employee not found with id: 42"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> duplicateEmail() {
+        return handler.handleDuplicateEmailException(new DuplicateEmailException("Email already exists: a@example.com"), request);
+    }
+}
@@ -1,9 +1,14 @@
 package de.zeroco.employeemanagement;
 
+import de.zeroco.employeemanagement.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class EmployeeManagementApplication {
 
     public static void main(String[] args) {
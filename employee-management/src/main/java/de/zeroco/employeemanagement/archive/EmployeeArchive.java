@@ -0,0 +1,175 @@
+package de.zeroco.employeemanagement.archive;
+
+import de.zeroco.employeemanagement.payload.FormerEmployee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC access to the former employees: the terminated rows still in {@code employee} and those already moved
+ * to {@code employee_archive}. Keeping them out of the hot table keeps its scans and indexes at the size of the
+ * active workforce; lookups here read both places, so a former employee never disappears in between.
+ */
+@Component
+public class EmployeeArchive {
+
+    private static final int IN_LIST_SIZE = 500;
+
+    private static final String VALUES = "name, role, salary, date_of_birth, email, phone_number, hire_date, address, "
+            + "department_id, manager_id";
+    private static final String SELECT_TERMINATED = "SELECT id, " + VALUES + ", termination_date FROM employee"
+            + " WHERE status = 'TERMINATED'";
+    private static final String SELECT_ARCHIVED = "SELECT id, " + VALUES + ", project_ids, termination_date, archived_at"
+            + " FROM employee_archive";
+    private static final String INSERT_ARCHIVED = "INSERT INTO employee_archive (id, " + VALUES
+            + ", project_ids, termination_date, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Up to {@code limit} employees terminated before {@code day}, longest terminated first (idx_employee_status_termination_date). */
+    public List<Long> findArchivable(LocalDate day, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM employee WHERE status = 'TERMINATED' AND termination_date < ?"
+                + " ORDER BY termination_date, id LIMIT ?", Long.class, Date.valueOf(day), limit);
+    }
+
+    /**
+     * Moves the given terminated employees to the archive, with their project ids; ids of active or missing
+     * employees are skipped. Must run in a transaction, so that an employee is never in both tables or neither.
+     * Returns how many were moved.
+     */
+    public int archive(Collection<Long> ids, Instant now) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Terminations made earlier in the same transaction
+            entityManager.flush();
+        }
+        List<Long> idList = new ArrayList<>(ids);
+        int moved = 0;
+        for (int from = 0; from < idList.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(idList.size(), from + IN_LIST_SIZE));
+            List<FormerEmployee> terminated = jdbcTemplate.query(SELECT_TERMINATED + " AND id" + in(chunk.size()),
+                    (rs, i) -> mapTerminated(rs), chunk.toArray());
+            if (terminated.isEmpty()) {
+                continue;
+            }
+            Object[] archived = terminated.stream().map(employee -> employee.id).toArray();
+            Map<Long, List<Long>> projects = projectIds(archived);
+            jdbcTemplate.batchUpdate(INSERT_ARCHIVED, terminated.stream().map(employee -> new Object[]{
+                    employee.id, employee.name, employee.role, employee.salary, date(employee.dateOfBirth), employee.email,
+                    employee.phoneNumber, date(employee.hireDate), employee.address, employee.departmentId,
+                    employee.managerId, joined(projects.get(employee.id)), date(employee.terminationDate),
+                    Timestamp.from(now)}).toList());
+            String in = in(archived.length);
+            jdbcTemplate.update("DELETE FROM employee_project WHERE employee_id" + in, archived);
+            // Only other former employees can still point at them: active reports are detached on termination
+            jdbcTemplate.update("UPDATE employee SET manager_id = NULL WHERE manager_id" + in, archived);
+            moved += jdbcTemplate.update("DELETE FROM employee WHERE id" + in, archived);
+        }
+        return moved;
+    }
+
+    /** The former employee with the given id, archived or not. */
+    public Optional<FormerEmployee> findById(long id) {
+        List<FormerEmployee> archived = jdbcTemplate.query(SELECT_ARCHIVED + " WHERE id = ?", (rs, i) -> mapArchived(rs), id);
+        if (!archived.isEmpty()) {
+            return Optional.of(archived.get(0));
+        }
+        return withProjects(jdbcTemplate.query(SELECT_TERMINATED + " AND id = ?", (rs, i) -> mapTerminated(rs), id))
+                .stream().findFirst();
+    }
+
+    /** Up to {@code limit} former employees terminated on {@code from <= day < to}, by termination date and id. */
+    public List<FormerEmployee> findByTerminationDate(LocalDate from, LocalDate to, int limit) {
+        Date start = Date.valueOf(from);
+        Date end = Date.valueOf(to);
+        List<FormerEmployee> archived = jdbcTemplate.query(SELECT_ARCHIVED + " WHERE termination_date >= ?"
+                + " AND termination_date < ? ORDER BY termination_date, id LIMIT ?", (rs, i) -> mapArchived(rs), start, end, limit);
+        List<FormerEmployee> terminated = jdbcTemplate.query(SELECT_TERMINATED + " AND termination_date >= ?"
+                + " AND termination_date < ? ORDER BY termination_date, id LIMIT ?", (rs, i) -> mapTerminated(rs), start, end, limit);
+        // An employee archived between the two queries is in both; keep the archived copy
+        Map<Long, FormerEmployee> merged = new LinkedHashMap<>();
+        archived.forEach(employee -> merged.put(employee.id, employee));
+        withProjects(terminated).forEach(employee -> merged.putIfAbsent(employee.id, employee));
+        return merged.values().stream()
+                .sorted(Comparator.comparing((FormerEmployee employee) -> employee.terminationDate).thenComparing(employee -> employee.id))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<FormerEmployee> withProjects(List<FormerEmployee> terminated) {
+        if (!terminated.isEmpty()) {
+            Map<Long, List<Long>> projects = projectIds(terminated.stream().map(employee -> employee.id).toArray());
+            terminated.forEach(employee -> employee.projectIds = projects.getOrDefault(employee.id, List.of()));
+        }
+        return terminated;
+    }
+
+    private Map<Long, List<Long>> projectIds(Object[] employeeIds) {
+        Map<Long, List<Long>> projects = new HashMap<>();
+        jdbcTemplate.query("SELECT employee_id, project_id FROM employee_project WHERE employee_id" + in(employeeIds.length)
+                + " ORDER BY employee_id, project_id", rs -> {
+            projects.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+        }, employeeIds);
+        return projects;
+    }
+
+    private static String in(int size) {
+        return " IN (" + String.join(",", Collections.nCopies(size, "?")) + ")";
+    }
+
+    private static String joined(List<Long> projectIds) {
+        return projectIds == null ? "" : projectIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static FormerEmployee mapTerminated(ResultSet rs) throws SQLException {
+        return map(rs, null, null);
+    }
+
+    private static FormerEmployee mapArchived(ResultSet rs) throws SQLException {
+        String projectIds = rs.getString("project_ids");
+        List<Long> projects = projectIds == null || projectIds.isEmpty() ? List.of()
+                : Arrays.stream(projectIds.split(",")).map(Long::valueOf).toList();
+        return map(rs, projects, rs.getTimestamp("archived_at").toInstant());
+    }
+
+    private static FormerEmployee map(ResultSet rs, List<Long> projectIds, Instant archivedAt) throws SQLException {
+        return new FormerEmployee(rs.getLong("id"), rs.getString("name"), rs.getString("role"),
+                rs.getObject("salary", Double.class), localDate(rs, "date_of_birth"), rs.getString("email"),
+                rs.getString("phone_number"), localDate(rs, "hire_date"), rs.getString("address"),
+                rs.getObject("department_id", Long.class), rs.getObject("manager_id", Long.class), projectIds,
+                localDate(rs, "termination_date"), archivedAt);
+    }
+
+    private static LocalDate localDate(ResultSet rs, String column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static Date date(LocalDate day) {
+        return day != null ? Date.valueOf(day) : null;
+    }
+}
@@ -0,0 +1,76 @@
+package de.zeroco.employeemanagement.archive;
+
+import de.zeroco.employeemanagement.datasource.Workload;
+import de.zeroco.employeemanagement.datasource.WorkloadPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Moves employees terminated more than {@code app.archive.retention-days} ago from the {@code employee} table to
+ * the {@link EmployeeArchive}, in batches of {@code app.archive.batch-size}, one short transaction per batch.
+ * Archived employees were already hidden from every default read, so nothing else has to be notified.
+ * <p>
+ * Safe to run on several nodes: a batch that another node moved first fails on the archive's primary key, is
+ * rolled back and ends this run.
+ */
+@Component
+@WorkloadPool(Workload.BULK)
+public class EmployeeArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeArchiver.class);
+
+    private final EmployeeArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionDays;
+    private final int batchSize;
+    private final Counter archived;
+
+    public EmployeeArchiver(EmployeeArchive archive, TransactionTemplate transactionTemplate,
+                            @Value("${app.archive.retention-days:365}") long retentionDays,
+                            @Value("${app.archive.batch-size:500}") int batchSize, MeterRegistry registry) {
+        this.archive = archive;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("app.archive.archived").register(registry);
+    }
+
+    /** Archives every employee terminated before the retention period; returns how many. */
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+               initialDelayString = "${app.archive.interval-ms:3600000}")
+    public int archiveTerminated() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            while (true) {
+                Integer moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = archive.findArchivable(cutoff, batchSize);
+                    return ids.isEmpty() ? 0 : archive.archive(ids, Instant.now().truncatedTo(ChronoUnit.MICROS));
+                });
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived.increment(moved);
+                total += moved;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Archiving terminated employees stopped after {}", total, e);
+        }
+        if (total > 0) {
+            log.info("Archived {} employees terminated before {}", total, cutoff);
+        }
+        return total;
+    }
+}
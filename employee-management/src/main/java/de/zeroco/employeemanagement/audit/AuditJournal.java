@@ -0,0 +1,362 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of {@link AuditRecord}s in memory-mapped segment files {@code audit-<first sequence>.seg}
+ * of a fixed size, in one directory per node.
+ * <p>
+ * Layout (big-endian): a {@value #HEADER_BYTES}-byte segment header with magic, format version and the
+ * sequence number of the first record; then one frame per record: payload length, CRC-32C of the payload,
+ * payload. Segments are created at full size, so a zero length marks the end of the written part. Strings are
+ * UTF-8 with an {@code int} length, {@code -1} for {@code null}.
+ * <p>
+ * A single thread appends. {@link #force()} writes everything appended since the last call to disk in one go
+ * (the group commit) and only then makes it visible to {@link #read}. On open, the last segment is scanned
+ * and appending resumes after its last intact frame; a frame torn by a crash fails its checksum and is
+ * overwritten. The journal id, kept in {@code journal.id}, tells this journal's records apart from other
+ * nodes' once they are compacted into the same table.
+ */
+public class AuditJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+
+    static final int MAGIC = 0x454D_5041; // "EMPA"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int FRAME_HEADER_BYTES = 8;
+    /** Segments smaller than this would hold only a few large records. */
+    static final int MIN_SEGMENT_BYTES = 64 * 1024;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{20})\\.seg");
+    private static final int NULL_LENGTH = -1;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final String journalId;
+    // First sequence -> file; the last entry is the segment being appended to
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+    // Readers hold the read lock while scanning segments, so compaction cannot delete one under them
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    private MappedByteBuffer active;
+    private int position;
+    private int forcedPosition;
+    private long nextSequence;
+    private volatile long durableSequence;
+
+    private AuditJournal(Path directory, int segmentBytes, String journalId) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.journalId = journalId;
+    }
+
+    /** Opens the journal in {@code directory}, creating it if needed, and recovers the end of the last segment. */
+    public static AuditJournal open(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Audit segments must have at least " + MIN_SEGMENT_BYTES + " bytes");
+        }
+        Files.createDirectories(directory);
+        Path idFile = directory.resolve("journal.id");
+        if (!Files.exists(idFile)) {
+            Files.writeString(idFile, UUID.randomUUID().toString(), StandardCharsets.US_ASCII);
+        }
+        AuditJournal journal = new AuditJournal(directory, segmentBytes, Files.readString(idFile, StandardCharsets.US_ASCII).trim());
+        journal.recover();
+        return journal;
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            nextSequence = 1;
+            roll(1);
+        } else {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            active = map(last.getValue(), FileChannel.MapMode.READ_WRITE);
+            if (active.capacity() < HEADER_BYTES || active.getInt(0) != MAGIC || active.getInt(4) != FORMAT_VERSION
+                    || active.getLong(8) != last.getKey()) {
+                throw new IOException("Not an audit segment of format version " + FORMAT_VERSION + ": " + last.getValue());
+            }
+            nextSequence = last.getKey();
+            position = HEADER_BYTES;
+            while (true) {
+                int length = frameLength(active, position);
+                if (length <= 0 || !intact(length) || active.getLong(position + FRAME_HEADER_BYTES) != nextSequence) {
+                    break;
+                }
+                position += FRAME_HEADER_BYTES + length;
+                nextSequence++;
+            }
+            forcedPosition = position;
+        }
+        durableSequence = nextSequence - 1;
+        log.info("Audit journal {} in {}: {} segments, last sequence {}", journalId, directory, segments.size(), durableSequence);
+    }
+
+    private boolean intact(int length) {
+        if (length < Long.BYTES || position + FRAME_HEADER_BYTES + length > active.capacity()) {
+            return false;
+        }
+        checksum.reset();
+        checksum.update(active.slice(position + FRAME_HEADER_BYTES, length));
+        return (int) checksum.getValue() == active.getInt(position + 4);
+    }
+
+    public String journalId() {
+        return journalId;
+    }
+
+    /** Sequence number of the last record that has been forced to disk and is visible to readers. */
+    public long durableSequence() {
+        return durableSequence;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Appends {@code record} with the next sequence number and returns it. The record is neither durable nor
+     * visible before the next {@link #force()}. Throws if the active segment is full and a new one cannot be
+     * created; the record is then not appended.
+     */
+    public long append(AuditRecord record) throws IOException {
+        long sequence = nextSequence;
+        int length = encode(record, sequence);
+        // The capacity, not segmentBytes: a recovered segment may have been created with another size
+        if (position + FRAME_HEADER_BYTES + length > active.capacity()) {
+            if (position == HEADER_BYTES) {
+                throw new IllegalArgumentException("Audit record of " + length + " bytes does not fit in a segment");
+            }
+            force();
+            roll(sequence);
+        }
+        checksum.reset();
+        checksum.update(scratch.array(), 0, length);
+        active.putInt(position + 4, (int) checksum.getValue());
+        active.put(position + FRAME_HEADER_BYTES, scratch.array(), 0, length);
+        // The length goes last: until it is set, the frame still reads as the end of the segment
+        active.putInt(position, length);
+        position += FRAME_HEADER_BYTES + length;
+        nextSequence++;
+        return sequence;
+    }
+
+    /** Writes the records appended since the last call to disk and publishes them to readers. */
+    public void force() {
+        if (position > forcedPosition) {
+            active.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+        durableSequence = nextSequence - 1;
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        Path file = directory.resolve(String.format("audit-%020d.seg", firstSequence));
+        // No segment of this journal starts at firstSequence yet, so a file by this name is what remains of an
+        // earlier attempt that failed; without removing it the retries would fail forever
+        Files.deleteIfExists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), segmentBytes - 1);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            mapped.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putLong(8, firstSequence);
+            mapped.force(0, HEADER_BYTES);
+            active = mapped;
+        } catch (IOException | RuntimeException e) {
+            // Not left behind for recovery to take as the last segment after a restart
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException again) {
+                e.addSuppressed(again);
+            }
+            throw e;
+        }
+        position = HEADER_BYTES;
+        forcedPosition = HEADER_BYTES;
+        segments.put(firstSequence, file);
+    }
+
+    /**
+     * Passes the durable records with a sequence number above {@code afterSequence} to {@code consumer}, in
+     * sequence order. Safe to call from any thread while the journal is being appended to.
+     */
+    public void read(long afterSequence, Consumer<AuditRecord> consumer) throws IOException {
+        long upTo = durableSequence;
+        segmentLock.readLock().lock();
+        try {
+            Long first = segments.floorKey(afterSequence + 1);
+            for (Map.Entry<Long, Path> segment : segments.tailMap(first != null ? first : 0L, true).entrySet()) {
+                if (segment.getKey() > upTo) {
+                    return;
+                }
+                ByteBuffer buffer;
+                try {
+                    buffer = map(segment.getValue(), FileChannel.MapMode.READ_ONLY);
+                } catch (NoSuchFileException e) {
+                    continue; // compacted and deleted by the time it was opened
+                }
+                int offset = HEADER_BYTES;
+                while (offset + FRAME_HEADER_BYTES <= buffer.capacity()) {
+                    int length = frameLength(buffer, offset);
+                    if (length <= 0) {
+                        break;
+                    }
+                    AuditRecord record = decode(buffer.slice(offset + FRAME_HEADER_BYTES, length));
+                    if (record.sequence() > upTo) {
+                        return;
+                    }
+                    if (record.sequence() > afterSequence) {
+                        consumer.accept(record);
+                    }
+                    if (record.sequence() == upTo) {
+                        return; // frames after it may still be in the middle of being written
+                    }
+                    offset += FRAME_HEADER_BYTES + length;
+                }
+            }
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments, except the active one, whose records all have a sequence number up to
+     * {@code sequence}; returns how many were deleted.
+     */
+    public int deleteThrough(long sequence) throws IOException {
+        List<Path> deletable = new ArrayList<>();
+        Long next = null;
+        for (Map.Entry<Long, Path> segment : segments.descendingMap().entrySet()) {
+            if (next != null && next - 1 <= sequence) {
+                deletable.add(segment.getValue());
+            }
+            next = segment.getKey();
+        }
+        segmentLock.writeLock().lock();
+        try {
+            for (Path file : deletable) {
+                Files.deleteIfExists(file);
+                segments.values().remove(file);
+            }
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+        return deletable.size();
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private static MappedByteBuffer map(Path file, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            return channel.map(mode, 0, channel.size());
+        }
+    }
+
+    private static int frameLength(ByteBuffer buffer, int offset) {
+        return offset + FRAME_HEADER_BYTES <= buffer.capacity() ? buffer.getInt(offset) : 0;
+    }
+
+    /** Encodes the payload of {@code record} into {@code scratch}, growing it as needed; returns its length. */
+    private int encode(AuditRecord record, long sequence) {
+        while (true) {
+            try {
+                scratch.clear();
+                scratch.putLong(sequence);
+                scratch.putLong(record.occurredAt().getEpochSecond());
+                scratch.putInt(record.occurredAt().getNano());
+                scratch.putLong(record.employeeId());
+                putString(record.action().name());
+                putString(record.actor());
+                scratch.putInt(record.changes().size());
+                for (FieldChange change : record.changes()) {
+                    putString(change.field());
+                    putString(change.before());
+                    putString(change.after());
+                }
+                return scratch.position();
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            scratch.putInt(NULL_LENGTH);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            scratch.putInt(bytes.length);
+            scratch.put(bytes);
+        }
+    }
+
+    static AuditRecord decode(ByteBuffer payload) {
+        long sequence = payload.getLong();
+        Instant occurredAt = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+        long employeeId = payload.getLong();
+        ChangeType action = ChangeType.valueOf(getString(payload));
+        String actor = getString(payload);
+        int count = payload.getInt();
+        List<FieldChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            changes.add(new FieldChange(getString(payload), getString(payload), getString(payload)));
+        }
+        return new AuditRecord(sequence, employeeId, action, actor, occurredAt, changes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
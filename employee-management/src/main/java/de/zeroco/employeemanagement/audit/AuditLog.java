@@ -0,0 +1,299 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of employee creates, updates and deletes, kept off the request path.
+ * <p>
+ * The service computes the field diff inside its transaction; after the commit the record goes into a
+ * lock-free {@link MpscRingBuffer} and the request returns. A single writer thread drains the buffer, appends
+ * whatever has accumulated to the {@link AuditJournal} and forces it to disk once per batch (group commit),
+ * so under load one disk flush covers many writes. A full buffer makes producers wait for the writer rather
+ * than drop records ({@code app.audit.buffer.stalls}), but only for {@code enqueueTimeoutMs}: the wait runs
+ * on the request thread after the commit, and a writer stuck on a failing disk must not hang every writing
+ * request. Records given up on are counted in {@code app.audit.dropped} and logged.
+ * <p>
+ * A compactor copies durable journal records into {@code employee_audit} in batches every
+ * {@code compactionIntervalMs} and deletes the journal segments it has fully copied. Queries combine the
+ * table with this node's not yet compacted records; other nodes' records appear once they are compacted.
+ * <p>
+ * Records of commits in the last moments before a crash, still in the buffer, are lost; everything the writer
+ * has forced survives and is compacted after the restart.
+ */
+public class AuditLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    /** Upper bound for the result size of {@link #query}. */
+    public static final int MAX_QUERY_LIMIT = 10_000;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long STALL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long FAILURE_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AuditJournal journal;
+    private final AuditStore store;
+    private final MpscRingBuffer<AuditRecord> buffer;
+    private final int maxBatch;
+    private final long compactionIntervalMs;
+    private final int compactionBatchSize;
+    private final long enqueueTimeoutNanos;
+
+    private final Counter enqueued;
+    private final Counter stalls;
+    private final Counter dropped;
+    private final Counter writeFailures;
+    private final Counter compactedRecords;
+    private final Timer groupCommit;
+    private final DistributionSummary groupCommitRecords;
+
+    private volatile boolean running = true;
+    private volatile long compactedSequence;
+    private final Thread writer;
+    private volatile Thread compactor;
+
+    public AuditLog(AuditJournal journal, AuditStore store, int bufferSize, int maxBatch, long compactionIntervalMs,
+                    int compactionBatchSize, long enqueueTimeoutMs, MeterRegistry registry) {
+        this.journal = journal;
+        this.store = store;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.maxBatch = maxBatch;
+        this.compactionIntervalMs = compactionIntervalMs;
+        this.compactionBatchSize = compactionBatchSize;
+        this.enqueueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMs);
+        this.enqueued = Counter.builder("app.audit.enqueued").register(registry);
+        this.stalls = Counter.builder("app.audit.buffer.stalls").register(registry);
+        this.dropped = Counter.builder("app.audit.dropped").register(registry);
+        this.writeFailures = Counter.builder("app.audit.write.failures").register(registry);
+        this.compactedRecords = Counter.builder("app.audit.compacted").register(registry);
+        this.groupCommit = Timer.builder("app.audit.group-commit").register(registry);
+        this.groupCommitRecords = DistributionSummary.builder("app.audit.group-commit.records").register(registry);
+        Gauge.builder("app.audit.buffer.used", buffer, MpscRingBuffer::size).register(registry);
+        Gauge.builder("app.audit.uncompacted", this, AuditLog::uncompacted).register(registry);
+        Gauge.builder("app.audit.segments", journal, AuditJournal::segmentCount).register(registry);
+
+        // Started right away: records of writes before the application is ready must not fill the buffer
+        this.writer = new Thread(this::write, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Records a change of {@code employeeId} from {@code before} to {@code after} (see {@link AuditedFields}),
+     * once the current transaction commits. Updates that change no audited field are not recorded.
+     */
+    public void record(long employeeId, ChangeType action, Map<String, String> before, Map<String, String> after) {
+        List<FieldChange> changes = AuditedFields.diff(before, after);
+        if (changes.isEmpty() && action == ChangeType.UPDATED) {
+            return;
+        }
+        // Microseconds, the precision of employee_audit.occurred_at, so a record reads the same before and after compaction
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        AuditRecord record = new AuditRecord(0, employeeId, action, currentActor(), now, changes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(record);
+                }
+            });
+        } else {
+            enqueue(record);
+        }
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+
+    private void enqueue(AuditRecord record) {
+        if (!buffer.offer(record)) {
+            stalls.increment();
+            long deadline = System.nanoTime() + enqueueTimeoutNanos;
+            while (!buffer.offer(record)) {
+                if (!running) {
+                    dropped.increment();
+                    log.error("Audit log is shut down, dropped the {} of employee {}", record.action(), record.employeeId());
+                    return;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    dropped.increment();
+                    log.error("Audit buffer stayed full for {} ms, dropped the {} of employee {}",
+                            TimeUnit.NANOSECONDS.toMillis(enqueueTimeoutNanos), record.action(), record.employeeId());
+                    return;
+                }
+                LockSupport.parkNanos(STALL_PARK_NANOS);
+            }
+        }
+        enqueued.increment();
+    }
+
+    private void write() {
+        List<AuditRecord> batch = new ArrayList<>(maxBatch);
+        // After shutdown is requested, keeps going until the records enqueued before it are written
+        while (running || !buffer.isEmpty()) {
+            batch.clear();
+            if (buffer.drainTo(batch, maxBatch) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            long start = System.nanoTime();
+            int written = 0;
+            while (written < batch.size()) {
+                try {
+                    journal.append(batch.get(written));
+                } catch (IllegalArgumentException e) {
+                    dropped.increment();
+                    log.error("Dropped the audit record of employee {}: {}", batch.get(written).employeeId(), e.getMessage());
+                } catch (IOException e) {
+                    writeFailures.increment();
+                    if (running) {
+                        log.error("Appending to the audit journal failed, retrying", e);
+                        LockSupport.parkNanos(FAILURE_PAUSE_NANOS);
+                        continue;
+                    }
+                    dropped.increment(batch.size() - written);
+                    log.error("Audit journal is not writable at shutdown, dropped {} records", batch.size() - written, e);
+                    break;
+                }
+                written++;
+            }
+            try {
+                journal.force();
+            } catch (UncheckedIOException e) {
+                // Not published to readers; the next force covers these records again
+                writeFailures.increment();
+                log.error("Forcing the audit journal to disk failed", e);
+            }
+            groupCommit.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            groupCommitRecords.record(batch.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCompaction() {
+        compactedSequence = store.maxSequence(journal.journalId());
+        Thread thread = new Thread(this::runCompaction, "audit-compactor");
+        thread.setDaemon(true);
+        compactor = thread;
+        thread.start();
+    }
+
+    private void runCompaction() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(compactionIntervalMs);
+                compact();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException | IOException e) {
+                log.warn("Compacting the audit journal failed", e);
+                try {
+                    // Statements commit one by one: resume after what made it into the table
+                    compactedSequence = store.maxSequence(journal.journalId());
+                } catch (RuntimeException again) {
+                    log.debug("Could not read the compaction position", again);
+                }
+            }
+        }
+    }
+
+    /** Copies the durable records not yet in the table and deletes the fully copied segments; returns how many. */
+    synchronized int compact() throws IOException {
+        List<AuditRecord> batch = new ArrayList<>(compactionBatchSize);
+        int[] copied = new int[1];
+        journal.read(compactedSequence, record -> {
+            batch.add(record);
+            if (batch.size() == compactionBatchSize) {
+                copied[0] += copy(batch);
+            }
+        });
+        copied[0] += copy(batch);
+        int deleted = journal.deleteThrough(compactedSequence);
+        if (copied[0] > 0) {
+            log.debug("Compacted {} audit records, deleted {} segments", copied[0], deleted);
+        }
+        return copied[0];
+    }
+
+    private int copy(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        store.insert(journal.journalId(), batch);
+        int copied = batch.size();
+        compactedSequence = batch.get(copied - 1).sequence();
+        compactedRecords.increment(copied);
+        batch.clear();
+        return copied;
+    }
+
+    private double uncompacted() {
+        return Math.max(0, journal.durableSequence() - compactedSequence);
+    }
+
+    /**
+     * Audit records of {@code employeeId} with {@code from <= occurredAt < to}, oldest first, at most
+     * {@code limit}. Records still in the buffer, a few milliseconds' worth, are not included yet.
+     */
+    public List<AuditRecord> query(long employeeId, Instant from, Instant to, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_QUERY_LIMIT));
+        long compacted = compactedSequence;
+        List<AuditRecord> records = new ArrayList<>();
+        // The journal first: its segments after the position read here cannot be deleted while it is scanned,
+        // and whatever is compacted meanwhile is excluded from the table query below
+        try {
+            journal.read(compacted, record -> {
+                if (record.employeeId() == employeeId && !record.occurredAt().isBefore(from) && record.occurredAt().isBefore(to)) {
+                    records.add(record);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading the audit journal failed", e);
+        }
+        records.addAll(store.find(employeeId, from, to, journal.journalId(), compacted, max));
+        records.sort(Comparator.comparing(AuditRecord::occurredAt));
+        return records.size() > max ? List.copyOf(records.subList(0, max)) : records;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        Thread thread = compactor;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.warn("Audit writer did not finish within 10 seconds, {} records still buffered", buffer.size());
+        } else {
+            journal.close();
+        }
+    }
+}
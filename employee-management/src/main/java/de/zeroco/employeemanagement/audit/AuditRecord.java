@@ -0,0 +1,18 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One audited create, update or delete of an employee. {@code sequence} numbers the records of one node's
+ * journal in write order; it is 0 until the writer has appended the record.
+ */
+public record AuditRecord(long sequence, long employeeId, ChangeType action, String actor, Instant occurredAt,
+                          List<FieldChange> changes) {
+
+    AuditRecord withSequence(long sequence) {
+        return new AuditRecord(sequence, employeeId, action, actor, occurredAt, changes);
+    }
+}
@@ -0,0 +1,82 @@
+package de.zeroco.employeemanagement.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.event.ChangeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access to {@code employee_audit}, the compacted part of the audit trail of all nodes. Rows are keyed by
+ * journal id and sequence number; the field changes are stored as one JSON array.
+ */
+public class AuditStore {
+
+    private static final TypeReference<List<FieldChange>> CHANGES = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AuditStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /** The highest sequence number of {@code journalId} in the table, 0 if it has none. */
+    public long maxSequence(String journalId) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(journal_sequence) FROM employee_audit WHERE journal_id = ?",
+                Long.class, journalId);
+        return max != null ? max : 0;
+    }
+
+    /**
+     * Inserts {@code records} in sequence order. Each statement commits on its own, so after a failure the
+     * table holds a prefix of them and {@link #maxSequence(String)} tells where to resume.
+     */
+    public void insert(String journalId, List<AuditRecord> records) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            rows.add(new Object[]{journalId, record.sequence(), record.employeeId(), record.action().name(),
+                    record.actor(), Timestamp.from(record.occurredAt()), json(record.changes())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee_audit (journal_id, journal_sequence, employee_id, action, actor,"
+                + " occurred_at, changes) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Records of one employee with {@code from <= occurred_at < to}, oldest first (idx_employee_audit_employee),
+     * leaving out those of {@code journalId} after {@code afterSequence}, which the caller reads from the journal.
+     */
+    public List<AuditRecord> find(long employeeId, Instant from, Instant to, String journalId, long afterSequence,
+                                  int limit) {
+        return jdbcTemplate.query("SELECT journal_sequence, employee_id, action, actor, occurred_at, changes FROM employee_audit"
+                        + " WHERE employee_id = ? AND occurred_at >= ? AND occurred_at < ?"
+                        + " AND NOT (journal_id = ? AND journal_sequence > ?) ORDER BY occurred_at, id LIMIT ?",
+                (rs, i) -> new AuditRecord(rs.getLong("journal_sequence"), rs.getLong("employee_id"),
+                        ChangeType.valueOf(rs.getString("action")), rs.getString("actor"),
+                        rs.getTimestamp("occurred_at").toInstant(), changes(rs.getString("changes"))),
+                employeeId, Timestamp.from(from), Timestamp.from(to), journalId, afterSequence, limit);
+    }
+
+    private String json(List<FieldChange> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Serializing " + changes.size() + " field changes failed", e);
+        }
+    }
+
+    private List<FieldChange> changes(String json) {
+        try {
+            return objectMapper.readValue(json, CHANGES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable field changes in employee_audit: " + json, e);
+        }
+    }
+}
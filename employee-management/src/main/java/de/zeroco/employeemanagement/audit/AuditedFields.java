@@ -0,0 +1,61 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The audited state of an employee: every column as a string, references by id, the projects as a sorted id
+ * list. Captured inside the writing transaction, so the diff is computed on the request thread and the audit
+ * writer only handles immutable values.
+ */
+public final class AuditedFields {
+
+    private AuditedFields() {
+    }
+
+    public static Map<String, String> of(Employee employee) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", employee.getName());
+        fields.put("role", employee.getRole());
+        fields.put("salary", string(employee.getSalary()));
+        fields.put("dateOfBirth", string(employee.getDateOfBirth()));
+        fields.put("email", employee.getEmail());
+        fields.put("phoneNumber", employee.getPhoneNumber());
+        fields.put("hireDate", string(employee.getHireDate()));
+        fields.put("address", employee.getAddress());
+        fields.put("departmentId", employee.getDepartment() != null ? string(employee.getDepartment().getId()) : null);
+        fields.put("managerId", employee.getManager() != null ? string(employee.getManager().getId()) : null);
+        fields.put("projectIds", employee.getProjects() == null ? null : employee.getProjects().stream()
+                .map(Project::getId).filter(Objects::nonNull).sorted().map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        return fields;
+    }
+
+    /** The fields whose value differs, in the order of {@link #of(Employee)}; empty maps stand for "no employee". */
+    public static List<FieldChange> diff(Map<String, String> before, Map<String, String> after) {
+        Set<String> names = new LinkedHashSet<>(before.keySet());
+        names.addAll(after.keySet());
+        List<FieldChange> changes = new ArrayList<>();
+        for (String name : names) {
+            String previous = before.get(name);
+            String current = after.get(name);
+            if (!Objects.equals(previous, current)) {
+                changes.add(new FieldChange(name, previous, current));
+            }
+        }
+        return changes;
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
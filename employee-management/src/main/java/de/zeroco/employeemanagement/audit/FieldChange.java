@@ -0,0 +1,5 @@
+package de.zeroco.employeemanagement.audit;
+
+/** One audited field of an employee before and after a change; {@code null} where it had no value. */
+public record FieldChange(String field, String before, String after) {
+}
@@ -0,0 +1,94 @@
+package de.zeroco.employeemanagement.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer (a ring of slots with per-slot sequence
+ * numbers, after Dmitry Vyukov's bounded MPMC queue). A producer claims a slot with one CAS on the tail and
+ * publishes it by advancing the slot's sequence; it never blocks and never allocates. The consumer is the
+ * only thread that moves the head, so it needs no CAS at all.
+ * <p>
+ * Slot {@code i} holding position {@code p} is free for the producer of {@code p} when its sequence is
+ * {@code p}, readable by the consumer when it is {@code p + 1}, and released for the next lap at
+ * {@code p + capacity}.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only; volatile for size()
+    private volatile long head;
+
+    /** @param capacity rounded up to a power of two */
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Adds {@code element}; {@code false} if the buffer is full. Safe for any number of threads. */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                // The consumer has not released this slot from the previous lap yet
+                return false;
+            }
+            // Another producer claimed this position first; retry with the new tail
+        }
+    }
+
+    /** Removes up to {@code max} elements in insertion order into {@code target}. Consumer thread only. */
+    int drainTo(List<? super E> target, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            // A claimed but not yet published slot ends the drain, even if later slots are published
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /** Approximate number of elements, for metrics. */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,245 @@
+package de.zeroco.employeemanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.repository.EmployeeRepository;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Materialized responses of the employee read endpoints: the final UTF-8 JSON of {@code GET /employees/{id}}
+ * and of each requested {@code GET /employees} page, served by {@link EmployeeJsonCacheFilter} without object
+ * mapping.
+ * <p>
+ * An employee's JSON embeds its manager chain, department and projects. On a committed employee write the
+ * entries of the employee and of everyone reporting to it (transitively) are invalidated synchronously, so no
+ * stale document is served after the write returns; all pages are dropped, since any write can shift them.
+ * Department and project updates clear the cache. The changed employee and the previously cached pages are
+ * then rebuilt on a background thread.
+ */
+public class EmployeeJsonCache implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeJsonCache.class);
+
+    static final String ALL = "all";
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final JsonByteStore employees;
+    private final JsonByteStore pages;
+    private final ObjectMapper objectMapper;
+    private final EmployeeService employeeService;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate rebuildTransaction;
+    private final int maxInvalidationFanout;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-json-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeJsonCache(JsonByteStore employees, JsonByteStore pages, ObjectMapper objectMapper,
+                             EmployeeService employeeService, EmployeeRepository employeeRepository,
+                             PlatformTransactionManager transactionManager, int maxInvalidationFanout) {
+        this.employees = employees;
+        this.pages = pages;
+        this.objectMapper = objectMapper;
+        this.employeeService = employeeService;
+        this.employeeRepository = employeeRepository;
+        // Not read-only: with read/write routing that would send the rebuild, which runs right after the commit and
+        // outside any user's read-your-writes window, to a replica that may not have the write yet. The stale
+        // document would then stay cached until the employee's next write.
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.maxInvalidationFanout = maxInvalidationFanout;
+    }
+
+    public static String employeeKey(long id) {
+        return Long.toString(id);
+    }
+
+    /** Normalizes the list parameters the same way as {@code EmployeeController}, so equal pages share a key. */
+    public static String pageKey(Integer page, Integer size) {
+        if (page == null && size == null) {
+            return ALL;
+        }
+        int pageNumber = Math.max(0, page != null ? page : 0);
+        int pageSize = Math.max(1, Math.min(size != null ? size : DEFAULT_PAGE_SIZE, EmployeeService.MAX_PAGE_SIZE));
+        return pageNumber + ":" + pageSize;
+    }
+
+    public ByteBuffer employee(String key) {
+        return employees.get(key);
+    }
+
+    public ByteBuffer page(String key) {
+        return pages.get(key);
+    }
+
+    public JsonByteStore employeeStore() {
+        return employees;
+    }
+
+    public JsonByteStore pageStore() {
+        return pages;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Set<Long> affected = withTransitiveReports(event.employeeId());
+        if (affected == null) {
+            employees.clear();
+        } else {
+            affected.forEach(id -> employees.invalidate(employeeKey(id)));
+        }
+        List<String> cachedPages = pages.keys();
+        pages.clear();
+
+        if (event.type() != ChangeType.DELETED) {
+            schedule(() -> rebuildEmployee(event.employeeId()));
+        }
+        cachedPages.forEach(key -> schedule(() -> rebuildPage(key)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            return; // not referenced by any employee yet
+        }
+        List<String> cachedPages = pages.keys();
+        employees.clear();
+        pages.clear();
+        cachedPages.forEach(key -> schedule(() -> rebuildPage(key)));
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        clear();
+    }
+
+    /** Writes committed on other nodes invalidate exactly like local ones. */
+    @EventListener
+    public void onClusterChange(ClusterChangeEvent event) {
+        switch (event.entityType()) {
+            case EMPLOYEE -> onEmployeeChanged(new EmployeeChangedEvent(event.id(), event.type()));
+            case DEPARTMENT -> onReferenceDataChanged(new ReferenceDataChangedEvent(Department.class, event.id(), event.type()));
+            case PROJECT -> onReferenceDataChanged(new ReferenceDataChangedEvent(Project.class, event.id(), event.type()));
+            case ALL -> clear();
+        }
+    }
+
+    private void clear() {
+        employees.clear();
+        pages.clear();
+    }
+
+    /** The employee and everyone below it in the hierarchy, or {@code null} if more than the fan-out limit. */
+    private Set<Long> withTransitiveReports(Long employeeId) {
+        Set<Long> affected = new HashSet<>();
+        affected.add(employeeId);
+        List<Long> level = List.of(employeeId);
+        while (!level.isEmpty()) {
+            List<Long> next = new ArrayList<>();
+            for (Long report : employeeRepository.findIdsByManagerIdIn(level)) {
+                if (affected.add(report)) {
+                    next.add(report);
+                }
+            }
+            if (affected.size() > maxInvalidationFanout) {
+                return null;
+            }
+            level = next;
+        }
+        return affected;
+    }
+
+    void rebuildEmployee(Long id) {
+        String key = employeeKey(id);
+        long stamp = employees.stamp(key);
+        byte[] json = rebuildTransaction.execute(status -> employeeService.getEmployeeById(id).map(this::toJson).orElse(null));
+        if (json != null) {
+            employees.put(key, json, stamp);
+        }
+    }
+
+    void rebuildPage(String key) {
+        long stamp = pages.stamp(key);
+        byte[] json = rebuildTransaction.execute(status -> {
+            if (ALL.equals(key)) {
+                return toJson(employeeService.getAllEmployees());
+            }
+            String[] pageAndSize = key.split(":");
+            return toJson(employeeService.getEmployeesPage(Integer.parseInt(pageAndSize[0]), Integer.parseInt(pageAndSize[1])));
+        });
+        pages.put(key, json, stamp);
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Serializing " + value.getClass().getSimpleName() + " failed", e);
+        }
+    }
+
+    private void schedule(Runnable rebuild) {
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild.run();
+                } catch (RuntimeException e) {
+                    // The entry simply stays empty and is filled by the next request
+                    log.warn("Rebuilding an employee JSON cache entry failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    public void bindMetrics(MeterRegistry registry) {
+        bindMetrics(registry, "employee", employees);
+        bindMetrics(registry, "page", pages);
+    }
+
+    private static void bindMetrics(MeterRegistry registry, String cache, JsonByteStore store) {
+        FunctionCounter.builder("app.json.cache.gets", store, JsonByteStore::hits)
+                .tags("cache", cache, "result", "hit").register(registry);
+        FunctionCounter.builder("app.json.cache.gets", store, JsonByteStore::misses)
+                .tags("cache", cache, "result", "miss").register(registry);
+        FunctionCounter.builder("app.json.cache.evictions", store, JsonByteStore::evictions)
+                .tag("cache", cache).register(registry);
+        Gauge.builder("app.json.cache.entries", store, JsonByteStore::size)
+                .tag("cache", cache).register(registry);
+        Gauge.builder("app.json.cache.bytes", store, JsonByteStore::totalBytes)
+                .tag("cache", cache).baseUnit("bytes").register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+}
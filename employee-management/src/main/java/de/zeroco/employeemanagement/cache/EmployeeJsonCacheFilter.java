@@ -0,0 +1,118 @@
+package de.zeroco.employeemanagement.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves {@code GET /api/v1/employees/{id}} and {@code GET /api/v1/employees[?page=&size=]} from the
+ * {@link EmployeeJsonCache}, copying the cached bytes straight to the servlet output stream. Registered after
+ * the Spring Security filter chain, so authentication and authorization apply unchanged.
+ * <p>
+ * On a miss the request goes through the controller as usual, and a 200 response body is captured into the
+ * cache. The cached documents are therefore byte-for-byte what the controller produces.
+ */
+public class EmployeeJsonCacheFilter extends OncePerRequestFilter {
+
+    private static final String EMPLOYEES = "/api/v1/employees";
+    private static final Pattern EMPLOYEE = Pattern.compile(EMPLOYEES + "/(\\d{1,18})");
+    private static final Set<String> PAGE_PARAMETERS = Set.of("page", "size");
+    private static final int CHUNK = 8192;
+
+    private final EmployeeJsonCache cache;
+
+    public EmployeeJsonCacheFilter(EmployeeJsonCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"GET".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher employee = EMPLOYEE.matcher(path);
+        // Parameters select another representation, e.g. ?asOf= a version from the history
+        if (employee.matches() && request.getParameterMap().isEmpty()) {
+            serve(request, response, chain, EmployeeJsonCache.employeeKey(Long.parseLong(employee.group(1))),
+                    EMPLOYEES + "/{id}", cache::employee, cache.employeeStore());
+        } else if (path.equals(EMPLOYEES) && PAGE_PARAMETERS.containsAll(request.getParameterMap().keySet())) {
+            String key;
+            try {
+                key = EmployeeJsonCache.pageKey(intParameter(request, "page"), intParameter(request, "size"));
+            } catch (NumberFormatException e) {
+                chain.doFilter(request, response); // let MVC report the bad request
+                return;
+            }
+            serve(request, response, chain, key, EMPLOYEES, cache::page, cache.pageStore());
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+                       String pattern, Function<String, ByteBuffer> lookup, JsonByteStore store)
+            throws ServletException, IOException {
+        ByteBuffer cached = lookup.apply(key);
+        if (cached != null) {
+            // Tag the request metrics with the endpoint, as the dispatcher servlet would
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setPathPattern(pattern));
+            write(cached, response);
+            return;
+        }
+        long stamp = store.stamp(key);
+        ContentCachingResponseWrapper capturing = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, capturing);
+            if (capturing.getStatus() == HttpServletResponse.SC_OK && isJson(capturing.getContentType())) {
+                store.put(key, capturing.getContentAsByteArray(), stamp);
+            }
+        } finally {
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private static void write(ByteBuffer json, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(json.remaining());
+        ServletOutputStream out = response.getOutputStream();
+        if (json.hasArray()) {
+            out.write(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            return;
+        }
+        // Off-heap buffer: copy through a small heap chunk
+        byte[] chunk = new byte[Math.min(CHUNK, json.remaining())];
+        while (json.hasRemaining()) {
+            int length = Math.min(chunk.length, json.remaining());
+            json.get(chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static Integer intParameter(HttpServletRequest request, String name) {
+        String value = request.getParameter(name);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+}
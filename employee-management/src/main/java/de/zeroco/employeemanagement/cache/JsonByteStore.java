@@ -0,0 +1,188 @@
+package de.zeroco.employeemanagement.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded store of serialized JSON documents with approximate LRU eviction. Documents are held in heap byte
+ * buffers, or in direct (off-heap) buffers so that large caches add no GC marking or copying work.
+ * <p>
+ * Hits take no lock: an entry only records its last access time, and eviction removes the least recently used of
+ * a small sample of entries. Only writers that push the store over its size serialize on the eviction lock.
+ * <p>
+ * Writers race with invalidations: a document built from data read before a commit must not be stored after
+ * the commit has invalidated its key. Every key maps to one of {@code stripes} version counters; callers take
+ * a {@link #stamp(String)} before reading the source data and {@link #put} only succeeds if the stripe has not
+ * been invalidated since.
+ */
+public class JsonByteStore {
+
+    private static final int EVICTION_SAMPLE = 16;
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+    private final AtomicLongArray versions;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<String, Entry>> evictionCursor;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JsonByteStore(long maxBytes, long maxEntryBytes, boolean offHeap, int stripes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.offHeap = offHeap;
+        this.versions = new AtomicLongArray(stripes);
+    }
+
+    /** Returns a read-only view of the document, or {@code null}. */
+    public ByteBuffer get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        entry.accessed = System.nanoTime();
+        hits.increment();
+        return entry.buffer.asReadOnlyBuffer();
+    }
+
+    public long stamp(String key) {
+        return versions.get(stripe(key));
+    }
+
+    /** Stores the document unless its key was invalidated after {@code stamp} was taken, or it is too large. */
+    public boolean put(String key, byte[] json, long stamp) {
+        if (json.length > maxEntryBytes) {
+            return false;
+        }
+        ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(json.length).put(json).flip() : ByteBuffer.wrap(json);
+        Entry entry = new Entry(buffer);
+        // The version check and the insert run under the map's lock for this key, and invalidate() bumps the
+        // version before it removes the key, so a stale put either fails here or is removed by the invalidation.
+        Entry stored = entries.compute(key, (k, previous) -> {
+            if (versions.get(stripe(k)) != stamp) {
+                return previous;
+            }
+            if (previous != null) {
+                totalBytes.addAndGet(-previous.size());
+            }
+            totalBytes.addAndGet(entry.size());
+            return entry;
+        });
+        if (stored != entry) {
+            return false;
+        }
+        if (totalBytes.get() > maxBytes) {
+            evict();
+        }
+        return true;
+    }
+
+    public void invalidate(String key) {
+        versions.incrementAndGet(stripe(key));
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes.addAndGet(-removed.size());
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < versions.length(); i++) {
+            versions.incrementAndGet(i);
+        }
+        entries.forEach(this::remove);
+    }
+
+    public List<String> keys() {
+        return List.copyOf(entries.keySet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            while (totalBytes.get() > maxBytes) {
+                Map.Entry<String, Entry> victim = null;
+                for (int i = 0; i < EVICTION_SAMPLE; i++) {
+                    if (evictionCursor == null || !evictionCursor.hasNext()) {
+                        // The cursor walks the whole map across evictions, so samples are not biased to its first bins.
+                        evictionCursor = entries.entrySet().iterator();
+                        if (!evictionCursor.hasNext()) {
+                            break;
+                        }
+                    }
+                    Map.Entry<String, Entry> candidate = evictionCursor.next();
+                    if (victim == null || candidate.getValue().accessed < victim.getValue().accessed) {
+                        victim = candidate;
+                    }
+                }
+                if (victim == null) {
+                    return;
+                }
+                if (remove(victim.getKey(), victim.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean remove(String key, Entry entry) {
+        if (!entries.remove(key, entry)) {
+            return false;
+        }
+        totalBytes.addAndGet(-entry.size());
+        return true;
+    }
+
+    private int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % versions.length();
+    }
+
+    private static final class Entry {
+
+        private final ByteBuffer buffer;
+        private volatile long accessed = System.nanoTime();
+
+        private Entry(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private int size() {
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package de.zeroco.employeemanagement.cache;
+
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.model.CacheRegions;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Project;
+import org.hibernate.Cache;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Evicts Hibernate second-level cache entries of departments and projects changed on other nodes. Hibernate
+ * only sees this node's writes; the cached reference-data queries are dropped as well, since a remote insert or
+ * delete changes their results without touching this node's update timestamps.
+ */
+public class SecondLevelCacheInvalidator {
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(Cache cache) {
+        this.cache = cache;
+    }
+
+    @EventListener
+    public void onClusterChange(ClusterChangeEvent event) {
+        switch (event.entityType()) {
+            case DEPARTMENT -> {
+                cache.evictEntityData(Department.class, event.id());
+                cache.evictQueryRegion(CacheRegions.REFERENCE_QUERIES);
+            }
+            case PROJECT -> {
+                cache.evictEntityData(Project.class, event.id());
+                cache.evictQueryRegion(CacheRegions.REFERENCE_QUERIES);
+            }
+            case ALL -> cache.evictAllRegions();
+            case EMPLOYEE -> {
+                // Employees are not in the second-level cache
+            }
+        }
+    }
+}
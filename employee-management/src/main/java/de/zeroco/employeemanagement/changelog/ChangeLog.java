@@ -0,0 +1,140 @@
+package de.zeroco.employeemanagement.changelog;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code change_log} table: an ordered record of committed entity changes that survives
+ * restarts and is shared by all nodes.
+ * <p>
+ * Ids are assigned at insert, not at commit, so a transaction may commit a lower id after a higher one has
+ * become visible. Readers therefore resume from a {@link Watermark} with an overlap in time, and must treat
+ * entries as idempotent notifications ("re-read this entity"), not as deltas.
+ */
+@Component
+public class ChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLog.class);
+
+    private static final String SELECT = "SELECT id, entity_type, entity_id, change_type, changed_at, node_id FROM change_log";
+
+    /** Position in the change log: everything up to {@code id} was committed at or before {@code time}. */
+    public record Watermark(long id, Instant time) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.change-log.retention-hours:168}")
+    private long retentionHours;
+
+    @Value("${app.change-log.prune-batch-size:10000}")
+    private int pruneBatchSize;
+
+    @Value("${app.node-id:}")
+    private String nodeId;
+
+    @PostConstruct
+    void initNodeId() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+    }
+
+    /** Identifies this application instance in the entries it records ({@code app.node-id}, random if unset). */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void record(ChangeLogEntry.EntityType entityType, long entityId, ChangeType changeType) {
+        jdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, change_type, changed_at, node_id) VALUES (?, ?, ?, ?, ?)",
+                entityType.name(), entityId, changeType.name(), Timestamp.from(Instant.now()), nodeId);
+    }
+
+    public Watermark currentWatermark() {
+        Instant now = Instant.now();
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM change_log", Long.class);
+        return new Watermark(max != null ? max : 0, now);
+    }
+
+    /**
+     * Entries after {@code watermark}, including those committed up to {@code overlap} before it, in id order.
+     * Empty if entries after the watermark have already been pruned and the caller has to start over.
+     */
+    public Optional<List<ChangeLogEntry>> since(Watermark watermark, Duration overlap) {
+        Long oldest = jdbcTemplate.queryForObject("SELECT MIN(id) FROM change_log", Long.class);
+        if (oldest != null && oldest > watermark.id() + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(jdbcTemplate.query(SELECT + " WHERE id > ? OR changed_at >= ? ORDER BY id",
+                (rs, i) -> map(rs), watermark.id(), Timestamp.from(watermark.time().minus(overlap))));
+    }
+
+    /** Id of the oldest retained entry, 0 if the log is empty. */
+    public long oldestId() {
+        Long oldest = jdbcTemplate.queryForObject("SELECT MIN(id) FROM change_log", Long.class);
+        return oldest != null ? oldest : 0;
+    }
+
+    /**
+     * Id up to which the log is taken as complete: the entry recorded last before {@code now - grace}. Assumes
+     * that no transaction commits later than {@code grace} after recording its entry, so no lower id can appear.
+     */
+    public long stableId(Duration grace) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM change_log WHERE changed_at < ? ORDER BY changed_at DESC, id DESC LIMIT 1",
+                Long.class, Timestamp.from(Instant.now().minus(grace)));
+        return !ids.isEmpty() ? ids.get(0) : Math.max(0, oldestId() - 1);
+    }
+
+    /** Up to {@code limit} entries of one type with {@code afterId < id <= upToId}, in id order (idx_change_log_type_id). */
+    public List<ChangeLogEntry> range(ChangeLogEntry.EntityType entityType, long afterId, long upToId, int limit) {
+        return jdbcTemplate.query(SELECT + " WHERE entity_type = ? AND id > ? AND id <= ? ORDER BY id LIMIT ?",
+                (rs, i) -> map(rs), entityType.name(), afterId, upToId, limit);
+    }
+
+    /** Deletes entries older than the retention period in id-range batches, always keeping the newest one. */
+    @Scheduled(fixedDelayString = "${app.change-log.prune-interval-ms:3600000}",
+               initialDelayString = "${app.change-log.prune-interval-ms:3600000}")
+    public void prune() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(Duration.ofHours(retentionHours)));
+        Long newest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM change_log", Long.class);
+        Long upTo = jdbcTemplate.queryForObject("SELECT MAX(id) FROM change_log WHERE changed_at < ?", Long.class, cutoff);
+        Long from = jdbcTemplate.queryForObject("SELECT MIN(id) FROM change_log", Long.class);
+        if (newest == null || upTo == null || from == null) {
+            return;
+        }
+        long last = Math.min(upTo, newest - 1);
+        long deleted = 0;
+        for (long start = from - 1; start < last; start += pruneBatchSize) {
+            deleted += jdbcTemplate.update("DELETE FROM change_log WHERE id > ? AND id <= ?",
+                    start, Math.min(start + pruneBatchSize, last));
+        }
+        if (deleted > 0) {
+            log.info("Pruned {} change log entries older than {} h", deleted, retentionHours);
+        }
+    }
+
+    private static ChangeLogEntry map(ResultSet rs) throws SQLException {
+        return new ChangeLogEntry(rs.getLong("id"), ChangeLogEntry.EntityType.valueOf(rs.getString("entity_type")),
+                rs.getLong("entity_id"), ChangeType.valueOf(rs.getString("change_type")),
+                rs.getTimestamp("changed_at").toInstant(), rs.getString("node_id"));
+    }
+}
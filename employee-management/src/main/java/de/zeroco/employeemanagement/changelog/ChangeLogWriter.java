@@ -0,0 +1,41 @@
+package de.zeroco.employeemanagement.changelog;
+
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends every service write to the {@link ChangeLog} inside the writing transaction (before commit), so the
+ * entry is committed or rolled back together with the change itself.
+ */
+@Component
+public class ChangeLogWriter {
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        changeLog.record(ChangeLogEntry.EntityType.EMPLOYEE, event.employeeId(), event.type());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        ChangeLogEntry.EntityType entityType = event.entityType() == Department.class
+                ? ChangeLogEntry.EntityType.DEPARTMENT : ChangeLogEntry.EntityType.PROJECT;
+        changeLog.record(entityType, event.id(), event.type());
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        changeLog.record(ChangeLogEntry.EntityType.ALL, 0, ChangeType.UPDATED);
+    }
+}
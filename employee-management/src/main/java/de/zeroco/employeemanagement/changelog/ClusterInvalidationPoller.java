@@ -0,0 +1,153 @@
+package de.zeroco.employeemanagement.changelog;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the local caches of this node coherent with writes committed on other nodes, without a message broker:
+ * a background thread polls the shared {@link ChangeLog} and publishes a {@link ClusterChangeEvent} for every
+ * entry written by another node. Listeners evict the affected keys.
+ * <p>
+ * Each poll reads the entries after the last watermark plus an {@code overlap} of time before it, because ids
+ * are assigned at insert and a long transaction can commit a lower id after a poll has passed it. Ids already
+ * dispatched are remembered for the overlap window and skipped. A remote write is therefore seen after at most
+ * one poll interval once it commits, provided no transaction takes longer than the overlap.
+ * <p>
+ * When the log cannot answer precisely (a batch larger than {@code maxBatch}, entries pruned past the
+ * watermark) or polling has failed for longer than {@code maxStaleness}, a single {@code ALL} event drops the
+ * local caches instead, so staleness stays bounded either way.
+ */
+public class ClusterInvalidationPoller implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationPoller.class);
+
+    private final ChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long pollIntervalMs;
+    private final Duration overlap;
+    private final int maxBatch;
+    private final Duration maxStaleness;
+
+    private final Map<Long, Instant> dispatched = new HashMap<>();
+    private final Counter received;
+    private final Counter fullInvalidations;
+    private ChangeLog.Watermark watermark;
+    private volatile Instant lastSuccess = Instant.now();
+    private boolean droppedSinceFailure;
+    private volatile Thread worker;
+
+    public ClusterInvalidationPoller(ChangeLog changeLog, ApplicationEventPublisher eventPublisher, long pollIntervalMs,
+                                     Duration overlap, int maxBatch, Duration maxStaleness, MeterRegistry registry) {
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+        this.pollIntervalMs = pollIntervalMs;
+        this.overlap = overlap;
+        this.maxBatch = maxBatch;
+        this.maxStaleness = maxStaleness;
+        this.received = Counter.builder("app.cluster.invalidations").tag("scope", "entity").register(registry);
+        this.fullInvalidations = Counter.builder("app.cluster.invalidations").tag("scope", "all").register(registry);
+        Gauge.builder("app.cluster.invalidation.staleness", this, ClusterInvalidationPoller::stalenessSeconds)
+                .baseUnit("seconds").register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            poll(); // takes the initial watermark before the node serves requests
+        } catch (RuntimeException e) {
+            log.warn("Reading the change log watermark failed, retrying in the background", e);
+        }
+        Thread thread = new Thread(this::run, "cluster-invalidation");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Polling the change log failed", e);
+                if (!droppedSinceFailure && Duration.between(lastSuccess, Instant.now()).compareTo(maxStaleness) > 0) {
+                    // Remote writes may have been missed for too long; serve from the database until polls work again
+                    dropAll();
+                    droppedSinceFailure = true;
+                }
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** One poll: dispatches the new remote entries; returns how many were dispatched. */
+    int poll() {
+        Instant start = Instant.now();
+        if (watermark == null) {
+            // Nothing is cached before startup, so earlier changes do not matter
+            watermark = changeLog.currentWatermark();
+            lastSuccess = start;
+            return 0;
+        }
+        ChangeLog.Watermark next = changeLog.currentWatermark();
+        Optional<List<ChangeLogEntry>> entries = changeLog.since(watermark, overlap);
+        int count = 0;
+        if (entries.isEmpty() || entries.get().size() > maxBatch) {
+            dropAll();
+        } else {
+            for (ChangeLogEntry entry : entries.get()) {
+                if (dispatched.putIfAbsent(entry.getId(), entry.getChangedAt()) == null
+                        && !Objects.equals(entry.getNodeId(), changeLog.nodeId())) {
+                    eventPublisher.publishEvent(new ClusterChangeEvent(entry.getEntityType(), entry.getEntityId(),
+                            entry.getChangeType()));
+                    count++;
+                }
+            }
+            received.increment(count);
+        }
+        watermark = next;
+        Instant forgetBefore = next.time().minus(overlap);
+        dispatched.values().removeIf(changedAt -> changedAt.isBefore(forgetBefore));
+        lastSuccess = start;
+        droppedSinceFailure = false;
+        return count;
+    }
+
+    private void dropAll() {
+        fullInvalidations.increment();
+        eventPublisher.publishEvent(new ClusterChangeEvent(ChangeLogEntry.EntityType.ALL, 0, ChangeType.UPDATED));
+    }
+
+    private double stalenessSeconds() {
+        return Duration.between(lastSuccess, Instant.now()).toMillis() / 1000.0;
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
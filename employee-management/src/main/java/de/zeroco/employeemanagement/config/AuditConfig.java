@@ -0,0 +1,42 @@
+package de.zeroco.employeemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.audit.AuditJournal;
+import de.zeroco.employeemanagement.audit.AuditLog;
+import de.zeroco.employeemanagement.audit.AuditStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Audit trail of employee changes ({@code app.audit.*}): a journal on local disk per node, compacted into the
+ * {@code employee_audit} table.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true")
+public class AuditConfig {
+
+    @Bean
+    public AuditStore auditStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new AuditStore(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    public AuditLog auditLog(AuditStore auditStore, MeterRegistry meterRegistry,
+                             @Value("${app.audit.path:data/audit}") String path,
+                             @Value("${app.audit.segment-bytes:67108864}") int segmentBytes,
+                             @Value("${app.audit.buffer-size:65536}") int bufferSize,
+                             @Value("${app.audit.max-batch:4096}") int maxBatch,
+                             @Value("${app.audit.compaction-interval-ms:60000}") long compactionIntervalMs,
+                             @Value("${app.audit.compaction-batch-size:1000}") int compactionBatchSize,
+                             @Value("${app.audit.enqueue-timeout-ms:1000}") long enqueueTimeoutMs) throws IOException {
+        return new AuditLog(AuditJournal.open(Path.of(path), segmentBytes), auditStore, bufferSize, maxBatch,
+                compactionIntervalMs, compactionBatchSize, enqueueTimeoutMs, meterRegistry);
+    }
+}
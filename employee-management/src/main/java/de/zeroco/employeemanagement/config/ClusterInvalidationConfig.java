@@ -0,0 +1,40 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.cache.SecondLevelCacheInvalidator;
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.changelog.ClusterInvalidationPoller;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cross-node invalidation of the local caches ({@code app.cluster.invalidation.*}) for deployments with several
+ * application instances on one database. Each node polls the change log for the other nodes' writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cluster.invalidation.enabled", havingValue = "true")
+public class ClusterInvalidationConfig {
+
+    @Bean
+    public ClusterInvalidationPoller clusterInvalidationPoller(ChangeLog changeLog, ApplicationEventPublisher eventPublisher,
+                                                               MeterRegistry meterRegistry,
+                                                               @Value("${app.cluster.invalidation.poll-interval-ms:500}") long pollIntervalMs,
+                                                               @Value("${app.cluster.invalidation.overlap-ms:10000}") long overlapMs,
+                                                               @Value("${app.cluster.invalidation.max-batch:10000}") int maxBatch,
+                                                               @Value("${app.cluster.invalidation.max-staleness-ms:30000}") long maxStalenessMs) {
+        return new ClusterInvalidationPoller(changeLog, eventPublisher, pollIntervalMs, Duration.ofMillis(overlapMs),
+                maxBatch, Duration.ofMillis(maxStalenessMs), meterRegistry);
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory.unwrap(SessionFactory.class).getCache());
+    }
+}
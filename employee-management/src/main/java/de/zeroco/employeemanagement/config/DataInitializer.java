@@ -2,34 +2,89 @@ package de.zeroco.employeemanagement.config;
 
 import de.zeroco.employeemanagement.model.security.User;
 import de.zeroco.employeemanagement.repository.security.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Seeds the default users. With {@code app.data-initializer.async=true} this runs on a background thread, so
+ * the existence checks and BCrypt hashing no longer delay the application from accepting requests; whoever needs
+ * the users at startup, like the warm-up, waits for {@link #seeded()}.
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // before the warm-up, which signs in as one of these users
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Value("${app.data-initializer.async:false}")
+    private boolean async;
+
+    private final CompletableFuture<Void> seeded = new CompletableFuture<>();
+
     @Override
     public void run(String... args) throws Exception {
-        if (userRepository.findByUsername("adminuser").isEmpty()) {
+        if (!async) {
+            try {
+                seedDefaultUsers();
+            } finally {
+                seeded.complete(null);
+            }
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                seedDefaultUsers();
+            } catch (RuntimeException e) {
+                log.error("Seeding the default users failed", e);
+            } finally {
+                seeded.complete(null);
+            }
+        }, "data-initializer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Completes when seeding has finished, successfully or not. */
+    public CompletableFuture<Void> seeded() {
+        return seeded;
+    }
+
+    void seedDefaultUsers() {
+        boolean adminMissing = userRepository.findByUsername("adminuser").isEmpty();
+        boolean userMissing = userRepository.findByUsername("regularuser").isEmpty();
+        if (!adminMissing && !userMissing) {
+            return;
+        }
+        // Both default users share a password; hash it once, BCrypt is deliberately slow
+        String encodedPassword = passwordEncoder.encode("password123");
+
+        if (adminMissing) {
             User admin = new User();
             admin.setUsername("adminuser");
-            admin.setPassword(passwordEncoder.encode("password123"));
+            admin.setPassword(encodedPassword);
             admin.setRoles("ROLE_ADMIN,ROLE_USER");
             userRepository.save(admin);
         }
 
-        if (userRepository.findByUsername("regularuser").isEmpty()) {
+        if (userMissing) {
             User user = new User();
             user.setUsername("regularuser");
-            user.setPassword(passwordEncoder.encode("password123"));
+            user.setPassword(encodedPassword);
             user.setRoles("ROLE_USER");
             userRepository.save(user);
         }
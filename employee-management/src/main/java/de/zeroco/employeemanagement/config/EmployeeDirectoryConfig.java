@@ -0,0 +1,52 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.directory.DirectoryLoader;
+import de.zeroco.employeemanagement.directory.DirectorySnapshotter;
+import de.zeroco.employeemanagement.directory.DirectoryUpdateLog;
+import de.zeroco.employeemanagement.directory.EmployeeDirectory;
+import de.zeroco.employeemanagement.directory.EmployeeDirectoryUpdater;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * In-memory employee directory read model ({@code app.directory.*}). When present, {@code EmployeeService}
+ * answers the employee GET endpoints from it and falls back to the database while it is not current. With
+ * {@code app.directory.snapshot.enabled} it is also persisted to a local file and restored from it on startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.directory.enabled", havingValue = "true")
+public class EmployeeDirectoryConfig {
+
+    @Bean
+    public EmployeeDirectory employeeDirectory(MeterRegistry meterRegistry,
+                                               @Value("${app.directory.expected-employees:100000}") int expectedEmployees) {
+        EmployeeDirectory directory = new EmployeeDirectory(new DirectoryUpdateLog(), expectedEmployees);
+        directory.bindMetrics(meterRegistry);
+        return directory;
+    }
+
+    @Bean
+    public EmployeeDirectoryUpdater employeeDirectoryUpdater(EmployeeDirectory employeeDirectory, DataSource dataSource,
+                                                             @Value("${app.directory.batch-size:1000}") int batchSize,
+                                                             ObjectProvider<DirectorySnapshotter> snapshotter) {
+        return new EmployeeDirectoryUpdater(employeeDirectory, new DirectoryLoader(dataSource, batchSize), batchSize,
+                snapshotter.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.directory.snapshot.enabled", havingValue = "true")
+    public DirectorySnapshotter directorySnapshotter(EmployeeDirectory employeeDirectory, ChangeLog changeLog,
+                                                     @Value("${app.directory.snapshot.path:data/employee-directory.snapshot}") Path path,
+                                                     @Value("${app.directory.snapshot.catch-up-overlap-ms:60000}") long catchUpOverlapMs) {
+        return new DirectorySnapshotter(employeeDirectory, changeLog, path, Duration.ofMillis(catchUpOverlapMs));
+    }
+}
@@ -0,0 +1,29 @@
+package de.zeroco.employeemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.stream.EmployeeChangeStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-sent event stream of employee changes ({@code app.employee-stream.*}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.employee-stream.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeStreamConfig {
+
+    @Bean
+    public EmployeeChangeStream employeeChangeStream(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                     @Value("${app.employee-stream.batch-interval-ms:200}") long batchIntervalMs,
+                                                     @Value("${app.employee-stream.buffer-size:64}") int bufferSize,
+                                                     @Value("${app.employee-stream.max-subscribers:5000}") int maxSubscribers,
+                                                     @Value("${app.employee-stream.heartbeat-ms:15000}") long heartbeatMs,
+                                                     @Value("${app.employee-stream.timeout-ms:1800000}") long timeoutMs,
+                                                     @Value("${app.employee-stream.sender-threads:4}") int senderThreads) {
+        return new EmployeeChangeStream(objectMapper, batchIntervalMs, bufferSize, maxSubscribers, heartbeatMs,
+                timeoutMs, senderThreads, meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package de.zeroco.employeemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.cache.EmployeeJsonCache;
+import de.zeroco.employeemanagement.cache.EmployeeJsonCacheFilter;
+import de.zeroco.employeemanagement.cache.JsonByteStore;
+import de.zeroco.employeemanagement.repository.EmployeeRepository;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Pre-serialized JSON cache for the employee read endpoints ({@code app.json-cache.*}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.json-cache.enabled", havingValue = "true")
+public class JsonCacheConfig {
+
+    @Bean
+    public EmployeeJsonCache employeeJsonCache(ObjectMapper objectMapper, EmployeeService employeeService,
+                                               EmployeeRepository employeeRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.json-cache.max-bytes:67108864}") long maxBytes,
+                                               @Value("${app.json-cache.page-max-bytes:33554432}") long pageMaxBytes,
+                                               @Value("${app.json-cache.max-entry-bytes:1048576}") long maxEntryBytes,
+                                               @Value("${app.json-cache.off-heap:false}") boolean offHeap,
+                                               @Value("${app.json-cache.max-invalidation-fanout:10000}") int maxInvalidationFanout) {
+        EmployeeJsonCache cache = new EmployeeJsonCache(
+                new JsonByteStore(maxBytes, maxEntryBytes, offHeap, 1024),
+                // Any employee write invalidates every page, one version counter is enough
+                new JsonByteStore(pageMaxBytes, maxEntryBytes, offHeap, 1),
+                objectMapper, employeeService, employeeRepository, transactionManager, maxInvalidationFanout);
+        cache.bindMetrics(meterRegistry);
+        return cache;
+    }
+
+    @Bean
+    public FilterRegistrationBean<EmployeeJsonCacheFilter> employeeJsonCacheFilter(EmployeeJsonCache employeeJsonCache) {
+        FilterRegistrationBean<EmployeeJsonCacheFilter> registration =
+                new FilterRegistrationBean<>(new EmployeeJsonCacheFilter(employeeJsonCache));
+        // Behind the Spring Security filter chain: cached responses are only served to authorized callers
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,67 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.metrics.FirstRequestTimer;
+import de.zeroco.employeemanagement.metrics.SecondLevelCacheMetrics;
+import de.zeroco.employeemanagement.metrics.ServiceMetricsAspect;
+import de.zeroco.employeemanagement.metrics.SqlStatementMetricsFilter;
+import de.zeroco.employeemanagement.metrics.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Application-level Micrometer instrumentation. HTTP server, JVM, Hikari and Spring Data repository metrics
+ * come from Spring Boot Actuator itself; this adds service-method timers, SQL statements per request,
+ * time-to-first-request and the second-level cache hit rates.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    /**
+     * Wraps the application's data source so that {@link SqlStatementMetricsFilter} counts JDBC statements, not
+     * only Hibernate's. Static, so that it is registered before the data source is created.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(meterRegistry));
+        // Outermost, so statements issued by the security filters (user lookup, revocation check) are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestTimer> firstRequestTimer(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FirstRequestTimer> registration = new FilterRegistrationBean<>(new FirstRequestTimer(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+}
@@ -0,0 +1,93 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.audit.AuditRecord;
+import de.zeroco.employeemanagement.audit.FieldChange;
+import de.zeroco.employeemanagement.model.ArchivedEmployee;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeAudit;
+import de.zeroco.employeemanagement.model.EmployeeHistory;
+import de.zeroco.employeemanagement.model.OutboxEvent;
+import de.zeroco.employeemanagement.model.OutboxRelayLease;
+import de.zeroco.employeemanagement.model.WebhookDelivery;
+import de.zeroco.employeemanagement.model.WebhookSubscription;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.model.security.RevokedToken;
+import de.zeroco.employeemanagement.model.security.User;
+import de.zeroco.employeemanagement.payload.AuthRequest;
+import de.zeroco.employeemanagement.payload.AuthResponse;
+import de.zeroco.employeemanagement.payload.EmployeeChange;
+import de.zeroco.employeemanagement.payload.EmployeeChangesResponse;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
+import de.zeroco.employeemanagement.payload.FormerEmployee;
+import de.zeroco.employeemanagement.payload.RefreshRequest;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the GraalVM native image (mvn -Pnative native:compile). Spring AOT already covers
+ * the beans, the JPA managed types and controller signatures; this adds what is only reached reflectively or
+ * by name at runtime.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /** Entities and payloads: Hibernate and Jackson access their Lombok-generated accessors and constructors. */
+    static final List<Class<?>> DATA_TYPES = List.of(
+            Employee.class, Department.class, Project.class, User.class, RevokedToken.class, ChangeLogEntry.class,
+            OutboxEvent.class, OutboxRelayLease.class, WebhookSubscription.class, WebhookDelivery.class, EmployeeAudit.class,
+            EmployeeHistory.class, ArchivedEmployee.class, AuthRequest.class, AuthResponse.class, RefreshRequest.class,
+            EmployeeChange.class, EmployeeChangesResponse.class, EmployeeVersion.class, FormerEmployee.class,
+            AuditRecord.class, FieldChange.class);
+
+    /**
+     * jjwt 0.11 instantiates its implementation by class name and discovers the Jackson (de)serializer through
+     * ServiceLoader. jjwt-impl and jjwt-jackson are runtime-only dependencies, so they are referenced by name.
+     */
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : DATA_TYPES) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        // StatementCountingDataSource wraps connections and statements in JDK proxies
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+
+        // Flyway scripts live in vendor subdirectories, which Boot's default db/migration/* hint does not cover
+        hints.resources().registerPattern("db/migration/*/*.sql");
+        hints.resources().registerPattern("ehcache.xml");
+
+        // springdoc ships hints for its own model; the Swagger UI assets are served from the webjar
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*");
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*/*");
+    }
+}
@@ -0,0 +1,53 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.outbox.ApplicationEventOutboxSink;
+import de.zeroco.employeemanagement.outbox.OutboxRelay;
+import de.zeroco.employeemanagement.outbox.OutboxSink;
+import de.zeroco.employeemanagement.outbox.OutboxStore;
+import de.zeroco.employeemanagement.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Transactional outbox of entity change events ({@code app.outbox.*}). Every node writes to the outbox; of the
+ * nodes where {@code app.outbox.relay.enabled} is set, the one holding the relay lease delivers it to the
+ * {@link OutboxSink} beans.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxStore outboxStore(JdbcTemplate jdbcTemplate) {
+        return new OutboxStore(jdbcTemplate);
+    }
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxStore outboxStore) {
+        return new OutboxWriter(outboxStore);
+    }
+
+    @Bean
+    public ApplicationEventOutboxSink applicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        return new ApplicationEventOutboxSink(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(OutboxStore outboxStore, List<OutboxSink> sinks, MeterRegistry meterRegistry,
+                                   @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                                   @Value("${app.outbox.relay.poll-interval-ms:200}") long pollIntervalMs,
+                                   @Value("${app.outbox.relay.max-retry-delay-ms:60000}") long maxRetryDelayMs,
+                                   @Value("${app.outbox.max-pending:1000000}") long maxPending,
+                                   @Value("${app.outbox.relay.lease-ms:30000}") long leaseMs) {
+        return new OutboxRelay(outboxStore, sinks, batchSize, pollIntervalMs, maxRetryDelayMs, maxPending, leaseMs,
+                meterRegistry);
+    }
+}
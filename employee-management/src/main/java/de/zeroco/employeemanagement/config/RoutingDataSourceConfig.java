@@ -0,0 +1,83 @@
+package de.zeroco.employeemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import de.zeroco.employeemanagement.datasource.ReadWriteRoutingDataSource;
+import de.zeroco.employeemanagement.datasource.ReadYourWritesTracker;
+import de.zeroco.employeemanagement.datasource.ReplicaLagMonitor;
+import de.zeroco.employeemanagement.datasource.RoutingDataSourceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured datasource with a primary/replica routing datasource when
+ * {@code app.datasource.routing.enabled=true}. Without it the plain {@code spring.datasource.*} settings apply.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RoutingDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindowMs());
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(RoutingDataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        Map<String, String> lagQueries = new HashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            RoutingDataSourceProperties.Node node = properties.getReplicas().get(i);
+            String name = node.getName() != null ? node.getName() : "replica-" + i;
+            replicas.put(name, buildPool(name, node, meterRegistry.getIfAvailable()));
+            lagQueries.put(name, node.getLagQuery());
+        }
+        return new ReplicaLagMonitor(replicas, lagQueries, properties.getMaxLagMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSourceProperties properties, ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        DataSource primary = buildPool(ReadWriteRoutingDataSource.PRIMARY, properties.getPrimary(), meterRegistry.getIfAvailable());
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        targets.putAll(replicaLagMonitor.replicas());
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static DataSource buildPool(String name, RoutingDataSourceProperties.Node node, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .driverClassName(node.getDriverClassName())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        if (meterRegistry != null) {
+            // These pools are not beans, so Actuator's Hikari binder does not see them
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+}
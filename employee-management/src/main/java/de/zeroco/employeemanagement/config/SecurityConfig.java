@@ -2,12 +2,17 @@ package de.zeroco.employeemanagement.config;
 
 import de.zeroco.employeemanagement.security.JwtRequestFilter;
 import de.zeroco.employeemanagement.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,6 +20,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -27,6 +33,12 @@ public class SecurityConfig {
     @Autowired
     private JwtRequestFilter jwtRequestFilter;
 
+    @Value("${management.server.port:}")
+    private String managementServerPort;
+
+    @Value("${server.port:8080}")
+    private String serverPort;
+
     // AuthenticationManagerBuilder is no longer used directly like this.
     // UserDetailsService and PasswordEncoder beans are picked up by Spring Security.
 
@@ -44,17 +56,25 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
+                // Completes an asynchronous response (the employee stream) that was authorized when it started;
+                // the re-dispatch carries no security context with stateless sessions
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(
                     "/api/v1/auth/login",
                     "/api/v1/auth/register",
+                    "/api/v1/auth/refresh",
+                    "/api/v1/auth/logout",
                     "/h2-console/**",
                     // Swagger UI / OpenAPI docs
                     "/swagger-ui.html",
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
                     "/swagger-resources/**",
-                    "/webjars/**"
+                    "/webjars/**",
+                    // Liveness/readiness probes
+                    "/actuator/health/**"
                 ).permitAll()
+                .requestMatchers("/actuator/prometheus").access(prometheusAccess())
                 // Employees
                 .requestMatchers(HttpMethod.GET, "/api/v1/employees/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/v1/employees/**").hasRole("ADMIN")
@@ -70,6 +90,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/v1/projects/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/projects/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/projects/**").hasRole("ADMIN")
+                // Operational endpoints
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -79,4 +101,13 @@ public class SecurityConfig {
         http.headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()));
         return http.build();
     }
+
+    // Metrics reveal traffic and internals: open only on a separate management.server.port, which clients do not
+    // reach, and otherwise reserved for ADMIN like the other operational endpoints
+    private AuthorizationManager<RequestAuthorizationContext> prometheusAccess() {
+        boolean separateManagementPort = !managementServerPort.isBlank() && !managementServerPort.equals(serverPort);
+        return separateManagementPort
+                ? (authentication, context) -> new AuthorizationDecision(true)
+                : AuthorityAuthorizationManager.hasRole("ADMIN");
+    }
 }
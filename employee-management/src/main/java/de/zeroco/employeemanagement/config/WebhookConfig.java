@@ -0,0 +1,48 @@
+package de.zeroco.employeemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.webhook.WebhookDeliveryStore;
+import de.zeroco.employeemanagement.webhook.WebhookDispatcher;
+import de.zeroco.employeemanagement.webhook.WebhookOutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Webhook delivery of outbox events ({@code app.webhooks.*}). The outbox relay queues the events of every
+ * subscription; the dispatchers that send them run where {@code app.webhooks.dispatcher.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = {"app.outbox.enabled", "app.webhooks.enabled"}, havingValue = "true")
+public class WebhookConfig {
+
+    @Bean
+    public WebhookDeliveryStore webhookDeliveryStore(JdbcTemplate jdbcTemplate) {
+        return new WebhookDeliveryStore(jdbcTemplate);
+    }
+
+    @Bean
+    public WebhookOutboxSink webhookOutboxSink(WebhookDeliveryStore webhookDeliveryStore) {
+        return new WebhookOutboxSink(webhookDeliveryStore);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.webhooks.dispatcher.enabled", havingValue = "true")
+    public WebhookDispatcher webhookDispatcher(WebhookDeliveryStore webhookDeliveryStore, ObjectMapper objectMapper,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.webhooks.batch-size:100}") int batchSize,
+                                               @Value("${app.webhooks.poll-interval-ms:500}") long pollIntervalMs,
+                                               @Value("${app.webhooks.request-timeout-ms:10000}") long requestTimeoutMs,
+                                               @Value("${app.webhooks.initial-retry-delay-ms:1000}") long initialRetryDelayMs,
+                                               @Value("${app.webhooks.max-retry-delay-ms:3600000}") long maxRetryDelayMs,
+                                               @Value("${app.webhooks.max-attempts:15}") int maxAttempts) {
+        return new WebhookDispatcher(webhookDeliveryStore, objectMapper, batchSize, pollIntervalMs,
+                Duration.ofMillis(requestTimeoutMs), Duration.ofMillis(initialRetryDelayMs),
+                Duration.ofMillis(maxRetryDelayMs), maxAttempts, meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+package de.zeroco.employeemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import de.zeroco.employeemanagement.datasource.PoolMetricsTracker;
+import de.zeroco.employeemanagement.datasource.StatementTimeoutDataSource;
+import de.zeroco.employeemanagement.datasource.Workload;
+import de.zeroco.employeemanagement.datasource.WorkloadDataSourceProperties;
+import de.zeroco.employeemanagement.datasource.WorkloadPoolAspect;
+import de.zeroco.employeemanagement.datasource.WorkloadRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per {@link Workload}, selected with {@link de.zeroco.employeemanagement.datasource.WorkloadPool}
+ * on service methods. Enabled with {@code app.datasource.workloads.enabled=true}; read/write routing, if enabled,
+ * takes precedence (point the reporting pool's url at a replica instead).
+ */
+@Configuration
+@ConditionalOnExpression("${app.datasource.workloads.enabled:false} and !${app.datasource.routing.enabled:false}")
+@EnableConfigurationProperties({WorkloadDataSourceProperties.class, DataSourceProperties.class})
+public class WorkloadDataSourceConfig {
+
+    @Bean
+    public WorkloadPoolAspect workloadPoolAspect() {
+        return new WorkloadPoolAspect();
+    }
+
+    @Bean
+    public PoolMetricsTracker poolMetricsTracker(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PoolMetricsTracker(meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadDataSourceProperties properties, DataSourceProperties defaults,
+                                 PoolMetricsTracker poolMetricsTracker) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            WorkloadDataSourceProperties.Pool pool = properties.getPools().getOrDefault(workload, new WorkloadDataSourceProperties.Pool());
+            HikariDataSource hikari = defaults.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            if (pool.getUrl() != null) {
+                hikari.setJdbcUrl(pool.getUrl());
+            }
+            if (pool.getUsername() != null) {
+                hikari.setUsername(pool.getUsername());
+                hikari.setPassword(pool.getPassword());
+            }
+            hikari.setPoolName(workload.name().toLowerCase());
+            hikari.setMaximumPoolSize(pool.getMaximumPoolSize());
+            hikari.setConnectionTimeout(pool.getConnectionTimeoutMs());
+            hikari.setMetricsTrackerFactory(poolMetricsTracker);
+            targets.put(workload, new StatementTimeoutDataSource(hikari, pool.getStatementTimeoutSeconds()));
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(Workload.INTERACTIVE));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,68 @@
+package de.zeroco.employeemanagement.controller;
+
+import de.zeroco.employeemanagement.archive.EmployeeArchive;
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.payload.FormerEmployee;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/archive")
+@Tag(name = "Archive Controller", description = "Retained records of terminated employees. Requires ADMIN role.")
+public class ArchiveController {
+
+    /** Upper bound for the result size of {@link #getFormerEmployees}. */
+    static final int MAX_LIMIT = 10_000;
+
+    @Autowired
+    private EmployeeArchive employeeArchive;
+
+    @GetMapping("/employees/{id}")
+    @Operation(summary = "Get a former employee by ID", description = "Retrieves the last recorded details of a terminated employee, whether still in the employee table or already archived. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Former employee found", content = @Content(schema = @Schema(implementation = FormerEmployee.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role"),
+                   @ApiResponse(responseCode = "404", description = "No terminated employee with this ID")
+               })
+    public ResponseEntity<FormerEmployee> getFormerEmployee(@Parameter(description = "ID the employee had") @PathVariable Long id) {
+        FormerEmployee employee = employeeArchive.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Former employee not found with id: " + id));
+        return ResponseEntity.ok(employee);
+    }
+
+    @GetMapping("/employees")
+    @Operation(summary = "Get former employees by termination date", description = "Returns the employees terminated in the given date range, ordered by termination date and ID, whether still in the employee table or already archived. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Former employees retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "400", description = "terminatedFrom or terminatedTo is not an ISO-8601 date"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role")
+               })
+    public ResponseEntity<List<FormerEmployee>> getFormerEmployees(
+            @Parameter(description = "First termination date (inclusive, ISO-8601); omit for the beginning")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate terminatedFrom,
+            @Parameter(description = "Last termination date (exclusive, ISO-8601); omit for up to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate terminatedTo,
+            @Parameter(description = "Maximum number of employees, at most 10000") @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(employeeArchive.findByTerminationDate(
+                terminatedFrom != null ? terminatedFrom : LocalDate.of(1900, 1, 1),
+                terminatedTo != null ? terminatedTo : LocalDate.now().plusDays(1),
+                Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
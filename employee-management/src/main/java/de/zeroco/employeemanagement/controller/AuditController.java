@@ -0,0 +1,52 @@
+package de.zeroco.employeemanagement.controller;
+
+import de.zeroco.employeemanagement.audit.AuditLog;
+import de.zeroco.employeemanagement.audit.AuditRecord;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@Tag(name = "Audit Controller", description = "Audit trail of employee changes with before/after values. Requires ADMIN role.")
+public class AuditController {
+
+    // Only present when auditing is enabled
+    @Autowired(required = false)
+    private AuditLog auditLog;
+
+    @GetMapping("/employees/{id}")
+    @Operation(summary = "Get the audit trail of an employee", description = "Returns the creates, updates and deletes of an employee in the given time range, oldest first, each with the changed fields, their previous and new values and the user who made the change. Changes are included a few milliseconds after they commit. Empty when auditing is disabled. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Audit records retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "400", description = "from or to is not an ISO-8601 instant"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role")
+               })
+    public ResponseEntity<List<AuditRecord>> getEmployeeAudit(
+            @Parameter(description = "ID of the employee, which may since have been deleted") @PathVariable Long id,
+            @Parameter(description = "Start of the range (inclusive, ISO-8601 instant); omit for the beginning")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the range (exclusive, ISO-8601 instant); omit for now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Maximum number of records, at most 10000") @RequestParam(defaultValue = "1000") int limit) {
+        if (auditLog == null) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(auditLog.query(id, from != null ? from : Instant.EPOCH, to != null ? to : Instant.now(), limit));
+    }
+}
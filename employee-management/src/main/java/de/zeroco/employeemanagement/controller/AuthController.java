@@ -3,8 +3,10 @@ package de.zeroco.employeemanagement.controller;
 import de.zeroco.employeemanagement.model.security.User;
 import de.zeroco.employeemanagement.payload.AuthRequest;
 import de.zeroco.employeemanagement.payload.AuthResponse;
+import de.zeroco.employeemanagement.payload.RefreshRequest;
 import de.zeroco.employeemanagement.repository.security.UserRepository;
 import de.zeroco.employeemanagement.security.JwtUtil;
+import de.zeroco.employeemanagement.security.TokenRevocationService;
 import de.zeroco.employeemanagement.security.UserDetailsServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,10 +23,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.Map;
 
 
@@ -48,6 +53,9 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/login")
     @Operation(summary = "Authenticate user",
                description = "Authenticates a user based on username and password, and returns a JWT token if successful.",
@@ -77,8 +85,73 @@ public class AuthController {
 
         final UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(authenticationRequest.username);
         final String jwt = jwtUtil.generateToken(userDetails);
+        final String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+
+        return ResponseEntity.ok(new AuthResponse(jwt, refreshToken));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token",
+               description = "Exchanges a valid refresh token for a new access token and a new refresh token. The presented refresh token is revoked (rotation). No password check is performed.",
+               requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                   description = "Refresh token obtained from login or a previous refresh.",
+                   required = true,
+                   content = @Content(schema = @Schema(implementation = RefreshRequest.class))
+               ),
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "New token pair returned.",
+                                content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+                   @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired or revoked.")
+               })
+    public ResponseEntity<?> refreshAuthenticationToken(@Valid @RequestBody RefreshRequest refreshRequest) {
+        final String presented = refreshRequest.refreshToken;
+        final String username;
+        final String tokenId;
+        final Instant expiresAt;
+        try {
+            if (!jwtUtil.isRefreshToken(presented)) {
+                throw new BadCredentialsException("Invalid refresh token");
+            }
+            username = jwtUtil.extractUsername(presented);
+            tokenId = jwtUtil.extractTokenId(presented);
+            expiresAt = jwtUtil.extractExpiration(presented).toInstant();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid refresh token", e);
+        }
+        // Revoking is the check: of concurrent refreshes with the same token only one succeeds, so a token is
+        // exchanged at most once
+        if (!tokenRevocationService.revokeOnce(tokenId, expiresAt)) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        // Still loads the user so that deleted accounts and changed roles take effect, but skips BCrypt entirely
+        final UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(username);
+
+        return ResponseEntity.ok(new AuthResponse(jwtUtil.generateToken(userDetails), jwtUtil.generateRefreshToken(userDetails)));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout",
+               description = "Revokes the given refresh token and, if present, the bearer access token from the Authorization header.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Tokens revoked.",
+                                content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{ \"message\": \"Logged out successfully!\" }")))
+               })
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshRequest refreshRequest,
+                                    @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        revokeQuietly(refreshRequest.refreshToken);
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            revokeQuietly(authorizationHeader.substring(7));
+        }
+        return ResponseEntity.ok(Map.of("message", "Logged out successfully!"));
+    }
 
-        return ResponseEntity.ok(new AuthResponse(jwt));
+    private void revokeQuietly(String token) {
+        try {
+            tokenRevocationService.revoke(jwtUtil.extractTokenId(token), jwtUtil.extractExpiration(token).toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            // Invalid or already expired tokens are unusable anyway
+        }
     }
 
     @PostMapping("/register")
@@ -0,0 +1,35 @@
+package de.zeroco.employeemanagement.controller;
+
+import de.zeroco.employeemanagement.datasource.PoolMetricsTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/datasource-pools")
+@Tag(name = "Datasource Pool Controller", description = "Per-workload connection pool statistics. Requires ADMIN role.")
+public class DataSourcePoolController {
+
+    // Only present when workload pools are enabled
+    @Autowired(required = false)
+    private PoolMetricsTracker poolMetricsTracker;
+
+    @GetMapping
+    @Operation(summary = "Get connection pool statistics",
+               description = "Returns active/idle connections, pending threads, connection wait times and acquisition timeouts for each workload pool (interactive, reporting, bulk). Empty when workload pools are disabled.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Pool statistics retrieved"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role")
+               })
+    public ResponseEntity<Map<String, Map<String, Object>>> getPoolStatistics() {
+        return ResponseEntity.ok(poolMetricsTracker != null ? poolMetricsTracker.snapshot() : Map.of());
+    }
+}
@@ -1,7 +1,10 @@
 package de.zeroco.employeemanagement.controller;
 
 import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
 import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,11 +14,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,6 +32,9 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private EmployeeService employeeService;
+
     @PostMapping
     @Operation(summary = "Create a new department", description = "Creates a new department. Requires ADMIN role.",
                responses = {
@@ -93,4 +102,31 @@ public class DepartmentController {
         departmentService.deleteDepartment(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/{id}/employees")
+    @Operation(summary = "Get the employees of a department", description = "Retrieves all employees of a department, ordered by ID. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Employees retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "404", description = "Department not found")
+               })
+    public ResponseEntity<List<Employee>> getDepartmentEmployees(@Parameter(description = "ID of the department") @PathVariable Long id) {
+        return ResponseEntity.ok(employeeService.getEmployeesByDepartment(id));
+    }
+
+    @GetMapping(value = "/{id}/employees", params = "asOf")
+    @Operation(summary = "Get the employees of a department as of a date", description = "Retrieves the members a department had on the given date with the values they had then, ordered by ID, from the employee history. Changes apply from the day they were made. With knownAt, returns what had been recorded by that instant. Empty if the department had no members on that date, including when it did not exist. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Employee versions retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "400", description = "asOf is not an ISO-8601 date or knownAt not an ISO-8601 instant"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid")
+               })
+    public ResponseEntity<List<EmployeeVersion>> getDepartmentEmployeesAsOf(
+            @Parameter(description = "ID of the department, which may since have been deleted") @PathVariable Long id,
+            @Parameter(description = "Date (ISO-8601) for which to return the members")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @Parameter(description = "Instant (ISO-8601) of the knowledge to use; omit for what is known now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant knownAt) {
+        return ResponseEntity.ok(employeeService.getEmployeesByDepartmentAsOf(id, asOf, knownAt));
+    }
 }
@@ -1,7 +1,10 @@
-package com.example.employeemanagement.controller;
+package de.zeroco.employeemanagement.controller;
 
 import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeChangesResponse;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
 import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.EmployeeSyncService;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,11 +14,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,6 +32,9 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeSyncService employeeSyncService;
+
     @PostMapping
     @Operation(summary = "Create a new employee", description = "Creates a new employee. Requires ADMIN role.",
                responses = {
@@ -53,13 +62,35 @@ public class EmployeeController {
         return ResponseEntity.ok(employee);
     }
 
+    @GetMapping(value = "/{id}", params = "asOf")
+    @Operation(summary = "Get an employee as of a date", description = "Retrieves the values an employee had on the given date, from the employee history, which starts when the history was introduced. Changes apply from the day they were made. With knownAt, returns what had been recorded by that instant, before any later changes. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Employee version found", content = @Content(schema = @Schema(implementation = EmployeeVersion.class))),
+                   @ApiResponse(responseCode = "400", description = "asOf is not an ISO-8601 date or knownAt not an ISO-8601 instant"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "404", description = "Employee did not exist on that date")
+               })
+    public ResponseEntity<EmployeeVersion> getEmployeeAsOf(
+            @Parameter(description = "ID of the employee, which may since have been deleted") @PathVariable Long id,
+            @Parameter(description = "Date (ISO-8601) for which to return the employee's values")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @Parameter(description = "Instant (ISO-8601) of the knowledge to use; omit for what is known now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant knownAt) {
+        return ResponseEntity.ok(employeeService.getEmployeeAsOf(id, asOf, knownAt));
+    }
+
     @GetMapping
-    @Operation(summary = "Get all employees", description = "Retrieves a list of all employees. Requires USER or ADMIN role.",
+    @Operation(summary = "Get all employees", description = "Retrieves a list of all employees, or one page of them ordered by ID when page and size are given. Requires USER or ADMIN role.",
                responses = {
                    @ApiResponse(responseCode = "200", description = "List of employees retrieved", content = @Content(schema = @Schema(implementation = List.class))),
                    @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid")
                })
-    public ResponseEntity<List<Employee>> getAllEmployees() {
+    public ResponseEntity<List<Employee>> getAllEmployees(
+            @Parameter(description = "Zero-based page number; omit page and size to retrieve all employees") @RequestParam(required = false) Integer page,
+            @Parameter(description = "Page size, at most 500") @RequestParam(required = false) Integer size) {
+        if (page != null || size != null) {
+            return ResponseEntity.ok(employeeService.getEmployeesPage(page != null ? page : 0, size != null ? size : 50));
+        }
         List<Employee> employees = employeeService.getAllEmployees();
         return ResponseEntity.ok(employees);
     }
@@ -81,14 +112,14 @@ public class EmployeeController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete an employee", description = "Deletes an employee by their ID. Requires ADMIN role.",
+    @Operation(summary = "Terminate an employee", description = "Terminates an employee by their ID: the employee disappears from every read, their direct reports lose their manager, and the record moves to the archive after the retention period (see /api/v1/admin/archive). Requires ADMIN role.",
                responses = {
-                   @ApiResponse(responseCode = "204", description = "Employee deleted successfully"),
+                   @ApiResponse(responseCode = "204", description = "Employee terminated successfully"),
                    @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
                    @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role"),
                    @ApiResponse(responseCode = "404", description = "Employee not found")
                })
-    public ResponseEntity<Void> deleteEmployee(@Parameter(description = "ID of the employee to be deleted") @PathVariable Long id) {
+    public ResponseEntity<Void> deleteEmployee(@Parameter(description = "ID of the employee to be terminated") @PathVariable Long id) {
         employeeService.getEmployeeById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         employeeService.deleteEmployee(id);
@@ -107,4 +138,28 @@ public class EmployeeController {
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with email: " + email));
         return ResponseEntity.ok(employee);
     }
+
+    @GetMapping("/{id}/reports")
+    @Operation(summary = "Get the direct reports of an employee", description = "Retrieves the employees whose manager is the given employee, ordered by ID. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Direct reports retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "404", description = "Employee not found")
+               })
+    public ResponseEntity<List<Employee>> getDirectReports(@Parameter(description = "ID of the manager") @PathVariable Long id) {
+        return ResponseEntity.ok(employeeService.getDirectReports(id));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get employee changes since a sync token", description = "Returns the employees created, updated or deleted (as tombstones) since the given sync token, for keeping a client-side replica current. Without a token, returns only a token for the current position: request it before downloading the full list. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Changes retrieved", content = @Content(schema = @Schema(implementation = EmployeeChangesResponse.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "410", description = "Sync token expired or unknown; download the full list and start over")
+               })
+    public ResponseEntity<EmployeeChangesResponse> getChanges(
+            @Parameter(description = "nextToken of the previous response; omit to get an initial token") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of change log entries to read, at most 1000") @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(employeeSyncService.getChanges(since, limit));
+    }
 }
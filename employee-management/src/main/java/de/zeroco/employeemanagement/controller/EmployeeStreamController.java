@@ -0,0 +1,39 @@
+package de.zeroco.employeemanagement.controller;
+
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.stream.EmployeeChangeStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/employees/stream")
+@Tag(name = "Employee Stream Controller", description = "Server-sent events of employee changes. Requires USER or ADMIN role.")
+public class EmployeeStreamController {
+
+    // Only present with app.employee-stream.enabled=true (the default)
+    @Autowired(required = false)
+    private EmployeeChangeStream employeeChangeStream;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream employee changes",
+               description = "Opens a server-sent event stream. 'changes' events list the IDs and change types (CREATED, UPDATED, DELETED) of the employees changed since the previous event, coalesced per employee. 'resync' means events were dropped: reload the employees (or continue from a delta sync token taken before). The first event is 'ready'. Requires USER or ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Stream opened"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "404", description = "Stream disabled"),
+                   @ApiResponse(responseCode = "503", description = "Too many subscribers, retry later")
+               })
+    public SseEmitter stream() {
+        if (employeeChangeStream == null) {
+            throw new ResourceNotFoundException("Employee change stream is disabled");
+        }
+        return employeeChangeStream.subscribe();
+    }
+}
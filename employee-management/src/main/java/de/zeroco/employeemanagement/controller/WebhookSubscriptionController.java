@@ -0,0 +1,92 @@
+package de.zeroco.employeemanagement.controller;
+
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.model.WebhookSubscription;
+import de.zeroco.employeemanagement.service.WebhookSubscriptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/webhooks")
+@Tag(name = "Webhook Subscription Controller", description = "Webhook subscriptions for employee, department and project events. Requires ADMIN role.")
+public class WebhookSubscriptionController {
+
+    @Autowired
+    private WebhookSubscriptionService webhookSubscriptionService;
+
+    @PostMapping
+    @Operation(summary = "Create a webhook subscription", description = "Registers an endpoint that receives batches of change events for the given entity types. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "201", description = "Subscription created", content = @Content(schema = @Schema(implementation = WebhookSubscription.class))),
+                   @ApiResponse(responseCode = "400", description = "Invalid input or validation error"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role")
+               })
+    public ResponseEntity<WebhookSubscription> createSubscription(@Valid @RequestBody WebhookSubscription subscription) {
+        return new ResponseEntity<>(webhookSubscriptionService.createSubscription(subscription), HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all webhook subscriptions", description = "Retrieves all webhook subscriptions; secrets are never returned. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "List of subscriptions retrieved", content = @Content(schema = @Schema(implementation = List.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role")
+               })
+    public ResponseEntity<List<WebhookSubscription>> getAllSubscriptions() {
+        return ResponseEntity.ok(webhookSubscriptionService.getAllSubscriptions());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a webhook subscription by ID", description = "Retrieves a specific webhook subscription. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Subscription found", content = @Content(schema = @Schema(implementation = WebhookSubscription.class))),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role"),
+                   @ApiResponse(responseCode = "404", description = "Subscription not found")
+               })
+    public ResponseEntity<WebhookSubscription> getSubscriptionById(@Parameter(description = "ID of the subscription to be retrieved") @PathVariable Long id) {
+        WebhookSubscription subscription = webhookSubscriptionService.getSubscriptionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook subscription not found with id: " + id));
+        return ResponseEntity.ok(subscription);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update a webhook subscription", description = "Updates URL, entity types, concurrency limit or active flag; an omitted secret is kept. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "200", description = "Subscription updated", content = @Content(schema = @Schema(implementation = WebhookSubscription.class))),
+                   @ApiResponse(responseCode = "400", description = "Invalid input or validation error"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role"),
+                   @ApiResponse(responseCode = "404", description = "Subscription not found")
+               })
+    public ResponseEntity<WebhookSubscription> updateSubscription(
+            @Parameter(description = "ID of the subscription to be updated") @PathVariable Long id,
+            @Valid @RequestBody WebhookSubscription subscriptionDetails) {
+        return ResponseEntity.ok(webhookSubscriptionService.updateSubscription(id, subscriptionDetails));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a webhook subscription", description = "Deletes the subscription together with its queued deliveries. Requires ADMIN role.",
+               responses = {
+                   @ApiResponse(responseCode = "204", description = "Subscription deleted"),
+                   @ApiResponse(responseCode = "401", description = "Unauthorized, token missing or invalid"),
+                   @ApiResponse(responseCode = "403", description = "Forbidden, user does not have ADMIN role"),
+                   @ApiResponse(responseCode = "404", description = "Subscription not found")
+               })
+    public ResponseEntity<Void> deleteSubscription(@Parameter(description = "ID of the subscription to be deleted") @PathVariable Long id) {
+        webhookSubscriptionService.deleteSubscription(id);
+        return ResponseEntity.noContent().build();
+    }
+}
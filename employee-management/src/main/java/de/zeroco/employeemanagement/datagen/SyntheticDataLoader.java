@@ -0,0 +1,142 @@
+package de.zeroco.employeemanagement.datagen;
+
+import de.zeroco.employeemanagement.datasource.Workload;
+import de.zeroco.employeemanagement.datasource.WorkloadPool;
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.model.CacheRegions;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-loads a {@link SyntheticOrgGenerator} organisation with plain JDBC batch inserts, bypassing JPA (no
+ * persistence context, no per-row identity round trip). Ids are assigned by the generator, starting after the
+ * current maximum of each table. On MySQL add {@code rewriteBatchedStatements=true} to the JDBC URL so that each
+ * batch is sent as multi-row INSERTs.
+ */
+@Component
+@WorkloadPool(Workload.BULK)
+public class SyntheticDataLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    private static final String INSERT_DEPARTMENT = "INSERT INTO department (id, name) VALUES (?, ?)";
+    private static final String INSERT_PROJECT = "INSERT INTO project (id, name) VALUES (?, ?)";
+    private static final String INSERT_EMPLOYEE = "INSERT INTO employee (id, name, role, salary, date_of_birth, email, "
+            + "phone_number, hire_date, address, department_id, manager_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MEMBERSHIP = "INSERT INTO employee_project (employee_id, project_id) VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public void load(SyntheticOrgGenerator generator, int batchSize) {
+        long departmentOffset = maxId("department");
+        long projectOffset = maxId("project");
+        long employeeOffset = maxId("employee");
+        long start = System.nanoTime();
+
+        BatchingSink sink = new BatchingSink(batchSize);
+        generator.generate(sink, departmentOffset, projectOffset, employeeOffset);
+        sink.flushAll();
+        evictReferenceDataCaches();
+        eventPublisher.publishEvent(new BulkDataLoadedEvent(sink.employeeCount));
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Loaded {} employees, {} project memberships in {} s ({} employees/s)", sink.employeeCount,
+                sink.membershipCount, String.format("%.1f", seconds), String.format("%.0f", sink.employeeCount / seconds));
+    }
+
+    /** JDBC writes bypass Hibernate, so the cached department and project lists would not see the new rows. */
+    private void evictReferenceDataCaches() {
+        entityManagerFactory.getCache().evict(Department.class);
+        entityManagerFactory.getCache().evict(Project.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.REFERENCE_QUERIES);
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * Buffers rows per table. Employees are flushed before the memberships that reference them, and departments
+     * and projects before any employee, so foreign keys hold at every flush.
+     */
+    private class BatchingSink implements SyntheticOrgGenerator.Sink {
+
+        private final int batchSize;
+        private final List<Object[]> departments = new ArrayList<>();
+        private final List<Object[]> projects = new ArrayList<>();
+        private final List<Object[]> employees = new ArrayList<>();
+        private final List<Object[]> memberships = new ArrayList<>();
+        private long employeeCount;
+        private long membershipCount;
+
+        BatchingSink(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void department(long id, String name) {
+            departments.add(new Object[]{id, name});
+        }
+
+        @Override
+        public void project(long id, String name) {
+            projects.add(new Object[]{id, name});
+        }
+
+        @Override
+        public void employee(SyntheticOrgGenerator.GeneratedEmployee e) {
+            if (!departments.isEmpty() || !projects.isEmpty()) {
+                flush(INSERT_DEPARTMENT, departments);
+                flush(INSERT_PROJECT, projects);
+            }
+            employees.add(new Object[]{e.id(), e.name(), e.role(), e.salary(), Date.valueOf(e.dateOfBirth()), e.email(),
+                    e.phoneNumber(), Date.valueOf(e.hireDate()), e.address(), e.departmentId(), e.managerId()});
+            employeeCount++;
+            if (employees.size() >= batchSize) {
+                flush(INSERT_EMPLOYEE, employees);
+                flush(INSERT_MEMBERSHIP, memberships);
+            }
+        }
+
+        @Override
+        public void projectMembership(long employeeId, long projectId) {
+            memberships.add(new Object[]{employeeId, projectId});
+            membershipCount++;
+        }
+
+        void flushAll() {
+            flush(INSERT_DEPARTMENT, departments);
+            flush(INSERT_PROJECT, projects);
+            flush(INSERT_EMPLOYEE, employees);
+            flush(INSERT_MEMBERSHIP, memberships);
+        }
+
+        private void flush(String sql, List<Object[]> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
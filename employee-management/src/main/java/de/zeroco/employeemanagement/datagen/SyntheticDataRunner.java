@@ -0,0 +1,64 @@
+package de.zeroco.employeemanagement.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point of the data generator, active with the "datagen" profile:
+ * <pre>
+ * java -jar employee-management.jar --spring.profiles.active=datagen --datagen.employees=1000000 --datagen.seed=42
+ * </pre>
+ * Loads the data into the configured datasource and exits (see application-datagen.properties).
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    @Autowired
+    private SyntheticDataLoader syntheticDataLoader;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${datagen.employees:10000}")
+    private int employees;
+
+    @Value("${datagen.departments:50}")
+    private int departments;
+
+    @Value("${datagen.projects:500}")
+    private int projects;
+
+    @Value("${datagen.span-of-control:7}")
+    private int spanOfControl;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${datagen.exit:true}")
+    private boolean exit;
+
+    @Override
+    public void run(String... args) {
+        if (employees < 1 || employees > 10_000_000) {
+            throw new IllegalArgumentException("datagen.employees must be between 1 and 10000000: " + employees);
+        }
+        log.info("Generating {} employees, {} departments, {} projects (seed {})", employees, departments, projects, seed);
+        syntheticDataLoader.load(new SyntheticOrgGenerator(seed, employees, departments, projects, spanOfControl), batchSize);
+        if (exit) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package de.zeroco.employeemanagement.datagen;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Generates a synthetic organisation deterministically from a seed. Rows are streamed to a {@link Sink} in an
+ * order that satisfies all foreign keys (departments, projects, then employees with every manager before their
+ * reports), so nothing but one int per employee is kept in memory and 10M employees fit in a small heap.
+ *
+ * <ul>
+ *   <li>Hierarchy: employee 1 is the CEO; everyone else reports to an earlier employee, with a span of control
+ *       averaging {@code spanOfControl}, which yields a realistic, shallow tree (depth ~ log_span(n)).</li>
+ *   <li>Departments: Zipf-distributed sizes; most reports stay in their manager's department.</li>
+ *   <li>Projects: 0-4 memberships per employee, projects picked with a Zipf distribution.</li>
+ *   <li>Emails are unique by construction (they embed the employee id).</li>
+ * </ul>
+ */
+public class SyntheticOrgGenerator {
+
+    private static final String[] FIRST_NAMES = {"Ada", "Alan", "Barbara", "Claude", "Dennis", "Edsger", "Frances",
+            "Grace", "Hedy", "Ivan", "John", "Ken", "Linus", "Margaret", "Niklaus", "Radia", "Shafi", "Tim", "Whitfield", "Yukihiro"};
+    private static final String[] LAST_NAMES = {"Lovelace", "Turing", "Liskov", "Shannon", "Ritchie", "Dijkstra", "Allen",
+            "Hopper", "Lamarr", "Sutherland", "Backus", "Thompson", "Torvalds", "Hamilton", "Wirth", "Perlman", "Goldwasser",
+            "Berners-Lee", "Diffie", "Matsumoto"};
+    private static final String[] ROLES_BY_LEVEL = {"Chief Executive Officer", "Vice President", "Director",
+            "Senior Manager", "Manager", "Team Lead", "Senior Engineer", "Engineer"};
+    private static final String[] DEPARTMENT_NAMES = {"Engineering", "Sales", "Operations", "Customer Support",
+            "Marketing", "Finance", "Human Resources", "Legal", "Research", "Logistics", "Procurement", "Security"};
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    public record GeneratedEmployee(long id, String name, String role, double salary, LocalDate dateOfBirth,
+                                    String email, String phoneNumber, LocalDate hireDate, String address,
+                                    long departmentId, Long managerId) {
+    }
+
+    public interface Sink {
+        void department(long id, String name);
+
+        void project(long id, String name);
+
+        void employee(GeneratedEmployee employee);
+
+        void projectMembership(long employeeId, long projectId);
+    }
+
+    private final long seed;
+    private final int employees;
+    private final int departments;
+    private final int projects;
+    private final int spanOfControl;
+
+    public SyntheticOrgGenerator(long seed, int employees, int departments, int projects, int spanOfControl) {
+        this.seed = seed;
+        this.employees = employees;
+        this.departments = departments;
+        this.projects = projects;
+        this.spanOfControl = spanOfControl;
+    }
+
+    /**
+     * Streams the organisation into the sink. Generated ids start at 1 and are shifted by the given offsets, so data
+     * can be appended to non-empty tables.
+     */
+    public void generate(Sink sink, long departmentIdOffset, long projectIdOffset, long employeeIdOffset) {
+        Random random = new Random(seed);
+        ZipfDistribution departmentZipf = new ZipfDistribution(departments, 1.1);
+        ZipfDistribution projectZipf = new ZipfDistribution(projects, 1.0);
+
+        for (int d = 1; d <= departments; d++) {
+            String base = DEPARTMENT_NAMES[(d - 1) % DEPARTMENT_NAMES.length];
+            sink.department(departmentIdOffset + d, d <= DEPARTMENT_NAMES.length ? base : base + " " + d);
+        }
+        for (int p = 1; p <= projects; p++) {
+            sink.project(projectIdOffset + p, "Project " + Integer.toString(p, 36).toUpperCase());
+        }
+
+        // Per employee only the department (index) and level are remembered, for their reports
+        int[] departmentOf = new int[employees + 1];
+        byte[] levelOf = new byte[employees + 1];
+        for (int i = 1; i <= employees; i++) {
+            int manager = i == 1 ? 0 : pickManager(i, random);
+            int level = i == 1 ? 0 : Math.min(levelOf[manager] + 1, ROLES_BY_LEVEL.length - 1);
+            int department = manager != 0 && random.nextDouble() < 0.85
+                    ? departmentOf[manager]
+                    : departmentZipf.sample(random);
+            departmentOf[i] = department;
+            levelOf[i] = (byte) level;
+
+            sink.employee(employee(i, level, department, manager, random, departmentIdOffset, employeeIdOffset));
+
+            int memberships = Math.min(4, (int) (-Math.log(1 - random.nextDouble()) * 1.2));
+            long[] assigned = new long[memberships];
+            for (int m = 0; m < memberships; m++) {
+                long project = projectIdOffset + projectZipf.sample(random) + 1;
+                assigned[m] = project;
+                if (!contains(assigned, m, project)) { // popular projects are drawn twice now and then
+                    sink.projectMembership(employeeIdOffset + i, project);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Reports of employee k are roughly k*span .. k*span+span-1, with jitter so spans vary between managers
+    private int pickManager(int i, Random random) {
+        int base = Math.max(1, (i - 2) / spanOfControl + 1);
+        int jitter = random.nextInt(3) - 1;
+        return Math.max(1, Math.min(i - 1, base + jitter));
+    }
+
+    private static GeneratedEmployee employee(int i, int level, int department, int manager, Random random,
+                                              long departmentIdOffset, long employeeIdOffset) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        long id = employeeIdOffset + i;
+        // Log-normal salary, higher median for higher levels (level 0 = CEO)
+        double median = 60000 * Math.pow(1.35, ROLES_BY_LEVEL.length - 1 - level);
+        double salary = Math.round(median * Math.exp(random.nextGaussian() * 0.2) * 100) / 100.0;
+        LocalDate dateOfBirth = TODAY.minusYears(22 + random.nextInt(43)).minusDays(random.nextInt(365));
+        LocalDate earliestHire = dateOfBirth.plusYears(18);
+        long hireWindow = Math.max(1, TODAY.toEpochDay() - earliestHire.toEpochDay());
+        LocalDate hireDate = earliestHire.plusDays((long) (hireWindow * Math.sqrt(random.nextDouble())));
+        return new GeneratedEmployee(
+                id,
+                first + " " + last,
+                ROLES_BY_LEVEL[level],
+                salary,
+                dateOfBirth,
+                first.toLowerCase() + "." + last.toLowerCase() + "." + id + "@example.com",
+                String.format("555-%04d", random.nextInt(10000)),
+                hireDate,
+                (1 + random.nextInt(999)) + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " Street",
+                departmentIdOffset + department + 1,
+                manager == 0 ? null : employeeIdOffset + manager);
+    }
+}
@@ -0,0 +1,34 @@
+package de.zeroco.employeemanagement.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1/(rank+1)^exponent, using a precomputed CDF and binary
+ * search. Rank 0 is the most frequent.
+ */
+public class ZipfDistribution {
+
+    private final double[] cdf;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cdf[rank] /= sum;
+        }
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+}
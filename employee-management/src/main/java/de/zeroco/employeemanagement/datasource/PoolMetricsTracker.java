@@ -0,0 +1,116 @@
+package de.zeroco.employeemanagement.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker shared by all workload pools. Records connection wait time and acquisition timeouts
+ * per pool and exposes them together with Hikari's live pool state (active/idle/pending). When a Micrometer
+ * registry is given, every event is also forwarded to Hikari's own Micrometer tracker ({@code hikaricp.*} meters).
+ */
+public class PoolMetricsTracker implements MetricsTrackerFactory {
+
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final MetricsTrackerFactory micrometer;
+
+    public PoolMetricsTracker() {
+        this(null);
+    }
+
+    public PoolMetricsTracker(MeterRegistry meterRegistry) {
+        this.micrometer = meterRegistry != null ? new MicrometerMetricsTrackerFactory(meterRegistry) : null;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Tracker tracker = new Tracker(poolStats, micrometer != null ? micrometer.create(poolName, poolStats) : null);
+        trackers.put(poolName, tracker);
+        return tracker;
+    }
+
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        trackers.forEach((pool, tracker) -> result.put(pool, tracker.snapshot()));
+        return result;
+    }
+
+    static class Tracker implements IMetricsTracker {
+
+        private final PoolStats poolStats;
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+        private final IMetricsTracker delegate;
+
+        Tracker(PoolStats poolStats, IMetricsTracker delegate) {
+            this.poolStats = poolStats;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (delegate != null) {
+                delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitions.increment();
+            waitNanos.add(elapsedAcquiredNanos);
+            maxWaitNanos.accumulate(elapsedAcquiredNanos);
+            if (delegate != null) {
+                delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageMillis.add(elapsedBorrowedMillis);
+            if (delegate != null) {
+                delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            if (delegate != null) {
+                delegate.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+
+        Map<String, Object> snapshot() {
+            long count = acquisitions.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("activeConnections", poolStats.getActiveConnections());
+            stats.put("idleConnections", poolStats.getIdleConnections());
+            stats.put("pendingThreads", poolStats.getPendingThreads());
+            stats.put("maxConnections", poolStats.getMaxConnections());
+            stats.put("acquisitions", count);
+            stats.put("avgWaitMs", count == 0 ? 0.0 : waitNanos.sum() / 1e6 / count);
+            stats.put("maxWaitMs", maxWaitNanos.get() / 1e6);
+            stats.put("timeouts", timeouts.sum());
+            stats.put("avgUsageMs", count == 0 ? 0.0 : (double) usageMillis.sum() / count);
+            return stats;
+        }
+    }
+}
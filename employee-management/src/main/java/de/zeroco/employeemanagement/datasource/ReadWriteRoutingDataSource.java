@@ -0,0 +1,57 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a replica and everything else to the primary.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, because the
+ * transaction's read-only flag is only known after the transaction manager has asked for a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Object WRITE_TRACKED = new Object();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (readYourWritesTracker.mustReadFromPrimary()) {
+                return PRIMARY;
+            }
+            String replica = replicaLagMonitor.selectReplica();
+            return replica != null ? replica : PRIMARY;
+        }
+        trackWriteOnCommit();
+        return PRIMARY;
+    }
+
+    private void trackWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+}
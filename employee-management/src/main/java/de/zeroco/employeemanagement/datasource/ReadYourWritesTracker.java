@@ -0,0 +1,50 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write, so that their reads within the configured window are served
+ * by the primary instead of a replica that may not have caught up yet. The API is stateless (JWT), so the
+ * authenticated username is the "session"; anonymous requests are not tracked.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+    private final long windowMs;
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void recordWrite() {
+        String session = currentSession();
+        if (session != null) {
+            lastWriteMillis.put(session, System.currentTimeMillis());
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        String session = currentSession();
+        if (session == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteMillis.get(session);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastWrite > windowMs) {
+            lastWriteMillis.remove(session, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    private static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,94 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Periodically probes each replica's replication lag and picks a replica for read-only work. Selection uses
+ * "power of two choices": two random eligible replicas are compared and the less lagging one wins, which spreads
+ * load while steering away from replicas that fall behind.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Lag value of a replica whose probe failed; never eligible
+    static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, String> lagQueries;
+    private final List<String> names;
+    private final long maxLagMs;
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Map<String, String> lagQueries, long maxLagMs) {
+        this.replicas = replicas;
+        this.lagQueries = lagQueries;
+        this.names = List.copyOf(replicas.keySet());
+        this.maxLagMs = maxLagMs;
+        names.forEach(name -> lagMillis.put(name, 0L));
+    }
+
+    /**
+     * @return the name of the replica to use, or {@code null} when no replica is within the lag limit
+     */
+    public String selectReplica() {
+        List<String> eligible = names.stream().filter(name -> lagMillis.get(name) <= maxLagMs).toList();
+        if (eligible.isEmpty()) {
+            return null;
+        }
+        if (eligible.size() == 1) {
+            return eligible.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String first = eligible.get(random.nextInt(eligible.size()));
+        String second = eligible.get(random.nextInt(eligible.size()));
+        return lagMillis.get(first) <= lagMillis.get(second) ? first : second;
+    }
+
+    public void recordLag(String replica, long lagMs) {
+        lagMillis.put(replica, lagMs);
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    public Map<String, Long> currentLag() {
+        return Map.copyOf(lagMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:1000}")
+    public void probe() {
+        replicas.forEach((name, dataSource) -> recordLag(name, measureLag(name, dataSource)));
+    }
+
+    private long measureLag(String name, DataSource dataSource) {
+        String query = lagQueries.get(name);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            if (!resultSet.next()) {
+                return 0L; // not a replica (e.g. a stand-in database), treat as fully caught up
+            }
+            Object seconds = query.toUpperCase().startsWith("SHOW REPLICA STATUS")
+                    ? resultSet.getObject("Seconds_Behind_Source")
+                    : resultSet.getObject(1);
+            // NULL means the replication threads are stopped
+            return seconds == null ? UNREACHABLE : (long) (((Number) seconds).doubleValue() * 1000);
+        } catch (Exception e) {
+            log.warn("Lag probe failed for replica {}: {}", name, e.getMessage());
+            return UNREACHABLE;
+        }
+    }
+}
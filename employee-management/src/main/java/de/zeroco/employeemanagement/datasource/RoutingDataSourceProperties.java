@@ -0,0 +1,39 @@
+package de.zeroco.employeemanagement.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled;
+
+    private Node primary = new Node();
+
+    private List<Node> replicas = new ArrayList<>();
+
+    // Replicas lagging more than this are skipped; if every replica lags, reads go to the primary
+    private long maxLagMs = 2000;
+
+    // After a user's write commits, that user's reads go to the primary for this long ("read your own writes")
+    private long readYourWritesWindowMs = 5000;
+
+    // How often replica lag is probed
+    private long lagCheckIntervalMs = 1000;
+
+    @Data
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        // Query returning the replication lag in seconds as its only/first column, or SHOW REPLICA STATUS on MySQL
+        private String lagQuery = "SHOW REPLICA STATUS";
+    }
+}
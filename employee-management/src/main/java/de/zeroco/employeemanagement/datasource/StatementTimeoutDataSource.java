@@ -0,0 +1,53 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Applies a default query timeout to every statement created on its connections. Statements that set their own
+ * (lower or higher) timeout afterwards keep it; this only replaces the JDBC default of "no timeout".
+ */
+public class StatementTimeoutDataSource extends DelegatingDataSource {
+
+    private final int timeoutSeconds;
+
+    public StatementTimeoutDataSource(DataSource targetDataSource, int timeoutSeconds) {
+        super(targetDataSource);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withTimeout(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withTimeout(super.getConnection(username, password));
+    }
+
+    private Connection withTimeout(Connection connection) {
+        if (timeoutSeconds <= 0) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement && method.getName().matches("createStatement|prepareStatement|prepareCall")) {
+                        statement.setQueryTimeout(timeoutSeconds);
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,11 @@
+package de.zeroco.employeemanagement.datasource;
+
+/**
+ * Workload classes that get their own connection pool, so that long reporting queries or bulk jobs
+ * cannot starve interactive CRUD and logins of connections.
+ */
+public enum Workload {
+    INTERACTIVE,
+    REPORTING,
+    BULK
+}
@@ -0,0 +1,34 @@
+package de.zeroco.employeemanagement.datasource;
+
+/**
+ * Holds the workload of the current thread for {@link WorkloadRoutingDataSource}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    /**
+     * @return the previous workload, to be passed to {@link #restore(Workload)}
+     */
+    public static Workload set(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package de.zeroco.employeemanagement.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.workloads")
+public class WorkloadDataSourceProperties {
+
+    private boolean enabled;
+
+    // Per-workload pool settings, keyed by interactive/reporting/bulk
+    private Map<Workload, Pool> pools = new EnumMap<>(Workload.class);
+
+    @Data
+    public static class Pool {
+        // Defaults to spring.datasource.* when not set, e.g. point reporting at a replica by overriding the url
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 30000;
+        // Default JDBC query timeout for statements on this pool, 0 disables it
+        private int statementTimeoutSeconds;
+    }
+}
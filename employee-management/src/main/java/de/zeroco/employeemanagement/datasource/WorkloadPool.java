@@ -0,0 +1,19 @@
+package de.zeroco.employeemanagement.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated service method (or every method of the annotated class) on the connection pool of the given
+ * workload. Unannotated code uses {@link Workload#INTERACTIVE}. The outermost annotated call wins for the whole
+ * transaction, since the connection is bound when the transaction starts.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface WorkloadPool {
+    Workload value();
+}
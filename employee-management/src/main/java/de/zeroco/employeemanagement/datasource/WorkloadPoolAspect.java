@@ -0,0 +1,36 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Applies {@link WorkloadPool}. Ordered before the transaction interceptor so the workload is known when the
+ * transaction obtains its connection.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadPoolAspect {
+
+    @Around("@annotation(de.zeroco.employeemanagement.datasource.WorkloadPool) || @within(de.zeroco.employeemanagement.datasource.WorkloadPool)")
+    public Object withWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        WorkloadPool annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), WorkloadPool.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), WorkloadPool.class);
+        }
+        if (annotation == null) {
+            return joinPoint.proceed();
+        }
+        Workload previous = WorkloadContext.set(annotation.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes each connection request to the pool of the current {@link WorkloadContext workload}.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
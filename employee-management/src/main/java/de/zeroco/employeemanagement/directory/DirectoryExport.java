@@ -0,0 +1,11 @@
+package de.zeroco.employeemanagement.directory;
+
+/** Receives the contents of an {@link EmployeeDirectory}: reference data first, then the employees. */
+public interface DirectoryExport {
+
+    void department(long id, String name);
+
+    void project(long id, String name);
+
+    void employee(EmployeeRow row);
+}
@@ -0,0 +1,136 @@
+package de.zeroco.employeemanagement.directory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads employees, departments and projects for the {@link EmployeeDirectory} with plain JDBC: no entities,
+ * no persistence context, streamed in fetch-size chunks. Runs outside transactions, so with read/write routing
+ * it reads from the primary and never sees a lagging replica.
+ */
+public class DirectoryLoader {
+
+    private static final String SELECT_EMPLOYEES = "SELECT id, name, role, salary, date_of_birth, email, phone_number, "
+            + "hire_date, address, department_id, manager_id FROM employee WHERE status = 'ACTIVE'";
+    private static final String SELECT_MEMBERSHIPS = "SELECT employee_id, project_id FROM employee_project";
+    private static final int IN_LIST_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public DirectoryLoader(DataSource dataSource, int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(batchSize);
+        this.batchSize = batchSize;
+    }
+
+    public Map<Long, String> loadDepartments() {
+        return loadNames("SELECT id, name FROM department");
+    }
+
+    public Map<Long, String> loadProjects() {
+        return loadNames("SELECT id, name FROM project");
+    }
+
+    public Optional<String> loadDepartmentName(long id) {
+        return jdbcTemplate.query("SELECT name FROM department WHERE id = ?", (rs, i) -> rs.getString(1), id)
+                .stream().findFirst();
+    }
+
+    public Optional<String> loadProjectName(long id) {
+        return jdbcTemplate.query("SELECT name FROM project WHERE id = ?", (rs, i) -> rs.getString(1), id)
+                .stream().findFirst();
+    }
+
+    /** Streams all employees without projects in batches of {@code batchSize}, ordered by id. */
+    public void loadAllEmployees(Consumer<List<EmployeeRow>> batches) {
+        List<EmployeeRow> batch = new ArrayList<>(batchSize);
+        jdbcTemplate.query(SELECT_EMPLOYEES + " ORDER BY id", rs -> {
+            batch.add(mapEmployee(rs));
+            if (batch.size() == batchSize) {
+                batches.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            batches.accept(batch);
+        }
+    }
+
+    /** Streams all project memberships grouped by employee, as employee id and project ids. */
+    public void loadAllMemberships(MembershipConsumer memberships) {
+        long[] current = {0};
+        List<Long> projectIds = new ArrayList<>();
+        jdbcTemplate.query(SELECT_MEMBERSHIPS + " ORDER BY employee_id", rs -> {
+            long employeeId = rs.getLong(1);
+            if (employeeId != current[0] && !projectIds.isEmpty()) {
+                memberships.accept(current[0], toArray(projectIds));
+                projectIds.clear();
+            }
+            current[0] = employeeId;
+            projectIds.add(rs.getLong(2));
+        });
+        if (!projectIds.isEmpty()) {
+            memberships.accept(current[0], toArray(projectIds));
+        }
+    }
+
+    /** Loads the given employees with their projects; ids without a row were terminated or no longer exist. */
+    public List<EmployeeRow> loadEmployees(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> idList = new ArrayList<>(ids);
+        List<EmployeeRow> rows = new ArrayList<>(idList.size());
+        Map<Long, List<Long>> memberships = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(idList.size(), from + IN_LIST_SIZE));
+            String in = " IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            Object[] parameters = chunk.toArray();
+            rows.addAll(jdbcTemplate.query(SELECT_EMPLOYEES + " AND id" + in, (rs, i) -> mapEmployee(rs), parameters));
+            jdbcTemplate.query(SELECT_MEMBERSHIPS + " WHERE employee_id" + in, rs -> {
+                memberships.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+            }, parameters);
+        }
+        rows.replaceAll(row -> row.withProjectIds(toArray(memberships.getOrDefault(row.id(), List.of()))));
+        return rows;
+    }
+
+    private Map<Long, String> loadNames(String sql) {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            names.put(rs.getLong(1), rs.getString(2));
+        });
+        return names;
+    }
+
+    private static EmployeeRow mapEmployee(ResultSet rs) throws SQLException {
+        double salary = rs.getDouble("salary");
+        Double nullableSalary = rs.wasNull() ? null : salary;
+        return new EmployeeRow(rs.getLong("id"), rs.getString("name"), rs.getString("role"), nullableSalary,
+                rs.getObject("date_of_birth", LocalDate.class), rs.getString("email"), rs.getString("phone_number"),
+                rs.getObject("hire_date", LocalDate.class), rs.getString("address"), rs.getLong("department_id"),
+                rs.getLong("manager_id"), null);
+    }
+
+    private static long[] toArray(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @FunctionalInterface
+    public interface MembershipConsumer {
+        void accept(long employeeId, long[] projectIds);
+    }
+}
@@ -0,0 +1,268 @@
+package de.zeroco.employeemanagement.directory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot of an {@link EmployeeDirectory}, so a restart can skip the full table scan.
+ * <p>
+ * Layout (big-endian): a fixed {@value #HEADER_BYTES}-byte header with magic, format version, creation time,
+ * the change-log watermark the contents correspond to, the record counts, the body length and a CRC-32C of
+ * the body; then the departments, projects and employees as length-prefixed records. Strings are UTF-8 with
+ * an {@code int} length, {@code -1} for {@code null}.
+ * <p>
+ * Files are written to a temporary file, forced to disk and atomically renamed, so readers only ever see
+ * complete snapshots. Reading maps the file into memory and verifies the checksum before decoding; any
+ * mismatch in magic, version, length or checksum rejects the file.
+ */
+public final class DirectorySnapshot {
+
+    static final int MAGIC = 0x454D_5044; // "EMPD"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    private static final int CHECKSUM_OFFSET = 52;
+
+    private static final int NULL_LENGTH = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int APPLY_BATCH = 10_000;
+
+    /** Header fields; {@code watermarkId}/{@code watermarkTime} locate the contents in the change log. */
+    public record Header(int version, Instant createdAt, long watermarkId, Instant watermarkTime,
+                         int departments, int projects, int employees) {
+    }
+
+    private DirectorySnapshot() {
+    }
+
+    /**
+     * Writes the directory to {@code target}. Returns {@code false} without touching {@code target} if the
+     * directory has unapplied changes, because its contents would not match the watermark.
+     */
+    public static boolean write(EmployeeDirectory directory, Path target, long watermarkId, Instant watermarkTime)
+            throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        CRC32C checksum = new CRC32C();
+        int[] counts = new int[3];
+        boolean complete = false;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_BYTES);
+            OutputStream file = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), checksum));
+            boolean exported = directory.exportIfCurrent(new DirectoryExport() {
+                @Override
+                public void department(long id, String name) {
+                    unchecked(() -> {
+                        out.writeLong(id);
+                        writeString(out, name);
+                    });
+                    counts[0]++;
+                }
+
+                @Override
+                public void project(long id, String name) {
+                    unchecked(() -> {
+                        out.writeLong(id);
+                        writeString(out, name);
+                    });
+                    counts[1]++;
+                }
+
+                @Override
+                public void employee(EmployeeRow row) {
+                    unchecked(() -> writeEmployee(out, row));
+                    counts[2]++;
+                }
+            });
+            if (!exported) {
+                return false;
+            }
+            out.flush();
+            long bodyLength = channel.position() - HEADER_BYTES;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(System.currentTimeMillis())
+                    .putLong(watermarkId)
+                    .putLong(watermarkTime.toEpochMilli())
+                    .putInt(counts[0])
+                    .putInt(counts[1])
+                    .putInt(counts[2])
+                    .putLong(bodyLength)
+                    .putInt((int) checksum.getValue());
+            header.clear();
+            channel.write(header, 0);
+            channel.force(true);
+            complete = true;
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    /** Reads and validates only the header, without loading the body. */
+    public static Header readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // fill
+            }
+            header.flip();
+            return parseHeader(header, channel.size());
+        }
+    }
+
+    /** Verifies {@code file} and loads it into {@code directory}, which must be empty. */
+    public static Header read(Path file, EmployeeDirectory directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Header header = parseHeader(mapped.duplicate(), channel.size());
+            ByteBuffer body = mapped.slice(HEADER_BYTES, (int) (channel.size() - HEADER_BYTES));
+
+            CRC32C checksum = new CRC32C();
+            checksum.update(body.duplicate());
+            int expected = mapped.getInt(CHECKSUM_OFFSET);
+            if ((int) checksum.getValue() != expected) {
+                throw new IOException("Snapshot checksum mismatch in " + file);
+            }
+
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < header.departments(); i++) {
+                directory.putDepartment(body.getLong(), readString(body, scratch));
+            }
+            for (int i = 0; i < header.projects(); i++) {
+                directory.putProject(body.getLong(), readString(body, scratch));
+            }
+            List<EmployeeRow> batch = new ArrayList<>(APPLY_BATCH);
+            for (int i = 0; i < header.employees(); i++) {
+                batch.add(readEmployee(body, scratch));
+                if (batch.size() == APPLY_BATCH) {
+                    directory.putEmployees(batch);
+                    batch.clear();
+                }
+            }
+            directory.putEmployees(batch);
+            if (body.hasRemaining()) {
+                throw new IOException("Trailing bytes in snapshot " + file);
+            }
+            return header;
+        }
+    }
+
+    private static Header parseHeader(ByteBuffer header, long fileSize) throws IOException {
+        if (fileSize < HEADER_BYTES || header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a directory snapshot");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + version);
+        }
+        Instant createdAt = Instant.ofEpochMilli(header.getLong());
+        long watermarkId = header.getLong();
+        Instant watermarkTime = Instant.ofEpochMilli(header.getLong());
+        int departments = header.getInt();
+        int projects = header.getInt();
+        int employees = header.getInt();
+        long bodyLength = header.getLong();
+        if (bodyLength != fileSize - HEADER_BYTES || bodyLength > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot body length " + bodyLength + " does not match the file size " + fileSize);
+        }
+        return new Header(version, createdAt, watermarkId, watermarkTime, departments, projects, employees);
+    }
+
+    private static void writeEmployee(DataOutputStream out, EmployeeRow row) throws IOException {
+        out.writeLong(row.id());
+        writeString(out, row.name());
+        writeString(out, row.role());
+        out.writeDouble(row.salary() != null ? row.salary() : Double.NaN);
+        out.writeInt(row.dateOfBirth() != null ? (int) row.dateOfBirth().toEpochDay() : NO_DATE);
+        writeString(out, row.email());
+        writeString(out, row.phoneNumber());
+        out.writeInt(row.hireDate() != null ? (int) row.hireDate().toEpochDay() : NO_DATE);
+        writeString(out, row.address());
+        out.writeLong(row.departmentId());
+        out.writeLong(row.managerId());
+        long[] projectIds = row.projectIds() != null ? row.projectIds() : new long[0];
+        out.writeInt(projectIds.length);
+        for (long projectId : projectIds) {
+            out.writeLong(projectId);
+        }
+    }
+
+    private static EmployeeRow readEmployee(ByteBuffer in, byte[] scratch) {
+        long id = in.getLong();
+        String name = readString(in, scratch);
+        String role = readString(in, scratch);
+        double salary = in.getDouble();
+        int birthDate = in.getInt();
+        String email = readString(in, scratch);
+        String phoneNumber = readString(in, scratch);
+        int hireDate = in.getInt();
+        String address = readString(in, scratch);
+        long departmentId = in.getLong();
+        long managerId = in.getLong();
+        long[] projectIds = new long[in.getInt()];
+        in.asLongBuffer().get(projectIds);
+        in.position(in.position() + projectIds.length * Long.BYTES);
+        return new EmployeeRow(id, name, role, Double.isNaN(salary) ? null : salary, toDate(birthDate), email,
+                phoneNumber, toDate(hireDate), address, departmentId, managerId, projectIds);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in, byte[] scratch) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        in.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDate toDate(int epochDay) {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static void unchecked(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
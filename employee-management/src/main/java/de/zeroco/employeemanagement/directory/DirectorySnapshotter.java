@@ -0,0 +1,114 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Periodically writes the {@link EmployeeDirectory} to a {@link DirectorySnapshot} file and restores it at
+ * startup. A restored directory is brought up to date by queueing every {@link ChangeLog} entry since the
+ * snapshot's watermark into the directory's update log, where the updater re-reads the affected rows.
+ */
+public class DirectorySnapshotter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectorySnapshotter.class);
+
+    private final EmployeeDirectory directory;
+    private final ChangeLog changeLog;
+    private final Path file;
+    private final Duration catchUpOverlap;
+
+    public DirectorySnapshotter(EmployeeDirectory directory, ChangeLog changeLog, Path file, Duration catchUpOverlap) {
+        this.directory = directory;
+        this.changeLog = changeLog;
+        this.file = file;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    @Scheduled(fixedDelayString = "${app.directory.snapshot.interval-ms:600000}",
+               initialDelayString = "${app.directory.snapshot.interval-ms:600000}")
+    public void scheduledWrite() {
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Writing the employee directory snapshot to {} failed", file, e);
+        }
+    }
+
+    /** Writes a snapshot; returns {@code false} if the directory was not current and nothing was written. */
+    public boolean write() throws IOException {
+        if (!directory.isReady()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        // Taken before the export: changes committed meanwhile are replayed again on restore, never skipped
+        ChangeLog.Watermark watermark = changeLog.currentWatermark();
+        if (!DirectorySnapshot.write(directory, file, watermark.id(), watermark.time())) {
+            log.debug("Employee directory has pending changes, snapshot skipped");
+            return false;
+        }
+        log.info("Employee directory snapshot written to {} at change {}: {} bytes, {} ms", file, watermark.id(),
+                Files.size(file), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Loads the snapshot into the (empty) directory and queues the changes since then. Returns {@code false},
+     * leaving the directory cleared, if there is no usable snapshot or the change log no longer reaches back
+     * to it; the caller then loads from the database.
+     */
+    public boolean restore() {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        directory.clear();
+        try {
+            DirectorySnapshot.Header header = DirectorySnapshot.read(file, directory);
+            ChangeLog.Watermark watermark = new ChangeLog.Watermark(header.watermarkId(), header.watermarkTime());
+            Optional<List<ChangeLogEntry>> changes = changeLog.since(watermark, catchUpOverlap);
+            if (changes.isEmpty()) {
+                log.info("Change log no longer covers the employee directory snapshot from {}", header.createdAt());
+                directory.clear();
+                return false;
+            }
+            DirectoryUpdateLog updateLog = directory.updateLog();
+            for (ChangeLogEntry change : changes.get()) {
+                updateLog.append(kindOf(change.getEntityType()), change.getEntityId(), change.getChangeType());
+            }
+            directory.setReady(true);
+            log.info("Employee directory restored from {}: {} employees, {} changes to catch up, {} ms", file,
+                    directory.size(), changes.get().size(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Employee directory snapshot {} is unusable, loading from the database", file, e);
+            directory.clear();
+            return false;
+        }
+    }
+
+    private static DirectoryUpdateLog.Kind kindOf(ChangeLogEntry.EntityType entityType) {
+        return switch (entityType) {
+            case EMPLOYEE -> DirectoryUpdateLog.Kind.EMPLOYEE;
+            case DEPARTMENT -> DirectoryUpdateLog.Kind.DEPARTMENT;
+            case PROJECT -> DirectoryUpdateLog.Kind.PROJECT;
+            case ALL -> DirectoryUpdateLog.Kind.RELOAD;
+        };
+    }
+
+    /** A final snapshot on shutdown keeps the catch-up on the next start short. */
+    @Override
+    public void destroy() {
+        scheduledWrite();
+    }
+}
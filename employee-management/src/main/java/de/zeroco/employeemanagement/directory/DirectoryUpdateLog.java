@@ -0,0 +1,115 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordered log of committed changes that the {@link EmployeeDirectory} has not applied yet. Each entry gets a
+ * sequence number; {@link #appliedSequence()} is the watermark up to which the directory is current.
+ * <p>
+ * The log also tells readers which answers would be stale: an employee with an entry in the log is
+ * <em>pending</em> until that entry is applied, and lookups involving it fall back to the database. Because
+ * entries are appended after commit but before the writing request returns, a client always reads its own
+ * writes.
+ */
+public class DirectoryUpdateLog {
+
+    public enum Kind { EMPLOYEE, DEPARTMENT, PROJECT, RELOAD }
+
+    public record Entry(long sequence, Kind kind, long id, ChangeType type) {
+    }
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final LongIntHashMap pendingEmployees = new LongIntHashMap(64);
+    private int pendingOther;
+    private long lastSequence;
+    private long appliedSequence;
+    // Readers check this without locking; the common case is an empty log
+    private volatile int pending;
+
+    public synchronized long append(Kind kind, long id, ChangeType type) {
+        Entry entry = new Entry(++lastSequence, kind, id, type);
+        entries.addLast(entry);
+        if (kind == Kind.EMPLOYEE) {
+            int count = pendingEmployees.get(id);
+            pendingEmployees.put(id, count == LongIntHashMap.MISSING ? 1 : count + 1);
+        } else {
+            pendingOther++;
+        }
+        pending++;
+        notifyAll();
+        return entry.sequence();
+    }
+
+    /** Waits up to {@code timeoutMillis} for entries and returns at most {@code max} of them, oldest first. */
+    public synchronized List<Entry> awaitBatch(int max, long timeoutMillis) throws InterruptedException {
+        if (entries.isEmpty()) {
+            wait(timeoutMillis);
+        }
+        List<Entry> batch = new ArrayList<>(Math.min(max, entries.size()));
+        for (Entry entry : entries) {
+            if (batch.size() == max) {
+                break;
+            }
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /** Removes a batch returned by {@link #awaitBatch} once the directory reflects it. */
+    public synchronized void markApplied(List<Entry> batch) {
+        for (Entry entry : batch) {
+            entries.removeFirst();
+            if (entry.kind() == Kind.EMPLOYEE) {
+                int count = pendingEmployees.get(entry.id());
+                if (count <= 1) {
+                    pendingEmployees.remove(entry.id());
+                } else {
+                    pendingEmployees.put(entry.id(), count - 1);
+                }
+            } else {
+                pendingOther--;
+            }
+            appliedSequence = entry.sequence();
+            pending--;
+        }
+    }
+
+    public boolean isEmpty() {
+        return pending == 0;
+    }
+
+    public boolean isPending(long employeeId) {
+        if (pending == 0) {
+            return false;
+        }
+        synchronized (this) {
+            return pendingEmployees.containsKey(employeeId);
+        }
+    }
+
+    /** Whether a department, project or reload entry is outstanding; those can affect any employee. */
+    public boolean hasPendingNonEmployeeChanges() {
+        if (pending == 0) {
+            return false;
+        }
+        synchronized (this) {
+            return pendingOther > 0;
+        }
+    }
+
+    public int size() {
+        return pending;
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized long appliedSequence() {
+        return appliedSequence;
+    }
+}
@@ -0,0 +1,664 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory read model of all employees, answering lookups by id, email, department and manager without a
+ * database round trip.
+ * <p>
+ * Employees are stored column-wise: one primitive array per field, indexed by row, instead of one entity
+ * object graph per employee. Ids and emails are indexed by open-addressing hash tables of {@code int} rows,
+ * roles are dictionary-encoded and department and project names are held once per department/project.
+ * Members of a department and reports of a manager are doubly linked lists threaded through {@code int} arrays.
+ * Freed rows are reused.
+ * <p>
+ * Lookups only answer when the answer is current: while the directory is loading, or while a change to an
+ * involved employee is still in the {@link DirectoryUpdateLog}, they return empty and the caller reads from
+ * the database. A returned {@link Employee} is a detached copy, including its manager chain.
+ */
+public class EmployeeDirectory {
+
+    private static final int NONE = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int[] NO_PROJECTS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DirectoryUpdateLog updateLog;
+    private volatile boolean ready;
+
+    // Employee columns, indexed by row
+    private long[] ids;
+    private String[] names;
+    private int[] roles;
+    private double[] salaries; // NaN = null
+    private int[] birthDates; // epoch days
+    private String[] emails;
+    private String[] phoneNumbers;
+    private int[] hireDates;
+    private String[] addresses;
+    private int[] departments; // department code
+    private long[] managers; // manager id, 0 = none
+    private int[][] projects; // project codes
+    private int[] previousInDepartment;
+    private int[] nextInDepartment;
+    private int[] previousReport;
+    private int[] nextReport;
+    private int rowLimit;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    private final LongIntHashMap rowsById;
+    private final StringRowIndex rowsByEmail;
+    private final LongIntHashMap firstReportByManager;
+    private final StringPool rolePool = new StringPool();
+
+    // Reference data, indexed by code
+    private final LongIntHashMap departmentCodes = new LongIntHashMap(64);
+    private long[] departmentIds = new long[16];
+    private String[] departmentNames = new String[16];
+    private int[] departmentHeads = new int[16];
+    private int departmentLimit;
+    private final LongIntHashMap projectCodes = new LongIntHashMap(64);
+    private long[] projectIds = new long[16];
+    private String[] projectNames = new String[16];
+    private int projectLimit;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public EmployeeDirectory(DirectoryUpdateLog updateLog, int expectedEmployees) {
+        this.updateLog = updateLog;
+        int capacity = Math.max(16, expectedEmployees);
+        allocateRows(capacity);
+        this.rowsById = new LongIntHashMap(capacity);
+        this.rowsByEmail = new StringRowIndex(capacity, row -> emails[row]);
+        this.firstReportByManager = new LongIntHashMap(capacity / 8);
+    }
+
+    public DirectoryUpdateLog updateLog() {
+        return updateLog;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    // ---- Lookups ----
+
+    public Optional<Employee> findById(long id) {
+        if (!answerable()) {
+            return fallback();
+        }
+        lock.readLock().lock();
+        try {
+            int row = rowsById.get(id);
+            return row == NONE ? fallback() : hit(materialize(row, 0));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Employee> findByEmail(String email) {
+        if (!answerable() || email == null) {
+            return fallback();
+        }
+        lock.readLock().lock();
+        try {
+            int row = rowsByEmail.get(email);
+            return row == NONE ? fallback() : hit(materialize(row, 0));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Employees of a department ordered by id; empty if unknown or not current (any change outstanding). */
+    public Optional<List<Employee>> findByDepartment(long departmentId) {
+        if (!answerable() || !updateLog.isEmpty()) {
+            return fallback();
+        }
+        lock.readLock().lock();
+        try {
+            int code = departmentCodes.get(departmentId);
+            if (code == NONE) {
+                return fallback();
+            }
+            return hitList(materializeList(departmentHeads[code], nextInDepartment));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Direct reports of an employee ordered by id; empty if the employee is unknown or not current. */
+    public Optional<List<Employee>> findDirectReports(long managerId) {
+        if (!answerable() || !updateLog.isEmpty()) {
+            return fallback();
+        }
+        lock.readLock().lock();
+        try {
+            if (rowsById.get(managerId) == NONE) {
+                return fallback();
+            }
+            int head = firstReportByManager.get(managerId);
+            return hitList(materializeList(head, nextReport));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean answerable() {
+        return ready && !updateLog.hasPendingNonEmployeeChanges();
+    }
+
+    private <T> Optional<T> hit(T value) {
+        if (value == null) {
+            return fallback();
+        }
+        hits.incrementAndGet();
+        return Optional.of(value);
+    }
+
+    private Optional<List<Employee>> hitList(List<Employee> employees) {
+        if (employees != null) {
+            employees.sort(Comparator.comparing(Employee::getId));
+        }
+        return hit(employees);
+    }
+
+    private <T> Optional<T> fallback() {
+        fallbacks.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private List<Employee> materializeList(int head, int[] next) {
+        List<Employee> employees = new ArrayList<>();
+        for (int row = head; row != NONE; row = next[row]) {
+            Employee employee = materialize(row, 0);
+            if (employee == null) {
+                return null;
+            }
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /** Copies a row and its manager chain into entities; {@code null} if any of them is pending. */
+    private Employee materialize(int row, int depth) {
+        long id = ids[row];
+        if (depth > rowsById.size() || updateLog.isPending(id)) {
+            return null;
+        }
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(names[row]);
+        employee.setRole(rolePool.get(roles[row]));
+        employee.setSalary(Double.isNaN(salaries[row]) ? null : salaries[row]);
+        employee.setDateOfBirth(toDate(birthDates[row]));
+        employee.setEmail(emails[row]);
+        employee.setPhoneNumber(phoneNumbers[row]);
+        employee.setHireDate(toDate(hireDates[row]));
+        employee.setAddress(addresses[row]);
+        int department = departments[row];
+        if (department != NONE) {
+            employee.setDepartment(new Department(departmentIds[department], departmentNames[department], null));
+        }
+        if (managers[row] != 0) {
+            int managerRow = rowsById.get(managers[row]);
+            Employee manager = managerRow == NONE ? null : materialize(managerRow, depth + 1);
+            if (manager == null) {
+                return null;
+            }
+            employee.setManager(manager);
+        }
+        Set<Project> assigned = new HashSet<>();
+        for (int project : projects[row]) {
+            assigned.add(new Project(projectIds[project], projectNames[project], new HashSet<>()));
+        }
+        employee.setProjects(assigned);
+        return employee;
+    }
+
+    // ---- Updates, called by EmployeeDirectoryUpdater ----
+
+    void putEmployees(Collection<EmployeeRow> rows) {
+        lock.writeLock().lock();
+        try {
+            rows.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Sets the projects of already loaded employees, used by the initial load. */
+    void assignProjects(Map<Long, long[]> projectIdsByEmployee) {
+        lock.writeLock().lock();
+        try {
+            projectIdsByEmployee.forEach((employeeId, projectIds) -> {
+                int row = rowsById.get(employeeId);
+                if (row != NONE) {
+                    projects[row] = projectCodes(projectIds);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeEmployees(Collection<Long> employeeIds) {
+        lock.writeLock().lock();
+        try {
+            employeeIds.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putDepartment(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            int code = departmentCodes.get(id);
+            if (code == NONE) {
+                code = departmentLimit++;
+                if (code == departmentIds.length) {
+                    departmentIds = Arrays.copyOf(departmentIds, code << 1);
+                    departmentNames = Arrays.copyOf(departmentNames, code << 1);
+                    departmentHeads = Arrays.copyOf(departmentHeads, code << 1);
+                }
+                departmentIds[code] = id;
+                departmentHeads[code] = NONE;
+                departmentCodes.put(id, code);
+            }
+            departmentNames[code] = name;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Forgets a department. Its employees must have been removed or moved first. */
+    void removeDepartment(long id) {
+        lock.writeLock().lock();
+        try {
+            departmentCodes.remove(id); // the code itself is not reused
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putProject(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            int code = projectCodes.get(id);
+            if (code == NONE) {
+                code = projectLimit++;
+                if (code == projectIds.length) {
+                    projectIds = Arrays.copyOf(projectIds, code << 1);
+                    projectNames = Arrays.copyOf(projectNames, code << 1);
+                }
+                projectIds[code] = id;
+                projectCodes.put(id, code);
+            }
+            projectNames[code] = name;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Forgets a project. Employees still assigned to it must be reloaded first. */
+    void removeProject(long id) {
+        lock.writeLock().lock();
+        try {
+            projectCodes.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean hasDepartment(long id) {
+        lock.readLock().lock();
+        try {
+            return departmentCodes.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean hasProject(long id) {
+        lock.readLock().lock();
+        try {
+            return projectCodes.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Long> employeeIdsInDepartment(long departmentId) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            int code = departmentCodes.get(departmentId);
+            for (int row = code == NONE ? NONE : departmentHeads[code]; row != NONE; row = nextInDepartment[row]) {
+                result.add(ids[row]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Scans all rows; only used for the rare project deletes. */
+    List<Long> employeeIdsOnProject(long projectId) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            int code = projectCodes.get(projectId);
+            if (code == NONE) {
+                return result;
+            }
+            for (int row = 0; row < rowLimit; row++) {
+                if (ids[row] != 0 && contains(projects[row], code)) {
+                    result.add(ids[row]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            allocateRows(Math.max(16, rowsById.size()));
+            rowLimit = 0;
+            freeCount = 0;
+            rowsById.clear();
+            rowsByEmail.clear();
+            firstReportByManager.clear();
+            departmentCodes.clear();
+            departmentLimit = 0;
+            projectCodes.clear();
+            projectLimit = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(EmployeeRow source) {
+        int row = rowsById.get(source.id());
+        if (row == NONE) {
+            row = allocateRow();
+            ids[row] = source.id();
+            rowsById.put(source.id(), row);
+        } else {
+            unlink(row);
+        }
+        names[row] = source.name();
+        roles[row] = rolePool.intern(source.role());
+        salaries[row] = source.salary() != null ? source.salary() : Double.NaN;
+        birthDates[row] = toEpochDay(source.dateOfBirth());
+        emails[row] = source.email();
+        phoneNumbers[row] = source.phoneNumber();
+        hireDates[row] = toEpochDay(source.hireDate());
+        addresses[row] = source.address();
+        departments[row] = source.departmentId() != 0 ? departmentCodes.get(source.departmentId()) : NONE;
+        managers[row] = source.managerId();
+        projects[row] = projectCodes(source.projectIds());
+        link(row);
+    }
+
+    private void remove(long id) {
+        int row = rowsById.remove(id);
+        if (row == NONE) {
+            return;
+        }
+        unlink(row);
+        ids[row] = 0;
+        names[row] = null;
+        emails[row] = null;
+        phoneNumbers[row] = null;
+        addresses[row] = null;
+        projects[row] = NO_PROJECTS;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount << 1);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    private void link(int row) {
+        if (emails[row] != null) {
+            rowsByEmail.add(row);
+        }
+        int department = departments[row];
+        previousInDepartment[row] = NONE;
+        nextInDepartment[row] = NONE;
+        if (department != NONE) {
+            int head = departmentHeads[department];
+            nextInDepartment[row] = head;
+            if (head != NONE) {
+                previousInDepartment[head] = row;
+            }
+            departmentHeads[department] = row;
+        }
+        previousReport[row] = NONE;
+        nextReport[row] = NONE;
+        if (managers[row] != 0) {
+            int head = firstReportByManager.put(managers[row], row);
+            nextReport[row] = head;
+            if (head != NONE) {
+                previousReport[head] = row;
+            }
+        }
+    }
+
+    private void unlink(int row) {
+        if (emails[row] != null) {
+            rowsByEmail.remove(row);
+        }
+        int department = departments[row];
+        if (department != NONE) {
+            int previous = previousInDepartment[row];
+            int next = nextInDepartment[row];
+            if (previous != NONE) {
+                nextInDepartment[previous] = next;
+            } else {
+                departmentHeads[department] = next;
+            }
+            if (next != NONE) {
+                previousInDepartment[next] = previous;
+            }
+        }
+        if (managers[row] != 0) {
+            int previous = previousReport[row];
+            int next = nextReport[row];
+            if (previous != NONE) {
+                nextReport[previous] = next;
+            } else if (next != NONE) {
+                firstReportByManager.put(managers[row], next);
+            } else {
+                firstReportByManager.remove(managers[row]);
+            }
+            if (next != NONE) {
+                previousReport[next] = previous;
+            }
+        }
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rowLimit == ids.length) {
+            growRows(rowLimit + (rowLimit >> 1));
+        }
+        return rowLimit++;
+    }
+
+    private void allocateRows(int capacity) {
+        ids = new long[capacity];
+        names = new String[capacity];
+        roles = new int[capacity];
+        salaries = new double[capacity];
+        birthDates = new int[capacity];
+        emails = new String[capacity];
+        phoneNumbers = new String[capacity];
+        hireDates = new int[capacity];
+        addresses = new String[capacity];
+        departments = new int[capacity];
+        managers = new long[capacity];
+        projects = new int[capacity][];
+        previousInDepartment = new int[capacity];
+        nextInDepartment = new int[capacity];
+        previousReport = new int[capacity];
+        nextReport = new int[capacity];
+    }
+
+    private void growRows(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        roles = Arrays.copyOf(roles, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        birthDates = Arrays.copyOf(birthDates, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        phoneNumbers = Arrays.copyOf(phoneNumbers, capacity);
+        hireDates = Arrays.copyOf(hireDates, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        managers = Arrays.copyOf(managers, capacity);
+        projects = Arrays.copyOf(projects, capacity);
+        previousInDepartment = Arrays.copyOf(previousInDepartment, capacity);
+        nextInDepartment = Arrays.copyOf(nextInDepartment, capacity);
+        previousReport = Arrays.copyOf(previousReport, capacity);
+        nextReport = Arrays.copyOf(nextReport, capacity);
+    }
+
+    private int[] projectCodes(long[] projectIds) {
+        if (projectIds == null || projectIds.length == 0) {
+            return NO_PROJECTS;
+        }
+        int[] codes = new int[projectIds.length];
+        int count = 0;
+        for (long projectId : projectIds) {
+            int code = projectCodes.get(projectId);
+            if (code != NONE) {
+                codes[count++] = code;
+            }
+        }
+        return count == codes.length ? codes : Arrays.copyOf(codes, count);
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DATE;
+    }
+
+    private static LocalDate toDate(int epochDay) {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    // ---- Export ----
+
+    /**
+     * Passes a consistent copy of the directory to {@code export} under the read lock. Returns {@code false}
+     * without calling it if the directory is not ready or changes are still waiting in the update log.
+     */
+    boolean exportIfCurrent(DirectoryExport export) {
+        lock.readLock().lock();
+        try {
+            if (!ready || !updateLog.isEmpty()) {
+                return false;
+            }
+            for (int code = 0; code < departmentLimit; code++) {
+                if (departmentCodes.get(departmentIds[code]) == code) {
+                    export.department(departmentIds[code], departmentNames[code]);
+                }
+            }
+            for (int code = 0; code < projectLimit; code++) {
+                if (projectCodes.get(projectIds[code]) == code) {
+                    export.project(projectIds[code], projectNames[code]);
+                }
+            }
+            for (int row = 0; row < rowLimit; row++) {
+                if (ids[row] != 0) {
+                    export.employee(toRow(row));
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private EmployeeRow toRow(int row) {
+        int department = departments[row];
+        long[] assigned = new long[projects[row].length];
+        for (int i = 0; i < assigned.length; i++) {
+            assigned[i] = projectIds[projects[row][i]];
+        }
+        return new EmployeeRow(ids[row], names[row], rolePool.get(roles[row]),
+                Double.isNaN(salaries[row]) ? null : salaries[row], toDate(birthDates[row]), emails[row],
+                phoneNumbers[row], toDate(hireDates[row]), addresses[row],
+                department != NONE ? departmentIds[department] : 0, managers[row], assigned);
+    }
+
+    // ---- Statistics ----
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Heap used by the arrays and indexes, excluding the string contents. */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long perRow = 3L * Long.BYTES // ids, salaries, managers
+                    + 8L * Integer.BYTES // roles, two dates, department, four list links
+                    + 5L * 4; // string and project array references, assuming compressed oops
+            return ids.length * perRow + rowsById.memoryBytes() + rowsByEmail.memoryBytes()
+                    + firstReportByManager.memoryBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void bindMetrics(MeterRegistry registry) {
+        Gauge.builder("app.directory.employees", this, EmployeeDirectory::size).register(registry);
+        Gauge.builder("app.directory.memory", this, EmployeeDirectory::memoryBytes).baseUnit("bytes").register(registry);
+        Gauge.builder("app.directory.update.backlog", updateLog, DirectoryUpdateLog::size).register(registry);
+        FunctionCounter.builder("app.directory.lookups", hits, AtomicLong::get).tag("result", "hit").register(registry);
+        FunctionCounter.builder("app.directory.lookups", fallbacks, AtomicLong::get).tag("result", "fallback").register(registry);
+    }
+}
@@ -0,0 +1,208 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Project;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps the {@link EmployeeDirectory} in sync with the database. Committed service writes are appended to the
+ * {@link DirectoryUpdateLog}; a single background thread loads the directory once, then drains the log in
+ * batches and re-reads the changed rows. Re-reading instead of applying the entity from the event makes every
+ * entry idempotent, so changes made during the initial load are simply applied again afterwards.
+ */
+public class EmployeeDirectoryUpdater implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeDirectoryUpdater.class);
+
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final EmployeeDirectory directory;
+    private final DirectoryUpdateLog updateLog;
+    private final DirectoryLoader loader;
+    private final int batchSize;
+    private final DirectorySnapshotter snapshotter;
+    private volatile Thread worker;
+
+    public EmployeeDirectoryUpdater(EmployeeDirectory directory, DirectoryLoader loader, int batchSize) {
+        this(directory, loader, batchSize, null);
+    }
+
+    /** With a {@code snapshotter}, the first load tries its snapshot before scanning the tables. */
+    public EmployeeDirectoryUpdater(EmployeeDirectory directory, DirectoryLoader loader, int batchSize,
+                                    DirectorySnapshotter snapshotter) {
+        this.directory = directory;
+        this.updateLog = directory.updateLog();
+        this.loader = loader;
+        this.batchSize = batchSize;
+        this.snapshotter = snapshotter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        updateLog.append(DirectoryUpdateLog.Kind.EMPLOYEE, event.employeeId(), event.type());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        DirectoryUpdateLog.Kind kind = event.entityType() == Department.class
+                ? DirectoryUpdateLog.Kind.DEPARTMENT : DirectoryUpdateLog.Kind.PROJECT;
+        updateLog.append(kind, event.id(), event.type());
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        updateLog.append(DirectoryUpdateLog.Kind.RELOAD, 0, ChangeType.UPDATED);
+    }
+
+    /** Writes committed on other nodes. */
+    @EventListener
+    public void onClusterChange(ClusterChangeEvent event) {
+        DirectoryUpdateLog.Kind kind = switch (event.entityType()) {
+            case EMPLOYEE -> DirectoryUpdateLog.Kind.EMPLOYEE;
+            case DEPARTMENT -> DirectoryUpdateLog.Kind.DEPARTMENT;
+            case PROJECT -> DirectoryUpdateLog.Kind.PROJECT;
+            case ALL -> DirectoryUpdateLog.Kind.RELOAD;
+        };
+        updateLog.append(kind, event.id(), event.type());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "employee-directory");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        if (snapshotter != null) {
+            snapshotter.restore();
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (!directory.isReady()) {
+                    loadAll();
+                }
+                List<DirectoryUpdateLog.Entry> batch = updateLog.awaitBatch(batchSize, RETRY_DELAY_MS);
+                if (!batch.isEmpty()) {
+                    apply(batch);
+                    updateLog.markApplied(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Database unavailable or similar: lookups keep falling back until the batch goes through
+                log.warn("Updating the employee directory failed, retrying", e);
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    void loadAll() {
+        long start = System.nanoTime();
+        directory.setReady(false);
+        directory.clear();
+        loader.loadDepartments().forEach(directory::putDepartment);
+        loader.loadProjects().forEach(directory::putProject);
+        loader.loadAllEmployees(directory::putEmployees);
+        Map<Long, long[]> memberships = new HashMap<>();
+        loader.loadAllMemberships((employeeId, projectIds) -> {
+            memberships.put(employeeId, projectIds);
+            if (memberships.size() == batchSize) {
+                directory.assignProjects(memberships);
+                memberships.clear();
+            }
+        });
+        directory.assignProjects(memberships);
+        directory.setReady(true);
+        log.info("Employee directory loaded: {} employees, ~{} MB in arrays and indexes, {} ms", directory.size(),
+                directory.memoryBytes() >> 20, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    void apply(List<DirectoryUpdateLog.Entry> batch) {
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        List<Long> deletedDepartments = new ArrayList<>();
+        List<Long> deletedProjects = new ArrayList<>();
+        for (DirectoryUpdateLog.Entry entry : batch) {
+            switch (entry.kind()) {
+                case EMPLOYEE -> employeeIds.add(entry.id());
+                case DEPARTMENT -> {
+                    Optional<String> name = loader.loadDepartmentName(entry.id());
+                    if (name.isPresent()) {
+                        directory.putDepartment(entry.id(), name.get());
+                    } else {
+                        // The members were terminated and archived with their department, re-read them
+                        employeeIds.addAll(directory.employeeIdsInDepartment(entry.id()));
+                        deletedDepartments.add(entry.id());
+                    }
+                }
+                case PROJECT -> {
+                    Optional<String> name = loader.loadProjectName(entry.id());
+                    if (name.isPresent()) {
+                        directory.putProject(entry.id(), name.get());
+                    } else {
+                        employeeIds.addAll(directory.employeeIdsOnProject(entry.id()));
+                        deletedProjects.add(entry.id());
+                    }
+                }
+                case RELOAD -> {
+                    // Covers every other entry of the batch as well
+                    loadAll();
+                    return;
+                }
+            }
+        }
+        applyEmployees(employeeIds);
+        // Forget deleted reference data only once no employee row points at it anymore
+        deletedDepartments.forEach(directory::removeDepartment);
+        deletedProjects.forEach(directory::removeProject);
+    }
+
+    private void applyEmployees(Set<Long> employeeIds) {
+        List<EmployeeRow> rows = loader.loadEmployees(employeeIds);
+        Set<Long> removed = new LinkedHashSet<>(employeeIds);
+        for (EmployeeRow row : rows) {
+            removed.remove(row.id());
+            if (row.departmentId() != 0 && !directory.hasDepartment(row.departmentId())) {
+                loader.loadDepartmentName(row.departmentId()).ifPresent(name -> directory.putDepartment(row.departmentId(), name));
+            }
+            for (long projectId : row.projectIds()) {
+                if (!directory.hasProject(projectId)) {
+                    loader.loadProjectName(projectId).ifPresent(name -> directory.putProject(projectId, name));
+                }
+            }
+        }
+        directory.putEmployees(rows);
+        directory.removeEmployees(new ArrayList<>(removed));
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
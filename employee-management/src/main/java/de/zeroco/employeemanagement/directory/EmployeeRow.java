@@ -0,0 +1,17 @@
+package de.zeroco.employeemanagement.directory;
+
+import java.time.LocalDate;
+
+/**
+ * One employee as read from the database for the {@link EmployeeDirectory}: the scalar columns plus the ids of
+ * its department, manager ({@code 0} if none) and projects. Only used while loading, rows are stored columnar.
+ */
+public record EmployeeRow(long id, String name, String role, Double salary, LocalDate dateOfBirth, String email,
+                          String phoneNumber, LocalDate hireDate, String address, long departmentId, long managerId,
+                          long[] projectIds) {
+
+    public EmployeeRow withProjectIds(long[] projectIds) {
+        return new EmployeeRow(id, name, role, salary, dateOfBirth, email, phoneNumber, hireDate, address,
+                departmentId, managerId, projectIds);
+    }
+}
@@ -0,0 +1,43 @@
+package de.zeroco.employeemanagement.directory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for low-cardinality strings such as roles: rows store an {@code int} code, each distinct
+ * value is kept once. Codes are never reused, so the pool only grows; it is meant for values with a few hundred
+ * or thousand variants, not for free text. Not thread-safe.
+ */
+public class StringPool {
+
+    public static final int NULL = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[64];
+
+    public int intern(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        int next = codes.size();
+        if (next == values.length) {
+            values = Arrays.copyOf(values, next << 1);
+        }
+        values[next] = value;
+        codes.put(value, next);
+        return next;
+    }
+
+    public String get(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    public int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,107 @@
+package de.zeroco.employeemanagement.directory;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Unique index from a string column to row numbers. The table holds only {@code int} row references; keys are
+ * not copied but read back from the column ({@code keyOfRow}), so the index costs four bytes per slot. Linear
+ * probing with backward-shift deletion, as in {@link LongIntHashMap}. Not thread-safe.
+ */
+public class StringRowIndex {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final IntFunction<String> keyOfRow;
+    private int[] rows; // row + 1, 0 = empty
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public StringRowIndex(int expectedSize, IntFunction<String> keyOfRow) {
+        this.keyOfRow = keyOfRow;
+        allocate(Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1);
+    }
+
+    /** Returns the row holding {@code key}, or {@link LongIntHashMap#MISSING}. */
+    public int get(String key) {
+        for (int slot = slot(key); rows[slot] != 0; slot = (slot + 1) & mask) {
+            int row = rows[slot] - 1;
+            if (key.equals(keyOfRow.apply(row))) {
+                return row;
+            }
+        }
+        return LongIntHashMap.MISSING;
+    }
+
+    /** Indexes {@code row} under its current key. The key must not be indexed yet. */
+    public void add(int row) {
+        int slot = slot(keyOfRow.apply(row));
+        while (rows[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        rows[slot] = row + 1;
+        if (++size > resizeAt) {
+            rehash(rows.length << 1);
+        }
+    }
+
+    /** Removes {@code row}, which must still hold the key it was indexed under. */
+    public void remove(int row) {
+        int slot = slot(keyOfRow.apply(row));
+        while (rows[slot] != row + 1) {
+            if (rows[slot] == 0) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        size--;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; rows[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keyOfRow.apply(rows[next] - 1));
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                rows[gap] = rows[next];
+                gap = next;
+            }
+        }
+        rows[gap] = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(rows, 0);
+        size = 0;
+    }
+
+    public long memoryBytes() {
+        return (long) rows.length * Integer.BYTES;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = rows;
+        allocate(capacity);
+        for (int reference : old) {
+            if (reference != 0) {
+                int slot = slot(keyOfRow.apply(reference - 1));
+                while (rows[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                rows[slot] = reference;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        rows = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(String key) {
+        int h = key.hashCode(); // cached by String
+        return (h ^ (h >>> 16)) * 0x9E3779B9 & mask;
+    }
+}
@@ -0,0 +1,8 @@
+package de.zeroco.employeemanagement.event;
+
+/**
+ * Published after rows were written around the services, e.g. by {@code SyntheticDataLoader}. No per-entity
+ * events exist for such writes, so listeners have to rebuild or drop everything they derived.
+ */
+public record BulkDataLoadedEvent(long employees) {
+}
@@ -0,0 +1,7 @@
+package de.zeroco.employeemanagement.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
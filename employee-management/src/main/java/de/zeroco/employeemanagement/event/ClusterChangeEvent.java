@@ -0,0 +1,12 @@
+package de.zeroco.employeemanagement.event;
+
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+
+/**
+ * Published by {@code ClusterInvalidationPoller} for a change another node committed. Local caches must drop
+ * what they derived from the entity; {@link ChangeLogEntry.EntityType#ALL} means everything. Never published
+ * for this node's own writes, which already raise {@link EmployeeChangedEvent} and
+ * {@link ReferenceDataChangedEvent}.
+ */
+public record ClusterChangeEvent(ChangeLogEntry.EntityType entityType, long id, ChangeType type) {
+}
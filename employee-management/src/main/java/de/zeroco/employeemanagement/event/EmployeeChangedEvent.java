@@ -0,0 +1,8 @@
+package de.zeroco.employeemanagement.event;
+
+/**
+ * Published by {@code EmployeeService} for every employee write. Listeners that derive state from employees
+ * (caches, read models) should use {@code @TransactionalEventListener}, so they only see committed changes.
+ */
+public record EmployeeChangedEvent(Long employeeId, ChangeType type) {
+}
@@ -0,0 +1,8 @@
+package de.zeroco.employeemanagement.event;
+
+/**
+ * Published by {@code DepartmentService} and {@code ProjectService} for every write. Employees embed their
+ * department and projects, so derived employee data has to be refreshed on updates and deletes.
+ */
+public record ReferenceDataChangedEvent(Class<?> entityType, Long id, ChangeType type) {
+}
@@ -0,0 +1,11 @@
+package de.zeroco.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class StreamCapacityExceededException extends RuntimeException {
+    public StreamCapacityExceededException(String message) {
+        super(message);
+    }
+}
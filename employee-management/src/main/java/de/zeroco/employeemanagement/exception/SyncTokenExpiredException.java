@@ -0,0 +1,12 @@
+package de.zeroco.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** The sync token can no longer be served incrementally; the client has to download the full list again. */
+@ResponseStatus(value = HttpStatus.GONE)
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
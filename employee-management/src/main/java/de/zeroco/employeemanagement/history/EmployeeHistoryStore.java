@@ -0,0 +1,128 @@
+package de.zeroco.employeemanagement.history;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the bitemporal {@code employee_history} table.
+ * <p>
+ * Every row is one version of an employee: the values it had on the days {@code [valid_from, valid_to)}, as
+ * recorded during {@code [recorded_from, recorded_to)}. A write never updates values in place. It ends the
+ * recorded period of the open version and inserts its replacements, so both "what was true on day D" and "what
+ * did we believe at instant K" stay answerable. Open ends are the 9999-12-31 literals below rather than NULL:
+ * the versions believed now then share {@code recorded_to = OPEN_TIME}, an equality that the indexes lead with.
+ */
+@Component
+public class EmployeeHistoryStore {
+
+    static final LocalDate OPEN_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String OPEN_DATE_SQL = "DATE '9999-12-31'";
+    private static final String OPEN_TIME_SQL = "TIMESTAMP '9999-12-31 00:00:00'";
+
+    private static final String VALUES = "name, role, salary, date_of_birth, email, phone_number, hire_date, address, "
+            + "department_id, manager_id";
+    private static final String COLUMNS = "employee_id, " + VALUES + ", valid_from, valid_to, recorded_from, recorded_to";
+    private static final String SELECT = "SELECT employee_id, " + VALUES + ", valid_from, valid_to, recorded_from "
+            + "FROM employee_history";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records that {@code employeeId} changed on {@code day} at {@code now}: the open version ends on that day and,
+     * unless the employee was deleted, the values now in the {@code employee} table become the open version.
+     * A second change on the same day replaces that day's version instead of adding a one-day one. A created
+     * employee has no version yet, so only the new one is inserted.
+     */
+    public void recordChange(long employeeId, ChangeType type, LocalDate day, Instant now) {
+        Date today = Date.valueOf(day);
+        Timestamp recorded = Timestamp.from(now);
+        if (type != ChangeType.CREATED) {
+            closeOpenVersion(employeeId, today, recorded);
+        }
+        if (type != ChangeType.DELETED) {
+            jdbcTemplate.update("INSERT INTO employee_history (" + COLUMNS + ") SELECT id, " + VALUES + ", ?, "
+                    + OPEN_DATE_SQL + ", ?, " + OPEN_TIME_SQL + " FROM employee WHERE id = ?", today, recorded, employeeId);
+        }
+    }
+
+    private void closeOpenVersion(long employeeId, Date today, Timestamp recorded) {
+        // What was believed to be open is no longer believed from now on
+        jdbcTemplate.update("UPDATE employee_history SET recorded_to = ? WHERE employee_id = ? AND recorded_to = "
+                + OPEN_TIME_SQL + " AND valid_to = " + OPEN_DATE_SQL, recorded, employeeId);
+        // ... and is believed instead to have ended today, unless it only started today
+        jdbcTemplate.update("INSERT INTO employee_history (" + COLUMNS + ") SELECT employee_id, " + VALUES
+                + ", valid_from, ?, ?, " + OPEN_TIME_SQL + " FROM employee_history WHERE employee_id = ? AND recorded_to = ?"
+                + " AND valid_to = " + OPEN_DATE_SQL + " AND valid_from < ?", today, recorded, employeeId, recorded, today);
+    }
+
+    /** Opens a version from {@code day} for every active employee that has none, e.g. after rows were bulk-inserted. */
+    public int recordMissing(LocalDate day, Instant now) {
+        return jdbcTemplate.update("INSERT INTO employee_history (" + COLUMNS + ") SELECT e.id, " + prefixed("e.")
+                + ", ?, " + OPEN_DATE_SQL + ", ?, " + OPEN_TIME_SQL + " FROM employee e WHERE e.status = 'ACTIVE' AND NOT EXISTS (SELECT 1 FROM"
+                + " employee_history h WHERE h.employee_id = e.id AND h.recorded_to = " + OPEN_TIME_SQL
+                + " AND h.valid_to = " + OPEN_DATE_SQL + ")", Date.valueOf(day), Timestamp.from(now));
+    }
+
+    /**
+     * The version of {@code employeeId} valid on {@code day}, as currently believed or, with {@code knownAt}, as
+     * believed at that instant. A single index seek: the versions of one belief never overlap, so the latest one
+     * starting on or before {@code day} is the only candidate.
+     */
+    public Optional<EmployeeVersion> findAsOf(long employeeId, LocalDate day, Instant knownAt) {
+        List<EmployeeVersion> latest = knownAt == null
+                ? jdbcTemplate.query(SELECT + " WHERE employee_id = ? AND recorded_to = " + OPEN_TIME_SQL
+                        + " AND valid_from <= ? ORDER BY valid_from DESC LIMIT 1",
+                        (rs, i) -> map(rs), employeeId, Date.valueOf(day))
+                : jdbcTemplate.query(SELECT + " WHERE employee_id = ? AND recorded_from <= ? AND recorded_to > ?"
+                        + " AND valid_from <= ? ORDER BY valid_from DESC LIMIT 1",
+                        (rs, i) -> map(rs), employeeId, Timestamp.from(knownAt), Timestamp.from(knownAt), Date.valueOf(day));
+        // Checked here rather than in SQL, which would scan all older versions of a since deleted employee
+        return latest.stream().filter(version -> version.validTo == null || version.validTo.isAfter(day)).findFirst();
+    }
+
+    /** The versions of the members of {@code departmentId} valid on {@code day}, as with {@link #findAsOf}, by employee id. */
+    public List<EmployeeVersion> findByDepartmentAsOf(long departmentId, LocalDate day, Instant knownAt) {
+        Date date = Date.valueOf(day);
+        if (knownAt == null) {
+            return jdbcTemplate.query(SELECT + " WHERE department_id = ? AND recorded_to = " + OPEN_TIME_SQL
+                    + " AND valid_from <= ? AND valid_to > ? ORDER BY employee_id", (rs, i) -> map(rs), departmentId, date, date);
+        }
+        Timestamp known = Timestamp.from(knownAt);
+        return jdbcTemplate.query(SELECT + " WHERE department_id = ? AND recorded_from <= ? AND recorded_to > ?"
+                + " AND valid_from <= ? AND valid_to > ? ORDER BY employee_id", (rs, i) -> map(rs),
+                departmentId, known, known, date, date);
+    }
+
+    private static String prefixed(String alias) {
+        return alias + VALUES.replace(", ", ", " + alias);
+    }
+
+    private static EmployeeVersion map(ResultSet rs) throws SQLException {
+        LocalDate validTo = localDate(rs, "valid_to");
+        return new EmployeeVersion(rs.getLong("employee_id"), rs.getString("name"), rs.getString("role"),
+                rs.getObject("salary", Double.class), localDate(rs, "date_of_birth"), rs.getString("email"),
+                rs.getString("phone_number"), localDate(rs, "hire_date"), rs.getString("address"),
+                rs.getObject("department_id", Long.class), rs.getObject("manager_id", Long.class),
+                localDate(rs, "valid_from"), OPEN_DATE.equals(validTo) ? null : validTo,
+                rs.getTimestamp("recorded_from").toInstant());
+    }
+
+    private static LocalDate localDate(ResultSet rs, String column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date != null ? date.toLocalDate() : null;
+    }
+}
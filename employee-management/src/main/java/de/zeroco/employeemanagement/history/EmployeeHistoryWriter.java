@@ -0,0 +1,55 @@
+package de.zeroco.employeemanagement.history;
+
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Maintains the {@link EmployeeHistoryStore} inside the writing transaction (before commit), so the history
+ * holds a version if and only if the change committed.
+ * <p>
+ * The API carries no effective date, so a change is taken to apply from the day it is made (valid time in whole
+ * days of the server's time zone) and to be known from the instant it is made (transaction time). The pending
+ * entity changes are flushed first: the new version is copied from the {@code employee} row, and the flush takes
+ * that row's lock, so concurrent writes of one employee maintain its history one after the other.
+ */
+@Component
+public class EmployeeHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeHistoryWriter.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EmployeeHistoryStore store;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        // Microseconds, the precision of employee_history.recorded_from
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        store.recordChange(event.employeeId(), event.type(), LocalDate.now(), now);
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        int opened = store.recordMissing(LocalDate.now(), Instant.now().truncatedTo(ChronoUnit.MICROS));
+        log.info("Opened the history of {} bulk-loaded employees", opened);
+    }
+}
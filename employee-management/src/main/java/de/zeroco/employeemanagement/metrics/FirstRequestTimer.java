@@ -0,0 +1,51 @@
+package de.zeroco.employeemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures time-to-first-request: from JVM start until the first HTTP response has been written, published
+ * as {@code app.startup.time-to-first-request} and logged once. Unlike {@code application.ready.time} it
+ * includes everything the first caller has to wait for (lazy beans, first Hibernate session, JIT).
+ */
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "app.startup.time-to-first-request";
+
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestTimer.class);
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!recorded.get() && recorded.compareAndSet(false, true)) {
+                long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                TimeGauge.builder(METRIC_NAME, () -> millis, TimeUnit.MILLISECONDS)
+                        .description("Time from JVM start until the first HTTP response")
+                        .register(meterRegistry);
+                log.info("Time to first request: {} ms ({} {})", millis, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package de.zeroco.employeemanagement.metrics;
+
+import de.zeroco.employeemanagement.model.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hit-rate metrics of the Hibernate second-level cache regions, read from Hibernate's statistics
+ * ({@code hibernate.generate_statistics=true}):
+ * {@code app.hibernate.cache.gets} (tags region, result=hit|miss), {@code app.hibernate.cache.puts} and
+ * {@code app.hibernate.cache.hit.ratio}.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, CacheRegions.DEPARTMENT, statistics::getDomainDataRegionStatistics);
+        bind(registry, CacheRegions.PROJECT, statistics::getDomainDataRegionStatistics);
+        bind(registry, CacheRegions.REFERENCE_QUERIES, statistics::getQueryRegionStatistics);
+    }
+
+    private void bind(MeterRegistry registry, String region, Function<String, CacheRegionStatistics> lookup) {
+        FunctionCounter.builder("app.hibernate.cache.gets", statistics,
+                        count(region, lookup, CacheRegionStatistics::getHitCount))
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("app.hibernate.cache.gets", statistics,
+                        count(region, lookup, CacheRegionStatistics::getMissCount))
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("app.hibernate.cache.puts", statistics,
+                        count(region, lookup, CacheRegionStatistics::getPutCount))
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("app.hibernate.cache.hit.ratio", statistics, stats -> {
+                    CacheRegionStatistics regionStatistics = lookup.apply(region);
+                    if (regionStatistics == null) {
+                        return Double.NaN;
+                    }
+                    long gets = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+                    return gets == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / gets;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<Statistics> count(String region, Function<String, CacheRegionStatistics> lookup,
+                                                      ToDoubleFunction<CacheRegionStatistics> metric) {
+        return stats -> {
+            CacheRegionStatistics regionStatistics = lookup.apply(region);
+            return regionStatistics == null ? 0 : metric.applyAsDouble(regionStatistics);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package de.zeroco.employeemanagement.metrics;
+
+/**
+ * Number of SQL statements executed on the current thread, incremented by {@link StatementCountingDataSource}
+ * for every statement that reaches the database, whether issued by Hibernate or by a {@code JdbcTemplate}.
+ * A static thread-local, so that filters and tests can read it without a reference to the data source.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private SqlStatementCounter() {
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
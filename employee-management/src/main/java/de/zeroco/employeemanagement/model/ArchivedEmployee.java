@@ -0,0 +1,57 @@
+package de.zeroco.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A former employee in the {@code employee_archive} table, moved there some time after the termination.
+ * Written and read with plain JDBC by the {@code archive} package; mapped so that the schema is validated and
+ * generated like every other table.
+ */
+@Entity
+@Table(name = "employee_archive",
+       indexes = @Index(name = "idx_employee_archive_termination_date", columnList = "terminationDate, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEmployee {
+
+    /** The id the employee had, unchanged. */
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String role;
+
+    private Double salary;
+
+    private LocalDate dateOfBirth;
+
+    private String email;
+
+    private String phoneNumber;
+
+    private LocalDate hireDate;
+
+    private String address;
+
+    private Long departmentId;
+
+    private Long managerId;
+
+    /** Comma-separated ids of the projects the employee was assigned to. */
+    @Column(length = 4000)
+    private String projectIds;
+
+    @Column(nullable = false)
+    private LocalDate terminationDate;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,15 @@
+package de.zeroco.employeemanagement.model;
+
+/**
+ * Hibernate second-level cache regions, configured in {@code ehcache.xml}.
+ */
+public final class CacheRegions {
+
+    public static final String DEPARTMENT = "department";
+    public static final String PROJECT = "project";
+    /** Results of the cacheable reference-data queries (all departments, all projects). */
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    private CacheRegions() {
+    }
+}
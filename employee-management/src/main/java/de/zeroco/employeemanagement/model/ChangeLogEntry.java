@@ -0,0 +1,58 @@
+package de.zeroco.employeemanagement.model;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * One committed change in the {@code change_log} table. Written and read with plain JDBC by
+ * {@code ChangeLog}; mapped so that the schema is validated and generated like every other table.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_changed_at", columnList = "changedAt"),
+        @Index(name = "idx_change_log_type_id", columnList = "entityType, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    public enum EntityType {
+        EMPLOYEE,
+        DEPARTMENT,
+        PROJECT,
+        /** Rows were written around the services; every derived view must be rebuilt. */
+        ALL
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // not a native MySQL ENUM, so adding entity types needs no schema change
+    @Column(nullable = false, length = 32)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    /** {@code app.node-id} of the node that committed the change; {@code null} for entries written before V5. */
+    @Column(length = 64)
+    private String nodeId;
+}
@@ -8,11 +8,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENT) // reference data, see ehcache.xml
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +34,8 @@ public class Department {
     @Schema(description = "Name of the department.", example = "Human Resources", required = true)
     private String name;
 
-    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Not cascaded: members are terminated and archived by DepartmentService, never deleted
+    @OneToMany(mappedBy = "department", fetch = FetchType.LAZY)
     @Schema(description = "Set of employees belonging to this department.", accessMode = Schema.AccessMode.READ_ONLY)
     private Set<Employee> employees;
 }
@@ -3,14 +3,28 @@ package de.zeroco.employeemanagement.model;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        // Default reads are restricted to active employees, pages ordered by id
+        @Index(name = "idx_employee_status_id", columnList = "status, id"),
+        // Archival finds the long-terminated employees
+        @Index(name = "idx_employee_status_termination_date", columnList = "status, terminationDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -60,6 +74,7 @@ public class Employee {
 
     @NotNull // Enforced at service layer for creation/update
     @ManyToOne
+    @Fetch(FetchMode.SELECT) // resolved from the second-level cache instead of joining the department table
     @JoinColumn(name = "department_id")
     @Schema(description = "Department to which the employee belongs. Must provide department ID for new/updated employees.", required = true)
     private Department department;
@@ -76,4 +91,31 @@ public class Employee {
             inverseJoinColumns = { @JoinColumn(name = "project_id") })
     @Schema(description = "Set of projects the employee is assigned to. Provide project IDs for new/updated assignments.")
     private Set<Project> projects = new java.util.HashSet<>();
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    @ColumnDefault("'ACTIVE'")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Employment status; DELETE terminates an employee.", example = "ACTIVE", accessMode = Schema.AccessMode.READ_ONLY)
+    private EmployeeStatus status = EmployeeStatus.ACTIVE;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Date of the termination; absent for active employees.", example = "2024-09-30", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate terminationDate;
+
+    /** An active employee with the given details. */
+    public Employee(Long id, String name, String role, Double salary, LocalDate dateOfBirth, String email,
+                    String phoneNumber, LocalDate hireDate, String address, Department department, Employee manager,
+                    Set<Project> projects) {
+        this(id, name, role, salary, dateOfBirth, email, phoneNumber, hireDate, address, department, manager, projects,
+                EmployeeStatus.ACTIVE, null);
+    }
+
+    /** Whether the employee is still employed. Default reads only return active employees. */
+    @JsonIgnore
+    public boolean isActive() {
+        return status == EmployeeStatus.ACTIVE;
+    }
 }
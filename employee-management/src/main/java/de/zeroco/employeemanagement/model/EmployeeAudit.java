@@ -0,0 +1,55 @@
+package de.zeroco.employeemanagement.model;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * One compacted audit record in the {@code employee_audit} table. Written and read with plain JDBC by the
+ * {@code audit} package; mapped so that the schema is validated and generated like every other table.
+ */
+@Entity
+@Table(name = "employee_audit",
+       uniqueConstraints = @UniqueConstraint(name = "uk_employee_audit_journal_sequence", columnNames = {"journalId", "journalSequence"}),
+       indexes = @Index(name = "idx_employee_audit_employee", columnList = "employeeId, occurredAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Journal (node) that recorded the change. */
+    @Column(nullable = false, length = 36)
+    private String journalId;
+
+    /** Position in that journal. */
+    @Column(nullable = false)
+    private Long journalSequence;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private ChangeType action;
+
+    @Column(length = 100)
+    private String actor;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    /** JSON array of {@code {field, before, after}}. */
+    @Column(nullable = false, length = 8000)
+    private String changes;
+}
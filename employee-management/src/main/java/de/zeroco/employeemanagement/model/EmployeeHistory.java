@@ -0,0 +1,69 @@
+package de.zeroco.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One version of an employee in the bitemporal {@code employee_history} table. Written and read with plain JDBC
+ * by the {@code history} package; mapped so that the schema is validated and generated like every other table.
+ * Open ends of both periods are stored as 9999-12-31.
+ */
+@Entity
+@Table(name = "employee_history", indexes = {
+        @Index(name = "idx_employee_history_employee", columnList = "employeeId, recordedTo, validFrom"),
+        @Index(name = "idx_employee_history_department_to", columnList = "departmentId, recordedTo, validTo"),
+        @Index(name = "idx_employee_history_department_from", columnList = "departmentId, recordedTo, validFrom")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    private String name;
+
+    private String role;
+
+    private Double salary;
+
+    private LocalDate dateOfBirth;
+
+    private String email;
+
+    private String phoneNumber;
+
+    private LocalDate hireDate;
+
+    private String address;
+
+    private Long departmentId;
+
+    private Long managerId;
+
+    /** First day on which this version was true. */
+    @Column(nullable = false)
+    private LocalDate validFrom;
+
+    /** Day after the last day on which this version was true. */
+    @Column(nullable = false)
+    private LocalDate validTo;
+
+    /** When this version was recorded. */
+    @Column(nullable = false)
+    private Instant recordedFrom;
+
+    /** When this version was superseded by a later write. */
+    @Column(nullable = false)
+    private Instant recordedTo;
+}
@@ -0,0 +1,7 @@
+package de.zeroco.employeemanagement.model;
+
+/** Employment status. Terminated employees are kept for retention and later moved to the archive. */
+public enum EmployeeStatus {
+    ACTIVE,
+    TERMINATED
+}
@@ -0,0 +1,28 @@
+package de.zeroco.employeemanagement.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Stores a set of entity types as a comma-separated column, e.g. {@code EMPLOYEE,DEPARTMENT}. */
+@Converter
+public class EntityTypeSetConverter implements AttributeConverter<Set<ChangeLogEntry.EntityType>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<ChangeLogEntry.EntityType> types) {
+        return types == null ? "" : types.stream().sorted().map(Enum::name).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<ChangeLogEntry.EntityType> convertToEntityAttribute(String column) {
+        Set<ChangeLogEntry.EntityType> types = EnumSet.noneOf(ChangeLogEntry.EntityType.class);
+        if (column != null && !column.isBlank()) {
+            Arrays.stream(column.split(",")).map(String::trim).map(ChangeLogEntry.EntityType::valueOf).forEach(types::add);
+        }
+        return types;
+    }
+}
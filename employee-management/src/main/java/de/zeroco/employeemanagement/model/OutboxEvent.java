@@ -0,0 +1,43 @@
+package de.zeroco.employeemanagement.model;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * One undelivered row of the {@code outbox_event} table. Written and relayed with plain JDBC by the
+ * {@code outbox} package; mapped so that the schema is validated and generated like every other table.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    private ChangeLogEntry.EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,30 @@
+package de.zeroco.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The single row of the {@code outbox_relay_lease} table: which node's relay delivers the outbox, and until when.
+ * Taken and renewed with plain JDBC by the {@code outbox} package; mapped so that the schema is validated and
+ * generated like every other table.
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayLease {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
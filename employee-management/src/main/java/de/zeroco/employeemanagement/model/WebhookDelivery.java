@@ -0,0 +1,61 @@
+package de.zeroco.employeemanagement.model;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * One queued event for one webhook subscription in the {@code webhook_delivery} table. Written and delivered
+ * with plain JDBC by the {@code webhook} package; mapped so that the schema is validated and generated like
+ * every other table.
+ */
+@Entity
+@Table(name = "webhook_delivery",
+       indexes = @Index(name = "idx_webhook_delivery_due", columnList = "subscriptionId, nextAttemptAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long subscriptionId;
+
+    /** Outbox id of the event, the same for every subscription and redelivery. */
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    private ChangeLogEntry.EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    /** {@code null} once the delivery has been given up (dead letter). */
+    private Instant nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
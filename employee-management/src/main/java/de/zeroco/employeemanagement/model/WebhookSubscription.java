@@ -0,0 +1,58 @@
+package de.zeroco.employeemanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Entity
+@Table(name = "webhook_subscription")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "An HTTP endpoint that receives batches of entity change events.")
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Schema(description = "Unique identifier of the subscription.", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 2048)
+    @Pattern(regexp = "https?://.+", message = "must be an http or https URL")
+    @Column(nullable = false, length = 2048)
+    @Schema(description = "Endpoint that receives the events by POST.", example = "https://payroll.example.com/hooks/employees", required = true)
+    private String url;
+
+    @NotEmpty
+    @Convert(converter = EntityTypeSetConverter.class)
+    @Column(nullable = false)
+    @Schema(description = "Entity types to receive events for (EMPLOYEE, DEPARTMENT, PROJECT). Bulk loads (ALL) reach every subscription.", example = "[\"EMPLOYEE\"]", required = true)
+    private Set<ChangeLogEntry.EntityType> entityTypes;
+
+    @Size(max = 255)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    @Schema(description = "Optional shared secret; each request then carries an HMAC-SHA256 of its body in X-Webhook-Signature.")
+    private String secret;
+
+    @Min(1)
+    @Max(32)
+    @Column(nullable = false)
+    @Schema(description = "Maximum number of concurrent requests to this endpoint.", example = "2")
+    private int maxConcurrency = 2;
+
+    @Column(nullable = false)
+    @Schema(description = "Inactive subscriptions keep queueing events but are not delivered to.", example = "true")
+    private boolean active = true;
+}
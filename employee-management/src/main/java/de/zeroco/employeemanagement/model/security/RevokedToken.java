@@ -0,0 +1,25 @@
+package de.zeroco.employeemanagement.model.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_token", indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    // The JWT "jti" claim of the revoked token
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    // Copied from the token's "exp" claim; once passed the row can be purged, the token is rejected anyway
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,28 @@
+package de.zeroco.employeemanagement.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Delivers relayed messages to in-process subscribers: each message is published as an application event, so
+ * {@code @EventListener void on(OutboxMessage message)} receives it on the relay thread, in order.
+ */
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "application-events";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,14 @@
+package de.zeroco.employeemanagement.outbox;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+
+import java.time.Instant;
+
+/**
+ * A committed entity change relayed from the outbox. {@code id} increases per entity in commit order, so a
+ * consumer that sees an id it has already processed for the same entity can skip it (redelivery).
+ */
+public record OutboxMessage(long id, ChangeLogEntry.EntityType entityType, long entityId, ChangeType changeType,
+                            Instant createdAt) {
+}
@@ -0,0 +1,184 @@
+package de.zeroco.employeemanagement.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes the outbox to all {@link OutboxSink}s on a single background thread.
+ * <p>
+ * Each round fetches the oldest {@code batchSize} rows in id order, hands the same batch to every sink in turn
+ * and deletes the rows once all of them accepted it. A failing sink stops the round; the batch is retried with
+ * exponential backoff and nothing after it is delivered meanwhile, which keeps messages of an entity in order.
+ * Rows committed late with a lower id are simply picked up by the next round.
+ * <p>
+ * Growth is bounded by {@code maxPending}: when sinks fall that far behind, the oldest rows are discarded and
+ * counted in {@code app.outbox.discarded}. Consumers can then resynchronize from the change log.
+ * <p>
+ * Several relays would deliver the same rows and break the ordering, so relays on several nodes elect one:
+ * a round only runs while this relay holds the lease in {@code outbox_relay_lease}, which it renews for
+ * {@code leaseMs} every round and gives up on shutdown. The others poll for an expired lease. A round must
+ * finish well within {@code leaseMs}; a relay whose lease has lapsed stops delivering at its next round.
+ */
+public class OutboxRelay implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxStore store;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long maxRetryDelayMs;
+    private final long maxPending;
+    private final long leaseMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Map<String, Counter> published = new HashMap<>();
+    private final Map<String, Counter> failures = new HashMap<>();
+    private final Counter discarded;
+    private final Timer batchTimer;
+    private volatile boolean leader;
+    private volatile long pending;
+    private volatile Instant oldestPending;
+    private volatile Thread worker;
+
+    public OutboxRelay(OutboxStore store, List<OutboxSink> sinks, int batchSize, long pollIntervalMs,
+                       long maxRetryDelayMs, long maxPending, long leaseMs, MeterRegistry registry) {
+        this.store = store;
+        this.sinks = List.copyOf(sinks);
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxRetryDelayMs = maxRetryDelayMs;
+        this.maxPending = maxPending;
+        this.leaseMs = leaseMs;
+        this.discarded = Counter.builder("app.outbox.discarded").register(registry);
+        this.batchTimer = Timer.builder("app.outbox.relay.batch").register(registry);
+        bindMetrics(registry);
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        for (OutboxSink sink : sinks) {
+            published.put(sink.name(), Counter.builder("app.outbox.published").tag("sink", sink.name()).register(registry));
+            failures.put(sink.name(), Counter.builder("app.outbox.failures").tag("sink", sink.name()).register(registry));
+        }
+        Gauge.builder("app.outbox.pending", this, relay -> relay.pending).register(registry);
+        Gauge.builder("app.outbox.lag", this, OutboxRelay::lagSeconds).baseUnit("seconds").register(registry);
+        Gauge.builder("app.outbox.relay.leader", this, relay -> relay.leader ? 1 : 0).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        store.createRelayLease();
+        Thread thread = new Thread(this::run, "outbox-relay");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        long retryDelayMs = pollIntervalMs;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                int delivered = relayOnce();
+                retryDelayMs = pollIntervalMs;
+                if (delivered < batchSize) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Relaying the outbox failed, retrying in {} ms", retryDelayMs, e);
+                try {
+                    Thread.sleep(retryDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                retryDelayMs = Math.min(retryDelayMs * 2, maxRetryDelayMs);
+            }
+        }
+    }
+
+    /**
+     * Delivers one batch to all sinks; returns its size, 0 on a node that does not hold the lease. A sink failure
+     * is rethrown after counting it.
+     */
+    int relayOnce() {
+        Instant now = Instant.now();
+        leader = store.acquireRelayLease(owner, now, now.plusMillis(leaseMs));
+        if (!leader) {
+            // Another node relays; its gauges are the ones that count
+            pending = 0;
+            oldestPending = null;
+            return 0;
+        }
+        enforceBound();
+        List<OutboxMessage> batch = store.fetch(batchSize);
+        oldestPending = batch.isEmpty() ? null : batch.get(0).createdAt();
+        if (batch.isEmpty()) {
+            pending = 0;
+            return 0;
+        }
+        batchTimer.record(() -> {
+            for (OutboxSink sink : sinks) {
+                try {
+                    sink.publish(batch);
+                } catch (Exception e) {
+                    failures.get(sink.name()).increment();
+                    throw new IllegalStateException("Outbox sink " + sink.name() + " rejected " + batch.size()
+                            + " messages starting at id " + batch.get(0).id(), e);
+                }
+                published.get(sink.name()).increment(batch.size());
+            }
+            store.delete(batch.stream().map(OutboxMessage::id).toList());
+        });
+        return batch.size();
+    }
+
+    private void enforceBound() {
+        long estimate = store.pendingEstimate();
+        if (estimate > maxPending) {
+            // The id range overcounts after out-of-order deletes; only count when it might matter
+            estimate = store.count();
+            if (estimate > maxPending) {
+                long dropped = store.discardOldest(estimate - maxPending, batchSize);
+                discarded.increment(dropped);
+                log.error("Outbox exceeded {} undelivered messages, discarded the {} oldest", maxPending, dropped);
+                estimate -= dropped;
+            }
+        }
+        pending = estimate;
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis() / 1000.0);
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (leader) {
+            try {
+                store.releaseRelayLease(owner);
+            } catch (RuntimeException e) {
+                log.debug("Releasing the outbox relay lease failed; it expires by itself", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package de.zeroco.employeemanagement.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox messages. Every {@code OutboxSink} bean receives every batch, in id order;
+ * messages of one entity are never reordered. Throwing rejects the whole batch, which is then delivered again
+ * after a backoff (at-least-once), so implementations must tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    /** Used as the {@code sink} tag of the relay metrics. */
+    String name();
+
+    void publish(List<OutboxMessage> batch) throws Exception;
+}
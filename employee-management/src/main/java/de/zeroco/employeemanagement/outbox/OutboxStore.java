@@ -0,0 +1,113 @@
+package de.zeroco.employeemanagement.outbox;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the {@code outbox_event} table. Rows are inserted by {@link OutboxWriter} inside the writing
+ * transaction and deleted by the {@link OutboxRelay} once every sink has accepted them, so the table only holds
+ * what is still undelivered. The relay that may do so is elected with the lease in {@code outbox_relay_lease}.
+ * <p>
+ * The rows repeat what {@code change_log} records, but a cursor over the change log could not replace them: ids
+ * are assigned at insert, so a transaction committing after a later one leaves a lower id behind a cursor that
+ * has already moved past it, and the change log is pruned by age whether or not the sinks have caught up.
+ */
+public class OutboxStore {
+
+    private static final int DELETE_CHUNK = 500;
+    private static final int LEASE_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(ChangeLogEntry.EntityType entityType, long entityId, ChangeType changeType) {
+        jdbcTemplate.update("INSERT INTO outbox_event (entity_type, entity_id, change_type, created_at) VALUES (?, ?, ?, ?)",
+                entityType.name(), entityId, changeType.name(), Timestamp.from(Instant.now()));
+    }
+
+    /** The oldest undelivered messages, in id order. */
+    public List<OutboxMessage> fetch(int limit) {
+        return jdbcTemplate.query("SELECT id, entity_type, entity_id, change_type, created_at FROM outbox_event"
+                + " ORDER BY id LIMIT ?", (rs, i) -> map(rs), limit);
+    }
+
+    public void delete(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK, ids.size()));
+            String in = " IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.update("DELETE FROM outbox_event WHERE id" + in, chunk.toArray());
+        }
+    }
+
+    /** Creates the row of the relay lease, expired, unless another relay already has. */
+    public void createRelayLease() {
+        try {
+            jdbcTemplate.update("INSERT INTO outbox_relay_lease (id, owner, expires_at) VALUES (?, ?, ?)",
+                    LEASE_ID, "", Timestamp.from(Instant.EPOCH));
+        } catch (DuplicateKeyException e) {
+            // Created by an earlier start or by another node
+        }
+    }
+
+    /**
+     * Takes or renews the relay lease for {@code owner} until {@code until}; returns {@code false} while another
+     * owner holds a lease that has not expired at {@code now}.
+     */
+    public boolean acquireRelayLease(String owner, Instant now, Instant until) {
+        return jdbcTemplate.update("UPDATE outbox_relay_lease SET owner = ?, expires_at = ?"
+                        + " WHERE id = ? AND (owner = ? OR expires_at <= ?)",
+                owner, Timestamp.from(until), LEASE_ID, owner, Timestamp.from(now)) == 1;
+    }
+
+    /** Gives up the relay lease of {@code owner}, so that another node can take over right away. */
+    public void releaseRelayLease(String owner) {
+        jdbcTemplate.update("UPDATE outbox_relay_lease SET expires_at = ? WHERE id = ? AND owner = ?",
+                Timestamp.from(Instant.EPOCH), LEASE_ID, owner);
+    }
+
+    /** Upper bound of the undelivered rows, from the primary key range instead of a full count. */
+    public long pendingEstimate() {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS low, MAX(id) AS high FROM outbox_event");
+        Number low = (Number) range.get("low");
+        Number high = (Number) range.get("high");
+        return low == null ? 0 : high.longValue() - low.longValue() + 1;
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /** Deletes the {@code rows} oldest messages in id-range batches; returns how many were deleted. */
+    public long discardOldest(long rows, int batchSize) {
+        long discarded = 0;
+        while (discarded < rows) {
+            Long upTo = jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT id FROM outbox_event ORDER BY id LIMIT ?) oldest",
+                    Long.class, (int) Math.min(batchSize, rows - discarded));
+            if (upTo == null) {
+                break;
+            }
+            discarded += jdbcTemplate.update("DELETE FROM outbox_event WHERE id <= ?", upTo);
+        }
+        return discarded;
+    }
+
+    private static OutboxMessage map(ResultSet rs) throws SQLException {
+        return new OutboxMessage(rs.getLong("id"), ChangeLogEntry.EntityType.valueOf(rs.getString("entity_type")),
+                rs.getLong("entity_id"), ChangeType.valueOf(rs.getString("change_type")),
+                rs.getTimestamp("created_at").toInstant());
+    }
+}
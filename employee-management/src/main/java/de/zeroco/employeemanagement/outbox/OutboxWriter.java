@@ -0,0 +1,58 @@
+package de.zeroco.employeemanagement.outbox;
+
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes the service change events to the outbox in the same transaction as the change, so a message exists
+ * if and only if the change committed.
+ * <p>
+ * The pending entity changes are flushed before the outbox row is inserted. The flush takes the row locks of
+ * the changed entities, so a concurrent write of the same entity can only insert its outbox row after this
+ * transaction has committed: per entity, outbox ids follow commit order.
+ */
+public class OutboxWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final OutboxStore store;
+
+    public OutboxWriter(OutboxStore store) {
+        this.store = store;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        write(ChangeLogEntry.EntityType.EMPLOYEE, event.employeeId(), event.type());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        ChangeLogEntry.EntityType entityType = event.entityType() == Department.class
+                ? ChangeLogEntry.EntityType.DEPARTMENT : ChangeLogEntry.EntityType.PROJECT;
+        write(entityType, event.id(), event.type());
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        store.insert(ChangeLogEntry.EntityType.ALL, 0, ChangeType.UPDATED);
+    }
+
+    private void write(ChangeLogEntry.EntityType entityType, long entityId, ChangeType changeType) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        store.insert(entityType, entityId, changeType);
+    }
+}
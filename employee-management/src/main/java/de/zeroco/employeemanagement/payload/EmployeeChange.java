@@ -0,0 +1,35 @@
+package de.zeroco.employeemanagement.payload;
+
+import de.zeroco.employeemanagement.model.Employee;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class EmployeeChange {
+
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    @Schema(description = "ID of the changed employee.", example = "42")
+    public Long id;
+
+    @Schema(description = "UPSERT: store the given employee. DELETE: tombstone, remove the employee from the replica.")
+    public Type type;
+
+    @Schema(description = "Current state of the employee; null for tombstones.")
+    public Employee employee;
+
+    public EmployeeChange(Long id, Type type, Employee employee) {
+        this.id = id;
+        this.type = type;
+        this.employee = employee;
+    }
+
+    public static EmployeeChange upsert(Employee employee) {
+        return new EmployeeChange(employee.getId(), Type.UPSERT, employee);
+    }
+
+    public static EmployeeChange tombstone(Long id) {
+        return new EmployeeChange(id, Type.DELETE, null);
+    }
+}
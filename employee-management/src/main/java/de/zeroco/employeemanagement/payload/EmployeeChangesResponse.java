@@ -0,0 +1,22 @@
+package de.zeroco.employeemanagement.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class EmployeeChangesResponse {
+    @Schema(description = "Changed employees in change order, each at most once per page.")
+    public List<EmployeeChange> changes;
+
+    @Schema(description = "Opaque token to pass as 'since' in the next request.", example = "djE6MTIzNA")
+    public String nextToken;
+
+    @Schema(description = "True if more changes are available right away; request again with nextToken.")
+    public boolean hasMore;
+
+    public EmployeeChangesResponse(List<EmployeeChange> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,70 @@
+package de.zeroco.employeemanagement.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public class EmployeeVersion {
+
+    @Schema(description = "ID of the employee.", example = "42")
+    public Long employeeId;
+
+    @Schema(description = "Full name of the employee.", example = "John Doe")
+    public String name;
+
+    @Schema(description = "Role or position of the employee.", example = "Software Engineer")
+    public String role;
+
+    @Schema(description = "Salary of the employee.", example = "60000.00")
+    public Double salary;
+
+    @Schema(description = "Date of birth of the employee.", example = "1990-01-15")
+    public LocalDate dateOfBirth;
+
+    @Schema(description = "Email address of the employee.", example = "john.doe@example.com")
+    public String email;
+
+    @Schema(description = "Phone number of the employee.", example = "123-456-7890")
+    public String phoneNumber;
+
+    @Schema(description = "Date when the employee was hired.", example = "2021-06-01")
+    public LocalDate hireDate;
+
+    @Schema(description = "Residential address of the employee.", example = "123 Main St, Anytown, USA")
+    public String address;
+
+    @Schema(description = "ID of the employee's department.", example = "3")
+    public Long departmentId;
+
+    @Schema(description = "ID of the employee's manager; null if none.", example = "7")
+    public Long managerId;
+
+    @Schema(description = "First day on which these values applied.", example = "2024-03-01")
+    public LocalDate validFrom;
+
+    @Schema(description = "Day after the last day on which these values applied; null if they still apply.", example = "2024-09-15")
+    public LocalDate validTo;
+
+    @Schema(description = "When these values were recorded.", example = "2024-03-01T09:30:00Z")
+    public Instant recordedAt;
+
+    public EmployeeVersion(Long employeeId, String name, String role, Double salary, LocalDate dateOfBirth, String email,
+                           String phoneNumber, LocalDate hireDate, String address, Long departmentId, Long managerId,
+                           LocalDate validFrom, LocalDate validTo, Instant recordedAt) {
+        this.employeeId = employeeId;
+        this.name = name;
+        this.role = role;
+        this.salary = salary;
+        this.dateOfBirth = dateOfBirth;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.hireDate = hireDate;
+        this.address = address;
+        this.departmentId = departmentId;
+        this.managerId = managerId;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+        this.recordedAt = recordedAt;
+    }
+}
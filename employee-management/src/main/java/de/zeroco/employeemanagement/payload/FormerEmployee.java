@@ -0,0 +1,71 @@
+package de.zeroco.employeemanagement.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public class FormerEmployee {
+
+    @Schema(description = "ID the employee had.", example = "42")
+    public Long id;
+
+    @Schema(description = "Full name of the employee.", example = "John Doe")
+    public String name;
+
+    @Schema(description = "Last role or position of the employee.", example = "Software Engineer")
+    public String role;
+
+    @Schema(description = "Last salary of the employee.", example = "60000.00")
+    public Double salary;
+
+    @Schema(description = "Date of birth of the employee.", example = "1990-01-15")
+    public LocalDate dateOfBirth;
+
+    @Schema(description = "Email address of the employee.", example = "john.doe@example.com")
+    public String email;
+
+    @Schema(description = "Phone number of the employee.", example = "123-456-7890")
+    public String phoneNumber;
+
+    @Schema(description = "Date when the employee was hired.", example = "2021-06-01")
+    public LocalDate hireDate;
+
+    @Schema(description = "Residential address of the employee.", example = "123 Main St, Anytown, USA")
+    public String address;
+
+    @Schema(description = "ID of the employee's last department.", example = "3")
+    public Long departmentId;
+
+    @Schema(description = "ID of the employee's last manager; null if none.", example = "7")
+    public Long managerId;
+
+    @Schema(description = "IDs of the projects the employee was assigned to.")
+    public List<Long> projectIds;
+
+    @Schema(description = "Date of the termination.", example = "2024-09-30")
+    public LocalDate terminationDate;
+
+    @Schema(description = "When the employee was moved to the archive; null while still in the employee table.", example = "2025-10-01T02:00:00Z")
+    public Instant archivedAt;
+
+    public FormerEmployee(Long id, String name, String role, Double salary, LocalDate dateOfBirth, String email,
+                          String phoneNumber, LocalDate hireDate, String address, Long departmentId, Long managerId,
+                          List<Long> projectIds, LocalDate terminationDate, Instant archivedAt) {
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.salary = salary;
+        this.dateOfBirth = dateOfBirth;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.hireDate = hireDate;
+        this.address = address;
+        this.departmentId = departmentId;
+        this.managerId = managerId;
+        this.projectIds = projectIds;
+        this.terminationDate = terminationDate;
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package de.zeroco.employeemanagement.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshRequest {
+    @Schema(description = "Refresh token issued by /auth/login or a previous /auth/refresh.", required = true)
+    @NotBlank
+    public String refreshToken;
+}
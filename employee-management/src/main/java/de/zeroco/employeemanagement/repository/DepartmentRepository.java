@@ -1,9 +1,23 @@
 package de.zeroco.employeemanagement.repository;
 
+import de.zeroco.employeemanagement.model.CacheRegions;
 import de.zeroco.employeemanagement.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+
+    // Served from the query cache; invalidated by Hibernate whenever the department table is written through JPA
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
+    List<Department> findAll();
 }
@@ -1,12 +1,55 @@
 package de.zeroco.employeemanagement.repository;
 
 import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    // Declared query methods get no transaction from SimpleJpaRepository; read-only keeps them on a replica
+    @Transactional(readOnly = true)
     Optional<Employee> findByEmail(String email);
+
+    // Loads department, manager and projects in the same query instead of one lazy load per employee (N+1)
+    @Override
+    @EntityGraph(attributePaths = {"department", "manager", "projects"})
+    List<Employee> findAll();
+
+    // The status-restricted reads below serve the API, which only shows active employees (idx_employee_status_id)
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"department", "manager", "projects"})
+    List<Employee> findByStatus(EmployeeStatus status);
+
+    // A List instead of a Page: no count query
+    @Transactional(readOnly = true)
+    List<Employee> findByStatus(EmployeeStatus status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    boolean existsByIdAndStatus(Long id, EmployeeStatus status);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"department", "manager", "projects"})
+    List<Employee> findByDepartmentIdAndStatusOrderById(Long departmentId, EmployeeStatus status);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"department", "manager", "projects"})
+    List<Employee> findByManagerIdAndStatusOrderById(Long managerId, EmployeeStatus status);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"department", "manager", "projects"})
+    List<Employee> findByIdInAndStatus(Collection<Long> ids, EmployeeStatus status);
+
+    // Direct reports of the given managers (idx_employee_manager_id)
+    @Query("select e.id from Employee e where e.manager.id in :managerIds")
+    List<Long> findIdsByManagerIdIn(@Param("managerIds") Collection<Long> managerIds);
 }
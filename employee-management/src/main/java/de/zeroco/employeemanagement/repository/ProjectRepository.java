@@ -1,9 +1,23 @@
 package de.zeroco.employeemanagement.repository;
 
+import de.zeroco.employeemanagement.model.CacheRegions;
 import de.zeroco.employeemanagement.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    // Served from the query cache; invalidated by Hibernate whenever the project table is written through JPA
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
+    List<Project> findAll();
 }
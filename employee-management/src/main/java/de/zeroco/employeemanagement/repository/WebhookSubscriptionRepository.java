@@ -0,0 +1,17 @@
+package de.zeroco.employeemanagement.repository;
+
+import de.zeroco.employeemanagement.model.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    // Queued and dead-lettered deliveries of a removed subscription
+    @Modifying
+    @Query("delete from WebhookDelivery d where d.subscriptionId = :subscriptionId")
+    int deleteDeliveries(@Param("subscriptionId") Long subscriptionId);
+}
@@ -0,0 +1,29 @@
+package de.zeroco.employeemanagement.repository.security;
+
+import de.zeroco.employeemanagement.model.security.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") Instant now);
+
+    // A plain INSERT rather than save(), which would merge: a second insert of the same id fails on the primary key
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO revoked_token (token_id, expires_at) VALUES (:tokenId, :expiresAt)", nativeQuery = true)
+    int insert(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
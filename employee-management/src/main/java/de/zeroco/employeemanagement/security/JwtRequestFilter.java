@@ -1,5 +1,9 @@
 package de.zeroco.employeemanagement.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,19 +27,44 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // The application's registry, as for every other meter; absent in web slice tests without metrics
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            authenticate(request);
+        } else {
+            Timer.Sample sample = Timer.start(registry);
+            String outcome = authenticate(request);
+            sample.stop(registry.timer("app.security.jwt.filter", "outcome", outcome));
+        }
+        chain.doFilter(request, response);
+    }
 
+    // Returns the outcome tag for the filter timer: anonymous, authenticated or rejected
+    private String authenticate(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
         String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // One signature check per request; type, id, subject and expiry all come from these claims
+                claims = jwtUtil.parseClaims(jwt);
+                // Refresh tokens are only accepted by /auth/refresh, and revoked (logged out) tokens not at all
+                if (!jwtUtil.isRefreshToken(claims) && !tokenRevocationService.isRevoked(claims.getId())) {
+                    username = claims.getSubject();
+                }
             } catch (Exception e) {
                 // e.g. token expired or invalid
                 logger.warn("JWT token processing error: " + e.getMessage());
@@ -44,14 +73,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsServiceImpl.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
                         .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+                return "authenticated";
             }
         }
-        chain.doFilter(request, response);
+        return jwt == null ? "anonymous" : "rejected";
     }
 }
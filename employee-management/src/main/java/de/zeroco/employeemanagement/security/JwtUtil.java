@@ -1,6 +1,7 @@
 package de.zeroco.employeemanagement.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,6 +14,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.Base64;
 
@@ -25,8 +27,19 @@ public class JwtUtil {
     @Value("${jwt.expirationMs}")
     private long expirationMs;
 
+    @Value("${jwt.refreshExpirationMs}")
+    private long refreshExpirationMs;
+
+    // Value of the "typ" claim, so a refresh token can never be used as an access token and vice versa
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private SecretKey secretKey;
 
+    // Immutable and thread-safe; building one per call costs more than the parsing itself
+    private JwtParser parser;
+
     // Initialize the key once it's read from properties
     @PostConstruct
     private void init() {
@@ -51,6 +64,7 @@ public class JwtUtil {
             throw new IllegalArgumentException("JWT secret key is too short. Must be at least 256 bits (32 bytes) for HS256, preferably Base64 encoded.");
         }
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     }
 
 
@@ -62,13 +76,29 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    public String extractTokenType(String token) {
+        return extractClaim(token, claims -> claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifies the signature and expiry once and returns all claims, for callers that need several of them.
+     * Throws a {@link io.jsonwebtoken.JwtException} for an invalid or expired token.
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
     }
 
     private Boolean isTokenExpired(String token) {
@@ -79,15 +109,24 @@ public class JwtUtil {
         Map<String, Object> claims = new HashMap<>();
         // You can add more claims here, like roles
         claims.put("roles", userDetails.getAuthorities());
-        return createToken(claims, userDetails.getUsername());
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        return createToken(claims, userDetails.getUsername(), expirationMs);
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    // Refresh tokens carry no roles; they are only exchanged for a new access token via /auth/refresh
+    public String generateRefreshToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        return createToken(claims, userDetails.getUsername(), refreshExpirationMs);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, long validityMs) {
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
+                .setExpiration(new Date(System.currentTimeMillis() + validityMs))
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -96,4 +135,17 @@ public class JwtUtil {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
+
+    /** Like {@link #validateToken(String, UserDetails)}, on claims that were already parsed and verified. */
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !claims.getExpiration().before(new Date());
+    }
+
+    public boolean isRefreshToken(String token) {
+        return REFRESH_TOKEN_TYPE.equals(extractTokenType(token));
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
 }
@@ -0,0 +1,129 @@
+package de.zeroco.employeemanagement.security;
+
+import de.zeroco.employeemanagement.model.security.RevokedToken;
+import de.zeroco.employeemanagement.repository.security.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks revoked JWTs by their "jti". Revocations are persisted in {@code revoked_token}, while the
+ * per-request check goes through an in-memory Bloom filter so that the common case (token not revoked)
+ * costs no database query. Only a Bloom filter hit is confirmed against the table.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expectedTokens:100000}")
+    private int expectedTokens;
+
+    @Value("${jwt.revocation.falsePositiveRate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter revokedTokenIds;
+
+    // Ids revoked while a rebuild runs, re-added to its filter after the swap: its snapshot may predate them
+    private volatile Set<String> revokedDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return; // nothing to track, an expired token is already rejected
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        // Once committed: a rebuild reading its snapshot after that finds the row, any other one the id
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(tokenId);
+                }
+            });
+        } else {
+            remember(tokenId);
+        }
+    }
+
+    /**
+     * Revokes the token unless it already is revoked, in a single insert: of several concurrent calls with the same
+     * token id, exactly one returns {@code true}. Used for refresh token rotation, where the revocation is the check.
+     */
+    public boolean revokeOnce(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            return false;
+        }
+        try {
+            revokedTokenRepository.insert(tokenId, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            return false; // revoked before, or by a concurrent call
+        }
+        remember(tokenId);
+        return true;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!revokedTokenIds.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(tokenId);
+    }
+
+    // Purges expired rows and rebuilds the filter (a Bloom filter cannot remove entries). The rebuild also
+    // picks up revocations written by other instances that share the database.
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuildIntervalMs:60000}", initialDelayString = "${jwt.revocation.rebuildIntervalMs:60000}")
+    @Transactional
+    public void purgeAndRebuild() {
+        int purged = revokedTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired revoked tokens", purged);
+        }
+        rebuild();
+    }
+
+    // Registered before the filter is updated: if a rebuild nulls the set first, it has already swapped in its
+    // filter, which the put below then reaches
+    private void remember(String tokenId) {
+        Set<String> pending = revokedDuringRebuild;
+        if (pending != null) {
+            pending.add(tokenId);
+        }
+        revokedTokenIds.put(tokenId);
+    }
+
+    private synchronized void rebuild() {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        revokedDuringRebuild = pending;
+        List<String> activeIds = revokedTokenRepository.findActiveTokenIds(Instant.now());
+        BloomFilter filter = new BloomFilter(Math.max(expectedTokens, activeIds.size() * 2), falsePositiveRate);
+        activeIds.forEach(filter::put);
+        this.revokedTokenIds = filter;
+        revokedDuringRebuild = null;
+        pending.forEach(filter::put);
+    }
+}
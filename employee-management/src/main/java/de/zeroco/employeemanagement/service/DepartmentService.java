@@ -1,11 +1,19 @@
 package de.zeroco.employeemanagement.service;
 
+import de.zeroco.employeemanagement.archive.EmployeeArchive;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
 import de.zeroco.employeemanagement.repository.DepartmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,29 +23,56 @@ public class DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeArchive employeeArchive;
+
+    @Transactional
     public Department createDepartment(Department department) {
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Department.class, saved.getId(), ChangeType.CREATED));
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentById(Long id) {
         return departmentRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
 
+    @Transactional
     public Department updateDepartment(Long id, Department departmentDetails) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
         department.setName(departmentDetails.getName());
         // We are not updating employees from here, that should be handled via EmployeeService or direct employee updates.
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Department.class, id, ChangeType.UPDATED));
+        return saved;
     }
 
+    @Transactional
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
+        // Members are terminated like any other employee, then archived right away: the archive has no foreign
+        // key on the department, while the employee table does
+        List<Employee> members = department.getEmployees() == null ? List.of() : List.copyOf(department.getEmployees());
+        members.stream().filter(Employee::isActive).forEach(member -> employeeService.deleteEmployee(member.getId()));
+        if (!members.isEmpty()) {
+            employeeArchive.archive(members.stream().map(Employee::getId).toList(),
+                    Instant.now().truncatedTo(ChronoUnit.MICROS));
+        }
         departmentRepository.delete(department);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Department.class, id, ChangeType.DELETED));
     }
 }
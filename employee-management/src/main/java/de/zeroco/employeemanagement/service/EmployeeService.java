@@ -1,20 +1,33 @@
 package de.zeroco.employeemanagement.service;
 
+import de.zeroco.employeemanagement.audit.AuditLog;
+import de.zeroco.employeemanagement.audit.AuditedFields;
+import de.zeroco.employeemanagement.directory.EmployeeDirectory;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
 import de.zeroco.employeemanagement.exception.DuplicateEmailException;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.history.EmployeeHistoryStore;
 import de.zeroco.employeemanagement.model.Department;
 import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
 import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
 import de.zeroco.employeemanagement.repository.DepartmentRepository;
 import de.zeroco.employeemanagement.repository.EmployeeRepository;
 import de.zeroco.employeemanagement.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,6 +35,9 @@ import java.util.stream.Collectors;
 @Service
 public class EmployeeService {
 
+    /** Upper bound for the page size of {@link #getEmployeesPage(int, int)}. */
+    public static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -31,6 +47,20 @@ public class EmployeeService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EmployeeHistoryStore employeeHistoryStore;
+
+    // Present with app.directory.enabled=true
+    @Autowired(required = false)
+    private EmployeeDirectory employeeDirectory;
+
+    // Present with app.audit.enabled=true
+    @Autowired(required = false)
+    private AuditLog auditLog;
+
     @Transactional
     public Employee createEmployee(Employee employee) {
         // Validate Email uniqueness
@@ -45,11 +75,13 @@ public class EmployeeService {
         Department department = departmentRepository.findById(employee.getDepartment().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + employee.getDepartment().getId()));
         employee.setDepartment(department);
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        employee.setTerminationDate(null);
 
 
         // Validate Manager
         if (employee.getManager() != null && employee.getManager().getId() != null) {
-            Employee manager = employeeRepository.findById(employee.getManager().getId())
+            Employee manager = employeeRepository.findById(employee.getManager().getId()).filter(Employee::isActive)
                     .orElseThrow(() -> new ResourceNotFoundException("Manager not found with id: " + employee.getManager().getId()));
             employee.setManager(manager);
         } else if (employee.getManager() != null && employee.getManager().getId() == null) {
@@ -75,21 +107,50 @@ public class EmployeeService {
             employee.setProjects(managedProjects);
         }
 
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        if (auditLog != null) {
+            auditLog.record(saved.getId(), ChangeType.CREATED, Map.of(), AuditedFields.of(saved));
+        }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(saved.getId(), ChangeType.CREATED));
+        return saved;
     }
 
+    // The directory-backed reads are not @Transactional: a directory hit must not check out a connection.
+    // The repository fallbacks run in their own read-only transactions.
     public Optional<Employee> getEmployeeById(Long id) {
-        return employeeRepository.findById(id);
+        if (employeeDirectory != null) {
+            Optional<Employee> employee = employeeDirectory.findById(id);
+            if (employee.isPresent()) {
+                return employee;
+            }
+        }
+        return employeeRepository.findById(id).filter(Employee::isActive);
     }
 
+    /** The employee as of {@code day}; with {@code knownAt}, as recorded at that instant rather than as known now. */
+    @Transactional(readOnly = true)
+    public EmployeeVersion getEmployeeAsOf(Long id, LocalDate day, Instant knownAt) {
+        return employeeHistoryStore.findAsOf(id, day, knownAt)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id + " as of " + day));
+    }
+
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+        return employeeRepository.findByStatus(EmployeeStatus.ACTIVE);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesPage(int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return employeeRepository.findByStatus(EmployeeStatus.ACTIVE, PageRequest.of(Math.max(0, page), pageSize, Sort.by("id")));
     }
 
     @Transactional
     public Employee updateEmployee(Long id, Employee employeeDetails) {
-        Employee employee = employeeRepository.findById(id)
+        Employee employee = employeeRepository.findById(id).filter(Employee::isActive)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        // Captured before the managed entity is modified below
+        Map<String, String> audited = auditLog != null ? AuditedFields.of(employee) : null;
 
         // Validate Email uniqueness if email is being changed
         if (!employee.getEmail().equals(employeeDetails.getEmail())) {
@@ -118,7 +179,7 @@ public class EmployeeService {
 
         // Update Manager
         if (employeeDetails.getManager() != null && employeeDetails.getManager().getId() != null) {
-            Employee manager = employeeRepository.findById(employeeDetails.getManager().getId())
+            Employee manager = employeeRepository.findById(employeeDetails.getManager().getId()).filter(Employee::isActive)
                     .orElseThrow(() -> new ResourceNotFoundException("Manager not found with id: " + employeeDetails.getManager().getId()));
             employee.setManager(manager);
         } else {
@@ -143,24 +204,81 @@ public class EmployeeService {
         }
 
 
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        if (auditLog != null) {
+            auditLog.record(id, ChangeType.UPDATED, audited, AuditedFields.of(saved));
+        }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(id, ChangeType.UPDATED));
+        return saved;
     }
 
+    /**
+     * Terminates the employee as of today instead of deleting the row, which is retained and moved to the archive
+     * later (see {@code EmployeeArchiver}). Terminated employees disappear from every read of this service, so
+     * the change is published as a deletion. Their direct reports are left without a manager.
+     */
+    @Transactional
     public void deleteEmployee(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        Employee employee = employeeRepository.findById(id).filter(Employee::isActive)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-        
-        // Consider implications:
-        // 1. If this employee is a manager to others, those employees' manager_id might need to be set to null.
-        //    For now, we'll rely on database constraints (e.g., ON DELETE SET NULL) or handle this in a more advanced version.
-        // 2. Employee-Project relationships in 'employee_project' table will be handled by JPA if CascadeType.REMOVE or orphanRemoval=true is on Project side,
-        //    or manually if needed. Current setup @ManyToMany doesn't automatically remove project associations upon employee deletion unless projects are explicitly removed from employee.getProjects() then saved.
-        //    The current @ManyToMany doesn't specify cascade remove, so join table entries will be removed.
-
-        employeeRepository.delete(employee);
+
+        for (Employee report : employeeRepository.findByManagerIdAndStatusOrderById(id, EmployeeStatus.ACTIVE)) {
+            Map<String, String> audited = auditLog != null ? AuditedFields.of(report) : null;
+            report.setManager(null);
+            if (auditLog != null) {
+                auditLog.record(report.getId(), ChangeType.UPDATED, audited, AuditedFields.of(report));
+            }
+            eventPublisher.publishEvent(new EmployeeChangedEvent(report.getId(), ChangeType.UPDATED));
+        }
+
+        if (auditLog != null) {
+            auditLog.record(id, ChangeType.DELETED, AuditedFields.of(employee), Map.of());
+        }
+        employee.setStatus(EmployeeStatus.TERMINATED);
+        employee.setTerminationDate(LocalDate.now());
+        employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(id, ChangeType.DELETED));
     }
 
     public Optional<Employee> getEmployeeByEmail(String email) {
-        return employeeRepository.findByEmail(email);
+        if (employeeDirectory != null) {
+            Optional<Employee> employee = employeeDirectory.findByEmail(email);
+            if (employee.isPresent()) {
+                return employee;
+            }
+        }
+        return employeeRepository.findByEmail(email).filter(Employee::isActive);
+    }
+
+    public List<Employee> getEmployeesByDepartment(Long departmentId) {
+        if (employeeDirectory != null) {
+            Optional<List<Employee>> employees = employeeDirectory.findByDepartment(departmentId);
+            if (employees.isPresent()) {
+                return employees.get();
+            }
+        }
+        if (departmentRepository.findById(departmentId).isEmpty()) {
+            throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+        }
+        return employeeRepository.findByDepartmentIdAndStatusOrderById(departmentId, EmployeeStatus.ACTIVE);
+    }
+
+    /** The members of the department as of {@code day}, see {@link #getEmployeeAsOf}; empty if it had none. */
+    @Transactional(readOnly = true)
+    public List<EmployeeVersion> getEmployeesByDepartmentAsOf(Long departmentId, LocalDate day, Instant knownAt) {
+        return employeeHistoryStore.findByDepartmentAsOf(departmentId, day, knownAt);
+    }
+
+    public List<Employee> getDirectReports(Long managerId) {
+        if (employeeDirectory != null) {
+            Optional<List<Employee>> reports = employeeDirectory.findDirectReports(managerId);
+            if (reports.isPresent()) {
+                return reports.get();
+            }
+        }
+        if (!employeeRepository.existsByIdAndStatus(managerId, EmployeeStatus.ACTIVE)) {
+            throw new ResourceNotFoundException("Employee not found with id: " + managerId);
+        }
+        return employeeRepository.findByManagerIdAndStatusOrderById(managerId, EmployeeStatus.ACTIVE);
     }
 }
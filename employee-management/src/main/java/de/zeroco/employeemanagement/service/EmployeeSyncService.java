@@ -0,0 +1,124 @@
+package de.zeroco.employeemanagement.service;
+
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.exception.SyncTokenExpiredException;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
+import de.zeroco.employeemanagement.payload.EmployeeChange;
+import de.zeroco.employeemanagement.payload.EmployeeChangesResponse;
+import de.zeroco.employeemanagement.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync for client-side replicas of the employee list, served from the {@link ChangeLog}.
+ * <p>
+ * A sync token is a change log id. A page holds the employees with an entry after the token, each once, with
+ * their current state, or a tombstone if they were terminated or no longer exist. Because every page re-reads
+ * the current rows, entries are treated as "this employee changed", and applying a page twice is harmless.
+ * <p>
+ * Pages only reach up to {@link ChangeLog#stableId(Duration)}: ids are assigned at insert, so an entry younger
+ * than {@code app.employee-sync.commit-grace-ms} may still be followed by a lower id committing later. Tokens
+ * that cannot be answered exactly (pruned past, behind a bulk load, from another database) are rejected with
+ * {@link SyncTokenExpiredException}, and the client starts over with a full download.
+ */
+@Service
+public class EmployeeSyncService {
+
+    /** Upper bound for the page size of {@link #getChanges(String, int)}. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String TOKEN_PREFIX = "v1:";
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${app.employee-sync.commit-grace-ms:10000}")
+    private long commitGraceMs;
+
+    /**
+     * Changes after {@code since}, at most {@code limit} log entries. Without a token, returns no changes and a
+     * token for the current position: take it before the full download, then sync from it.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChangesResponse getChanges(String since, int limit) {
+        long stable = changeLog.stableId(Duration.ofMillis(commitGraceMs));
+        if (since == null || since.isBlank()) {
+            return new EmployeeChangesResponse(List.of(), encodeToken(stable), false);
+        }
+        long after = decodeToken(since);
+        if (after < changeLog.oldestId() - 1) {
+            throw new SyncTokenExpiredException("Changes after this sync token have been pruned; a full resync is required");
+        }
+        if (after > changeLog.currentWatermark().id()) {
+            throw new SyncTokenExpiredException("Sync token is ahead of the change log; a full resync is required");
+        }
+        if (after >= stable) {
+            return new EmployeeChangesResponse(List.of(), since, false);
+        }
+        if (!changeLog.range(ChangeLogEntry.EntityType.ALL, after, stable, 1).isEmpty()) {
+            throw new SyncTokenExpiredException("Employees were bulk loaded after this sync token; a full resync is required");
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ChangeLogEntry> entries = changeLog.range(ChangeLogEntry.EntityType.EMPLOYEE, after, stable, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+        long next = hasMore ? entries.get(entries.size() - 1).getId() : stable;
+
+        // One change per employee, positioned at its last entry in the page
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            ids.remove(entry.getEntityId());
+            ids.add(entry.getEntityId());
+        }
+        Map<Long, Employee> current = employeeRepository.findByIdInAndStatus(ids, EmployeeStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        List<EmployeeChange> changes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Employee employee = current.get(id);
+            changes.add(employee != null ? EmployeeChange.upsert(employee) : EmployeeChange.tombstone(id));
+        }
+        return new EmployeeChangesResponse(changes, encodeToken(next), hasMore);
+    }
+
+    static String encodeToken(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                long id = Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+                if (id >= 0) {
+                    return id;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // not Base64 or not a number: treated like a token of an unknown format
+        }
+        // Tokens of another format version cannot be resumed either
+        throw new SyncTokenExpiredException("Unrecognized sync token; a full resync is required");
+    }
+}
@@ -1,10 +1,14 @@
 package de.zeroco.employeemanagement.service;
 
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ReferenceDataChangedEvent;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import de.zeroco.employeemanagement.model.Project;
 import de.zeroco.employeemanagement.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,29 +19,42 @@ public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     public Project createProject(Project project) {
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Project.class, saved.getId(), ChangeType.CREATED));
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Project> getProjectById(Long id) {
         return projectRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Project> getAllProjects() {
         return projectRepository.findAll();
     }
 
+    @Transactional
     public Project updateProject(Long id, Project projectDetails) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         project.setName(projectDetails.getName());
         // We are not updating employees from here.
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Project.class, id, ChangeType.UPDATED));
+        return saved;
     }
 
+    @Transactional
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Project.class, id, ChangeType.DELETED));
     }
 }
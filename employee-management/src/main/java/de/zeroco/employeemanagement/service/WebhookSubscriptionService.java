@@ -0,0 +1,57 @@
+package de.zeroco.employeemanagement.service;
+
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.model.WebhookSubscription;
+import de.zeroco.employeemanagement.repository.WebhookSubscriptionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class WebhookSubscriptionService {
+
+    @Autowired
+    private WebhookSubscriptionRepository webhookSubscriptionRepository;
+
+    @Transactional
+    public WebhookSubscription createSubscription(WebhookSubscription subscription) {
+        subscription.setId(null);
+        return webhookSubscriptionRepository.save(subscription);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<WebhookSubscription> getSubscriptionById(Long id) {
+        return webhookSubscriptionRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookSubscription> getAllSubscriptions() {
+        return webhookSubscriptionRepository.findAll();
+    }
+
+    @Transactional
+    public WebhookSubscription updateSubscription(Long id, WebhookSubscription subscriptionDetails) {
+        WebhookSubscription subscription = webhookSubscriptionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook subscription not found with id: " + id));
+        subscription.setUrl(subscriptionDetails.getUrl());
+        subscription.setEntityTypes(subscriptionDetails.getEntityTypes());
+        if (subscriptionDetails.getSecret() != null) {
+            // The secret is write-only; omitting it keeps the current one
+            subscription.setSecret(subscriptionDetails.getSecret());
+        }
+        subscription.setMaxConcurrency(subscriptionDetails.getMaxConcurrency());
+        subscription.setActive(subscriptionDetails.isActive());
+        return webhookSubscriptionRepository.save(subscription);
+    }
+
+    @Transactional
+    public void deleteSubscription(Long id) {
+        WebhookSubscription subscription = webhookSubscriptionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook subscription not found with id: " + id));
+        webhookSubscriptionRepository.deleteDeliveries(id);
+        webhookSubscriptionRepository.delete(subscription);
+    }
+}
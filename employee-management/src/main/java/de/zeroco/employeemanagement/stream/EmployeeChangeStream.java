@@ -0,0 +1,243 @@
+package de.zeroco.employeemanagement.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.exception.StreamCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed employee changes to the subscribers of {@code GET /api/v1/employees/stream} as server-sent
+ * events.
+ * <p>
+ * Changes are coalesced per employee (last change wins) and flushed as one {@code changes} event every
+ * {@code batchIntervalMs}, serialized once for all subscribers. Events are notifications ("re-read these
+ * employees"); clients fetch the current state from the read endpoints or the delta sync.
+ * <p>
+ * Connections are asynchronous requests, so an open stream holds no thread. A small pool of sender threads
+ * writes the buffered events of whichever subscribers have some; each subscriber buffers at most
+ * {@code bufferSize} events and gets a {@code resync} event instead of the ones it could not keep up with (see
+ * {@link StreamSubscriber}). A bulk load or a cluster-wide invalidation sends {@code resync} to everyone.
+ */
+public class EmployeeChangeStream implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeStream.class);
+
+    static final StreamEvent RESYNC = new StreamEvent(null, "resync", "{}");
+    static final StreamEvent READY = new StreamEvent(null, "ready", "{}");
+
+    private final ObjectMapper objectMapper;
+    private final long batchIntervalMs;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long heartbeatMs;
+    private final long timeoutMs;
+
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<Long, ChangeType> pending = new LinkedHashMap<>();
+    private boolean resyncPending;
+    private long sequence;
+    private final ExecutorService senders;
+    private final Counter batches;
+    private final Counter resyncs;
+    private volatile Thread worker;
+
+    public EmployeeChangeStream(ObjectMapper objectMapper, long batchIntervalMs, int bufferSize, int maxSubscribers,
+                                long heartbeatMs, long timeoutMs, int senderThreads, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.batchIntervalMs = batchIntervalMs;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatMs = heartbeatMs;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-stream-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batches = Counter.builder("app.stream.batches").register(registry);
+        this.resyncs = Counter.builder("app.stream.resyncs").register(registry);
+        Gauge.builder("app.stream.subscribers", subscriberCount, AtomicInteger::get).register(registry);
+    }
+
+    /** Registers a new subscriber; its first event is {@code ready}. */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new StreamCapacityExceededException("Employee change stream is at its limit of " + maxSubscribers
+                    + " subscribers, retry later");
+        }
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, bufferSize, RESYNC, resyncs);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+        offer(subscriber, READY);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (pending) {
+            pending.remove(event.employeeId());
+            pending.put(event.employeeId(), event.type());
+        }
+    }
+
+    @EventListener
+    public void onBulkDataLoaded(BulkDataLoadedEvent event) {
+        requestResync();
+    }
+
+    @EventListener
+    public void onClusterChange(ClusterChangeEvent event) {
+        switch (event.entityType()) {
+            case EMPLOYEE -> onEmployeeChanged(new EmployeeChangedEvent(event.id(), event.type()));
+            case ALL -> requestResync();
+            default -> {
+                // Department and project changes are not part of the stream
+            }
+        }
+    }
+
+    private void requestResync() {
+        synchronized (pending) {
+            pending.clear();
+            resyncPending = true;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "employee-stream");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        long lastHeartbeat = System.currentTimeMillis();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(batchIntervalMs);
+                flush();
+                if (System.currentTimeMillis() - lastHeartbeat >= heartbeatMs) {
+                    heartbeat();
+                    lastHeartbeat = System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Flushing the employee change stream failed", e);
+            }
+        }
+    }
+
+    /** Sends the changes collected since the last flush as one event; returns the number of employees in it. */
+    int flush() {
+        List<Map<String, Object>> changes;
+        boolean resync;
+        long id;
+        synchronized (pending) {
+            if (pending.isEmpty() && !resyncPending) {
+                return 0;
+            }
+            changes = new ArrayList<>(pending.size());
+            pending.forEach((employeeId, type) -> changes.add(Map.of("id", employeeId, "type", type)));
+            resync = resyncPending;
+            pending.clear();
+            resyncPending = false;
+            id = ++sequence;
+        }
+        if (resync) {
+            broadcast(RESYNC);
+            return 0;
+        }
+        try {
+            broadcast(new StreamEvent(Long.toString(id), "changes", objectMapper.writeValueAsString(Map.of("changes", changes))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Serializing " + changes.size() + " employee changes failed", e);
+        }
+        batches.increment();
+        return changes.size();
+    }
+
+    private void heartbeat() {
+        for (StreamSubscriber subscriber : subscribers) {
+            if (subscriber.buffered() == 0) {
+                // Detects closed connections and keeps proxies from timing out idle ones
+                offer(subscriber, StreamEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    private void broadcast(StreamEvent event) {
+        for (StreamSubscriber subscriber : subscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    private void offer(StreamSubscriber subscriber, StreamEvent event) {
+        if (subscriber.offer(event)) {
+            try {
+                senders.execute(() -> subscriber.drain(this::remove));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.close();
+            }
+        }
+    }
+
+    private void remove(StreamSubscriber subscriber) {
+        subscriber.close();
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        senders.shutdownNow();
+        for (StreamSubscriber subscriber : subscribers) {
+            remove(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package de.zeroco.employeemanagement.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One server-sent event, serialized once and shared by all subscribers. A {@code null} name marks a comment,
+ * which clients ignore; it only keeps idle connections open.
+ */
+record StreamEvent(String id, String name, String data) {
+
+    static final StreamEvent HEARTBEAT = new StreamEvent(null, null, "keep-alive");
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (name == null) {
+            return SseEmitter.event().comment(data);
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+        return id != null ? event.id(id) : event;
+    }
+}
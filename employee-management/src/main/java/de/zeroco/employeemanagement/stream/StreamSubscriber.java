@@ -0,0 +1,99 @@
+package de.zeroco.employeemanagement.stream;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * One connected client: a bounded buffer of events and the emitter they are written to.
+ * <p>
+ * Events are written by a sender thread, one drain at a time per subscriber. When the buffer is full, the
+ * subscriber has fallen too far behind: the buffer is replaced by a single resync event and further events are
+ * dropped until that has been written. A slow client therefore costs at most {@code capacity} events of
+ * memory and never holds up the others.
+ */
+final class StreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final StreamEvent resync;
+    private final Counter resyncs;
+    private final ArrayDeque<StreamEvent> buffer;
+    private boolean overflowed;
+    private boolean draining;
+    private boolean closed;
+
+    StreamSubscriber(SseEmitter emitter, int capacity, StreamEvent resync, Counter resyncs) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.resync = resync;
+        this.resyncs = resyncs;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    synchronized int buffered() {
+        return buffer.size();
+    }
+
+    /** Buffers the event; returns whether the caller has to schedule a {@link #drain}. */
+    synchronized boolean offer(StreamEvent event) {
+        if (closed || overflowed) {
+            return false;
+        }
+        if (buffer.size() >= capacity) {
+            buffer.clear();
+            buffer.add(resync);
+            overflowed = true;
+            resyncs.increment();
+        } else {
+            buffer.add(event);
+        }
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * Writes the buffered events until the buffer is empty. Runs on a sender thread; a failed write closes the
+     * subscriber and reports it to {@code onClose}.
+     */
+    void drain(Consumer<StreamSubscriber> onClose) {
+        while (true) {
+            StreamEvent event;
+            synchronized (this) {
+                event = buffer.poll();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+                if (event == resync) {
+                    overflowed = false; // the client reloads at this point; later events apply again
+                }
+            }
+            try {
+                emitter.send(event.toSse());
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or emitter already completed
+                close();
+                emitter.completeWithError(e);
+                onClose.accept(this);
+                return;
+            }
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        draining = false;
+        buffer.clear();
+    }
+}
@@ -0,0 +1,17 @@
+package de.zeroco.employeemanagement.warmup;
+
+import org.springframework.boot.availability.ReadinessState;
+
+/**
+ * Outcome of a warm-up run. {@code readinessDuringWarmup} is the readiness state observed while warming up,
+ * which must be {@link ReadinessState#REFUSING_TRAFFIC} for the gating to be effective.
+ */
+public record WarmupReport(
+        ReadinessState readinessDuringWarmup,
+        int departments,
+        int projects,
+        int hotEmployees,
+        int requestsSent,
+        int requestsFailed,
+        long durationMs) {
+}
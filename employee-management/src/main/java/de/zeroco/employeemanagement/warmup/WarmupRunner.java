@@ -0,0 +1,316 @@
+package de.zeroco.employeemanagement.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.config.DataInitializer;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.payload.AuthResponse;
+import de.zeroco.employeemanagement.repository.EmployeeRepository;
+import de.zeroco.employeemanagement.security.JwtUtil;
+import de.zeroco.employeemanagement.security.UserDetailsServiceImpl;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.ProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms the application up before it reports ready. Spring Boot publishes
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} only after all application runners have completed, so while this
+ * runner works the readiness probe ({@code /actuator/health/readiness}) keeps the instance out of the load
+ * balancer. The embedded server is already listening, which lets the request mix go through the full HTTP
+ * stack: security filters, controllers, validation and Jackson.
+ * <p>
+ * Steps: preload the reference data (all departments and projects) and the most recently hired employees,
+ * prime the JWT signer/verifier and the Jackson serializers, then replay {@code app.warmup.requests} until
+ * {@code app.warmup.iterations} rounds are done or {@code app.warmup.max-duration-ms} has elapsed. Warm-up
+ * failures are logged and never prevent the application from starting.
+ */
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Value("${app.warmup.username:adminuser}")
+    private String username;
+
+    @Value("${app.warmup.hot-employees:100}")
+    private int hotEmployeeCount;
+
+    @Value("${app.warmup.jwt-iterations:2000}")
+    private int jwtIterations;
+
+    @Value("${app.warmup.iterations:200}")
+    private int iterations;
+
+    @Value("${app.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.warmup.max-duration-ms:60000}")
+    private long maxDurationMs;
+
+    @Value("${app.warmup.requests:GET /api/v1/employees/{employeeId},GET /api/v1/employees/email/{email},GET /api/v1/departments,GET /api/v1/departments/{departmentId},GET /api/v1/projects,GET /api/v1/projects/{projectId}}")
+    private List<String> requests;
+
+    private volatile WarmupReport lastReport;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        ReadinessState readiness = applicationAvailability.getReadinessState();
+        try {
+            ReferenceData data = preload();
+            awaitDefaultUsers(deadline);
+            UserDetails user = loadWarmupUser();
+            if (user != null) {
+                primeJwt(user);
+            }
+            int[] sent = runRequestMix(data, user, deadline);
+            lastReport = new WarmupReport(readiness, data.departmentIds.size(), data.projectIds.size(),
+                    data.employeeIds.size(), sent[0], sent[1], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.info("Warm-up finished: {}", lastReport);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up aborted after {} ms, continuing startup",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e);
+        }
+    }
+
+    public WarmupReport lastReport() {
+        return lastReport;
+    }
+
+    /** Loads the reference data and hot employees through the services and runs them through Jackson. */
+    private ReferenceData preload() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            ReferenceData data = new ReferenceData();
+            List<Department> departments = departmentService.getAllDepartments();
+            List<Project> projects = projectService.getAllProjects();
+            departments.forEach(department -> data.departmentIds.add(department.getId()));
+            projects.forEach(project -> data.projectIds.add(project.getId()));
+
+            List<Employee> hotEmployees = new ArrayList<>();
+            employeeRepository.findByStatus(EmployeeStatus.ACTIVE,
+                            PageRequest.of(0, Math.max(1, hotEmployeeCount), Sort.by(Sort.Direction.DESC, "hireDate")))
+                    .forEach(employee -> employeeService.getEmployeeById(employee.getId()).ifPresent(hot -> {
+                        hotEmployees.add(hot);
+                        data.employeeIds.add(hot.getId());
+                        data.emails.add(hot.getEmail());
+                    }));
+
+            primeJackson(departments, projects, hotEmployees);
+            return data;
+        });
+    }
+
+    private void primeJackson(List<Department> departments, List<Project> projects, List<Employee> employees) {
+        try {
+            for (int i = 0; i < 10; i++) {
+                objectMapper.writeValueAsBytes(departments);
+                objectMapper.writeValueAsBytes(projects);
+                objectMapper.writeValueAsBytes(new AuthResponse("token", "refreshToken"));
+                objectMapper.writeValueAsBytes(Map.of("status", 404, "error", "Not Found"));
+                for (Employee employee : employees) {
+                    byte[] json = objectMapper.writeValueAsBytes(employee);
+                    objectMapper.readValue(json, Employee.class);
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Priming Jackson failed", e);
+        }
+    }
+
+    /** With {@code app.data-initializer.async=true} the warm-up user may still be being seeded. */
+    private void awaitDefaultUsers(long deadline) {
+        try {
+            dataInitializer.seeded().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Default users not seeded within the warm-up time");
+        }
+    }
+
+    private UserDetails loadWarmupUser() {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            log.warn("Warm-up user '{}' not found, skipping JWT priming and authenticated requests", username);
+            return null;
+        }
+    }
+
+    /** Signing and verifying initialises the HMAC key, the jjwt parser and its Jackson deserializer. */
+    private void primeJwt(UserDetails user) {
+        for (int i = 0; i < jwtIterations; i++) {
+            String token = jwtUtil.generateToken(user);
+            jwtUtil.validateToken(token, user);
+            jwtUtil.extractTokenType(token);
+        }
+    }
+
+    /** Returns the number of requests sent and failed. */
+    private int[] runRequestMix(ReferenceData data, UserDetails user, long deadline) {
+        if (user == null || !(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null) {
+            return new int[2];
+        }
+        List<String> resolvable = requests.stream().map(String::trim).filter(data::canResolve).toList();
+        if (resolvable.isEmpty()) {
+            return new int[2];
+        }
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort();
+        String authorization = "Bearer " + jwtUtil.generateToken(user);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        AtomicInteger round = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        try {
+            for (int w = 0; w < Math.max(1, concurrency); w++) {
+                workers.execute(() -> {
+                    int r;
+                    while ((r = round.getAndIncrement()) < iterations && System.nanoTime() < deadline) {
+                        for (String request : resolvable) {
+                            String[] methodAndPath = request.split("\\s+", 2);
+                            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + data.resolve(methodAndPath[1], r)))
+                                    .header("Authorization", authorization)
+                                    .method(methodAndPath[0], HttpRequest.BodyPublishers.noBody())
+                                    .timeout(Duration.ofSeconds(10))
+                                    .build();
+                            sent.incrementAndGet();
+                            try {
+                                int status = client.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                                if (status >= 400) {
+                                    failed.incrementAndGet();
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            } catch (Exception e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime()) + TimeUnit.SECONDS.toNanos(10);
+            if (!workers.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (failed.get() > 0) {
+            log.warn("{} of {} warm-up requests failed", failed.get(), sent.get());
+        }
+        return new int[] { sent.get(), failed.get() };
+    }
+
+    /** Ids collected during preloading, substituted round-robin into the request templates. */
+    private static final class ReferenceData {
+
+        private final List<Long> departmentIds = new ArrayList<>();
+        private final List<Long> projectIds = new ArrayList<>();
+        private final List<Long> employeeIds = new ArrayList<>();
+        private final List<String> emails = new ArrayList<>();
+
+        boolean canResolve(String request) {
+            return request.indexOf(' ') > 0
+                    && (!request.contains("{employeeId}") || !employeeIds.isEmpty())
+                    && (!request.contains("{email}") || !emails.isEmpty())
+                    && (!request.contains("{departmentId}") || !departmentIds.isEmpty())
+                    && (!request.contains("{projectId}") || !projectIds.isEmpty());
+        }
+
+        String resolve(String path, int round) {
+            return path
+                    .replace("{employeeId}", pick(employeeIds, round))
+                    .replace("{email}", pick(emails, round))
+                    .replace("{departmentId}", pick(departmentIds, round))
+                    .replace("{projectId}", pick(projectIds, round));
+        }
+
+        private static String pick(List<?> values, int round) {
+            return values.isEmpty() ? "" : String.valueOf(values.get(round % values.size()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package de.zeroco.employeemanagement.webhook;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+
+import java.time.Instant;
+
+/** A queued row of {@code webhook_delivery} that is due for an attempt. */
+public record PendingDelivery(long id, long eventId, ChangeLogEntry.EntityType entityType, long entityId,
+                              ChangeType changeType, Instant occurredAt, int attempts) {
+}
@@ -0,0 +1,139 @@
+package de.zeroco.employeemanagement.webhook;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.EntityTypeSetConverter;
+import de.zeroco.employeemanagement.outbox.OutboxMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC access to the durable webhook queue ({@code webhook_delivery}) and to the subscriptions it serves.
+ * A row stays until its endpoint acknowledged it; while a request is in flight, {@code next_attempt_at} is
+ * pushed past the request timeout as a lease, so a crashed dispatcher's requests are simply attempted again.
+ * Taking the lease is conditional on the row still being due, so dispatchers on several nodes never send the
+ * same delivery at once.
+ */
+public class WebhookDeliveryStore {
+
+    private static final EntityTypeSetConverter ENTITY_TYPES = new EntityTypeSetConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WebhookDeliveryStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<WebhookEndpoint> subscriptions() {
+        return jdbcTemplate.query("SELECT id, url, entity_types, secret, max_concurrency, active FROM webhook_subscription",
+                (rs, i) -> new WebhookEndpoint(rs.getLong("id"), rs.getString("url"), rs.getString("secret"),
+                        rs.getInt("max_concurrency"), rs.getBoolean("active"),
+                        ENTITY_TYPES.convertToEntityAttribute(rs.getString("entity_types"))));
+    }
+
+    /** Queues every message for every subscription to its entity type; returns the number of rows inserted. */
+    public int enqueue(List<OutboxMessage> messages, List<WebhookEndpoint> endpoints) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            for (WebhookEndpoint endpoint : endpoints) {
+                if (endpoint.accepts(message.entityType())) {
+                    rows.add(new Object[]{endpoint.id(), message.id(), message.entityType().name(), message.entityId(),
+                            message.changeType().name(), Timestamp.from(message.createdAt()), now});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO webhook_delivery (subscription_id, event_id, entity_type, entity_id,"
+                    + " change_type, occurred_at, attempts, next_attempt_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?)", rows);
+        }
+        return rows.size();
+    }
+
+    /** Deliveries of one subscription due at {@code now}, oldest first (idx_webhook_delivery_due). */
+    public List<PendingDelivery> fetchDue(long subscriptionId, Instant now, int limit) {
+        return jdbcTemplate.query("SELECT id, event_id, entity_type, entity_id, change_type, occurred_at, attempts"
+                        + " FROM webhook_delivery WHERE subscription_id = ? AND next_attempt_at <= ?"
+                        + " ORDER BY next_attempt_at, id LIMIT ?",
+                (rs, i) -> map(rs), subscriptionId, Timestamp.from(now), limit);
+    }
+
+    /**
+     * Leases the {@code due} deliveries (from {@link #fetchDue} at {@code now}) until {@code until} and returns
+     * the ones this call claimed. A delivery another dispatcher leased in the meantime is no longer due and is
+     * left out.
+     */
+    public List<PendingDelivery> claim(List<PendingDelivery> due, Instant now, Instant until) {
+        if (due.isEmpty()) {
+            return due;
+        }
+        Timestamp dueAt = Timestamp.from(now);
+        Timestamp leasedUntil = Timestamp.from(until);
+        List<Object[]> rows = new ArrayList<>(due.size());
+        for (PendingDelivery delivery : due) {
+            rows.add(new Object[]{leasedUntil, delivery.id(), dueAt});
+        }
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE webhook_delivery SET next_attempt_at = ?"
+                + " WHERE id = ? AND next_attempt_at <= ?", rows);
+        List<PendingDelivery> claimed = new ArrayList<>(due.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 1) {
+                claimed.add(due.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    public void delete(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM webhook_delivery WHERE id" + in(ids), ids.toArray());
+        }
+    }
+
+    /** Records a failed attempt; a {@code null} {@code nextAttempt} turns the deliveries into dead letters. */
+    public void retry(List<Long> ids, Instant nextAttempt, String error) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("UPDATE webhook_delivery SET attempts = attempts + 1, last_error = ?, next_attempt_at = ?"
+                    + " WHERE id" + in(ids), args(ids, error.length() > 500 ? error.substring(0, 500) : error,
+                    nextAttempt != null ? Timestamp.from(nextAttempt) : null));
+        }
+    }
+
+    public long countDeadLetters(long subscriptionId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_delivery WHERE subscription_id = ?"
+                + " AND next_attempt_at IS NULL", Long.class, subscriptionId);
+        return count != null ? count : 0;
+    }
+
+    public long countQueued(long subscriptionId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_delivery WHERE subscription_id = ?"
+                + " AND next_attempt_at IS NOT NULL", Long.class, subscriptionId);
+        return count != null ? count : 0;
+    }
+
+    private static String in(List<Long> ids) {
+        return " IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+    }
+
+    /** The leading parameters followed by the ids of the {@link #in} list. */
+    private static Object[] args(List<Long> ids, Object... leading) {
+        List<Object> args = new ArrayList<>(leading.length + ids.size());
+        Collections.addAll(args, leading);
+        args.addAll(ids);
+        return args.toArray();
+    }
+
+    private static PendingDelivery map(ResultSet rs) throws SQLException {
+        return new PendingDelivery(rs.getLong("id"), rs.getLong("event_id"),
+                ChangeLogEntry.EntityType.valueOf(rs.getString("entity_type")), rs.getLong("entity_id"),
+                ChangeType.valueOf(rs.getString("change_type")), rs.getTimestamp("occurred_at").toInstant(),
+                rs.getInt("attempts"));
+    }
+}
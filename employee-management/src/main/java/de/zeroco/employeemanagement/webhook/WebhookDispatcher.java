@@ -0,0 +1,278 @@
+package de.zeroco.employeemanagement.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers the webhook queue off the request path. A single thread polls every {@code pollIntervalMs}: for each
+ * active subscription with a free concurrency permit it claims up to {@code batchSize} due deliveries with a
+ * lease and POSTs them as one JSON batch with the non-blocking {@link HttpClient}; the permit returns when the
+ * response (or the timeout) arrives. At most {@code maxConcurrency} requests per endpoint are in flight, so a
+ * slow endpoint neither builds up threads nor delays the others.
+ * <p>
+ * A 2xx response deletes the deliveries. Anything else reschedules them with exponential backoff and jitter,
+ * from {@code initialRetryDelay} up to {@code maxRetryDelay}; after {@code maxAttempts} they stay in the table
+ * as dead letters. Delivery is at-least-once and batches of one endpoint may overtake each other, so receivers
+ * deduplicate and order by the event id.
+ * <p>
+ * Dispatchers on several nodes share the queue: a delivery is only sent by the one whose conditional lease
+ * claimed it (see {@link WebhookDeliveryStore#claim}). The concurrency limits are per dispatcher.
+ */
+public class WebhookDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    private record Permits(int limit, Semaphore semaphore) {
+    }
+
+    private final WebhookDeliveryStore store;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final Duration requestTimeout;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final int maxAttempts;
+    private final MeterRegistry registry;
+
+    private final Map<Long, Permits> permits = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ExecutorService completions;
+    private final HttpClient httpClient;
+    private volatile Thread worker;
+
+    public WebhookDispatcher(WebhookDeliveryStore store, ObjectMapper objectMapper, int batchSize, long pollIntervalMs,
+                             Duration requestTimeout, Duration initialRetryDelay, Duration maxRetryDelay,
+                             int maxAttempts, MeterRegistry registry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.requestTimeout = requestTimeout;
+        this.initialRetryDelay = initialRetryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxAttempts = maxAttempts;
+        this.registry = registry;
+        // Outcomes are recorded in the database, which must not happen on the HTTP client's selector thread
+        this.completions = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-completion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+        Gauge.builder("app.webhooks.in-flight", inFlight, AtomicInteger::get).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "webhook-dispatcher");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                dispatchOnce();
+            } catch (RuntimeException e) {
+                log.warn("Dispatching webhooks failed", e);
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Starts a request for every free permit of every active subscription with due deliveries; returns how many. */
+    int dispatchOnce() {
+        int started = 0;
+        for (WebhookEndpoint endpoint : store.subscriptions()) {
+            if (!endpoint.active()) {
+                continue;
+            }
+            Semaphore semaphore = permitsOf(endpoint);
+            while (semaphore.tryAcquire()) {
+                Instant now = Instant.now();
+                // Twice the timeout, so the response is always handled before another dispatcher could retry
+                List<PendingDelivery> batch = store.claim(store.fetchDue(endpoint.id(), now, batchSize), now,
+                        now.plus(requestTimeout.multipliedBy(2)));
+                if (batch.isEmpty()) {
+                    semaphore.release();
+                    break;
+                }
+                List<Long> ids = batch.stream().map(PendingDelivery::id).toList();
+                send(endpoint, batch, ids, semaphore);
+                started++;
+            }
+        }
+        return started;
+    }
+
+    private Semaphore permitsOf(WebhookEndpoint endpoint) {
+        // A changed limit takes effect with a fresh semaphore; requests under the old one release into it
+        return permits.compute(endpoint.id(), (id, current) -> current != null && current.limit() == endpoint.maxConcurrency()
+                ? current : new Permits(endpoint.maxConcurrency(), new Semaphore(endpoint.maxConcurrency()))).semaphore();
+    }
+
+    private void send(WebhookEndpoint endpoint, List<PendingDelivery> batch, List<Long> ids, Semaphore semaphore) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            byte[] body = payload(endpoint, batch);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(endpoint.url()))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("X-Webhook-Subscription", Long.toString(endpoint.id()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+            if (endpoint.secret() != null && !endpoint.secret().isEmpty()) {
+                request.header(SIGNATURE_HEADER, "sha256=" + sign(endpoint.secret(), body));
+            }
+            httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                    .whenCompleteAsync((response, error) -> {
+                        try {
+                            complete(endpoint, batch, ids, response, error, System.nanoTime() - start);
+                        } catch (RuntimeException e) {
+                            // The lease expires and the deliveries are attempted again
+                            log.warn("Recording the outcome of webhook {} failed", endpoint.id(), e);
+                        } finally {
+                            inFlight.decrementAndGet();
+                            semaphore.release();
+                        }
+                    }, completions);
+        } catch (RuntimeException e) {
+            try {
+                complete(endpoint, batch, ids, null, e, System.nanoTime() - start);
+            } finally {
+                inFlight.decrementAndGet();
+                semaphore.release();
+            }
+        }
+    }
+
+    private void complete(WebhookEndpoint endpoint, List<PendingDelivery> batch, List<Long> ids,
+                          HttpResponse<Void> response, Throwable error, long elapsedNanos) {
+        String subscription = Long.toString(endpoint.id());
+        boolean success = error == null && response.statusCode() / 100 == 2;
+        Timer.builder("app.webhooks.request").tag("subscription", subscription).tag("outcome", success ? "success" : "failure")
+                .register(registry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            store.delete(ids);
+            Counter.builder("app.webhooks.delivered").tag("subscription", subscription).register(registry)
+                    .increment(batch.size());
+            Timer latency = Timer.builder("app.webhooks.delivery.latency").tag("subscription", subscription)
+                    .register(registry);
+            Instant now = Instant.now();
+            for (PendingDelivery delivery : batch) {
+                latency.record(Duration.between(delivery.occurredAt(), now));
+            }
+            return;
+        }
+
+        String reason = error != null ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                : "HTTP " + response.statusCode();
+        Counter.builder("app.webhooks.failures").tag("subscription", subscription).register(registry).increment();
+        List<Long> retry = new ArrayList<>();
+        List<Long> dead = new ArrayList<>();
+        int attempt = 0;
+        for (PendingDelivery delivery : batch) {
+            int attempts = delivery.attempts() + 1;
+            (attempts >= maxAttempts ? dead : retry).add(delivery.id());
+            attempt = Math.max(attempt, attempts);
+        }
+        store.retry(retry, Instant.now().plus(backoff(attempt)), reason);
+        store.retry(dead, null, reason);
+        if (!dead.isEmpty()) {
+            Counter.builder("app.webhooks.dead").tag("subscription", subscription).register(registry)
+                    .increment(dead.size());
+            log.error("Gave up {} webhook deliveries to subscription {} after {} attempts: {}",
+                    dead.size(), endpoint.id(), maxAttempts, reason);
+        } else {
+            log.warn("Webhook delivery to subscription {} failed (attempt {}), retrying: {}", endpoint.id(), attempt, reason);
+        }
+    }
+
+    /** Exponential backoff with jitter: a random delay between half and all of {@code initial * 2^(attempt-1)}. */
+    Duration backoff(int attempt) {
+        long capped = maxRetryDelay.toMillis();
+        long exponential = initialRetryDelay.toMillis() << Math.min(attempt - 1, 30);
+        long delay = exponential <= 0 ? capped : Math.min(exponential, capped);
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    private byte[] payload(WebhookEndpoint endpoint, List<PendingDelivery> batch) {
+        List<Map<String, Object>> events = new ArrayList<>(batch.size());
+        for (PendingDelivery delivery : batch) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("eventId", delivery.eventId());
+            event.put("entityType", delivery.entityType().name());
+            event.put("entityId", delivery.entityId());
+            event.put("changeType", delivery.changeType().name());
+            event.put("occurredAt", delivery.occurredAt().toString());
+            events.add(event);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("subscriptionId", endpoint.id());
+        payload.put("events", events);
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Serializing " + batch.size() + " webhook events failed", e);
+        }
+    }
+
+    static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        completions.shutdown();
+    }
+}
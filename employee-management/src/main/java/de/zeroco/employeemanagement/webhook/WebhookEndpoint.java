@@ -0,0 +1,15 @@
+package de.zeroco.employeemanagement.webhook;
+
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+
+import java.util.Set;
+
+/** The delivery-relevant part of a webhook subscription, as read by {@link WebhookDeliveryStore}. */
+public record WebhookEndpoint(long id, String url, String secret, int maxConcurrency, boolean active,
+                              Set<ChangeLogEntry.EntityType> entityTypes) {
+
+    /** Bulk loads ({@code ALL}) concern every subscription. */
+    boolean accepts(ChangeLogEntry.EntityType entityType) {
+        return entityType == ChangeLogEntry.EntityType.ALL || entityTypes.contains(entityType);
+    }
+}
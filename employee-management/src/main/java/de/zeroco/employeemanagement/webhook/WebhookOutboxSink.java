@@ -0,0 +1,33 @@
+package de.zeroco.employeemanagement.webhook;
+
+import de.zeroco.employeemanagement.outbox.OutboxMessage;
+import de.zeroco.employeemanagement.outbox.OutboxSink;
+
+import java.util.List;
+
+/**
+ * Hands relayed outbox batches over to the webhook queue: one {@code webhook_delivery} row per message and
+ * matching subscription, in a single batch insert. The outbox rows are only deleted after this returned, so
+ * no event is lost between the two tables; a redelivered batch queues duplicates with the same event id.
+ */
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final WebhookDeliveryStore store;
+
+    public WebhookOutboxSink(WebhookDeliveryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String name() {
+        return "webhooks";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        List<WebhookEndpoint> endpoints = store.subscriptions();
+        if (!endpoints.isEmpty()) {
+            store.enqueue(batch, endpoints);
+        }
+    }
+}
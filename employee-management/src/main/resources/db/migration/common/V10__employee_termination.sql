@@ -0,0 +1,28 @@
+-- Soft termination instead of deletion, and the archive that long-terminated employees are moved to.
+-- Both new employee columns are added in place (instant ADD COLUMN on MySQL 8); existing employees are active.
+-- Their indexes follow in V10_1, per database like V2, since building them on MySQL needs the online DDL options.
+
+ALTER TABLE employee ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'ACTIVE';
+ALTER TABLE employee ADD COLUMN termination_date DATE;
+
+-- Former employees, keyed by their employee id. No foreign keys: departments, managers and projects may be
+-- deleted later. project_ids is the comma-separated list of project ids at the time of archival.
+CREATE TABLE employee_archive (
+    id               BIGINT        NOT NULL,
+    name             VARCHAR(255),
+    role             VARCHAR(255),
+    salary           DOUBLE,
+    date_of_birth    DATE,
+    email            VARCHAR(255),
+    phone_number     VARCHAR(255),
+    hire_date        DATE,
+    address          VARCHAR(255),
+    department_id    BIGINT,
+    manager_id       BIGINT,
+    project_ids      VARCHAR(4000),
+    termination_date DATE          NOT NULL,
+    archived_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_employee_archive_termination_date ON employee_archive (termination_date, id);
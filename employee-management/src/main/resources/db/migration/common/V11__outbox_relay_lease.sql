@@ -0,0 +1,9 @@
+-- Lease that elects the one outbox relay among the nodes (OutboxRelay). Its single row is created by the first
+-- relay; the holder renews it every round, and once expires_at has passed any other node may take it over.
+
+CREATE TABLE outbox_relay_lease (
+    id         INT         NOT NULL,
+    owner      VARCHAR(64) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
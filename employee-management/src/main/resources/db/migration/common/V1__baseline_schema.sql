@@ -0,0 +1,58 @@
+-- Baseline schema, equivalent to what spring.jpa.hibernate.ddl-auto=update used to create.
+-- Existing databases created by Hibernate are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and skip this script; new databases run it. Portable between MySQL and H2 (MODE=MySQL).
+
+CREATE TABLE app_user (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    roles    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_app_user_username UNIQUE (username)
+);
+
+CREATE TABLE department (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE project (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE employee (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255),
+    role          VARCHAR(255),
+    salary        DOUBLE,
+    date_of_birth DATE,
+    email         VARCHAR(255),
+    phone_number  VARCHAR(255),
+    hire_date     DATE,
+    address       VARCHAR(255),
+    department_id BIGINT,
+    manager_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employee_email UNIQUE (email),
+    CONSTRAINT fk_employee_department FOREIGN KEY (department_id) REFERENCES department (id),
+    CONSTRAINT fk_employee_manager FOREIGN KEY (manager_id) REFERENCES employee (id)
+);
+
+CREATE TABLE employee_project (
+    employee_id BIGINT NOT NULL,
+    project_id  BIGINT NOT NULL,
+    PRIMARY KEY (employee_id, project_id),
+    CONSTRAINT fk_employee_project_employee FOREIGN KEY (employee_id) REFERENCES employee (id),
+    CONSTRAINT fk_employee_project_project FOREIGN KEY (project_id) REFERENCES project (id)
+);
+
+CREATE TABLE revoked_token (
+    token_id   VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_id)
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,14 @@
+-- Ordered log of committed entity changes, written in the same transaction as the change (ChangeLogWriter).
+-- Consumers keep the last id they processed as their watermark. Rows are pruned after
+-- app.change-log.retention-hours; the newest row is always kept so the sequence never restarts.
+
+CREATE TABLE change_log (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
@@ -0,0 +1,11 @@
+-- Transactional outbox: one row per committed entity change (OutboxWriter), deleted by the relay once every
+-- sink has accepted it. The relay reads in primary key order, so no further index is needed.
+
+CREATE TABLE outbox_event (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
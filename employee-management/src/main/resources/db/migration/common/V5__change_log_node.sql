@@ -0,0 +1,4 @@
+-- Node that committed the change, so cluster nodes can skip their own entries when polling the change log
+-- (ClusterInvalidationPoller). Existing rows keep NULL and are treated as coming from another node.
+
+ALTER TABLE change_log ADD COLUMN node_id VARCHAR(64) NULL;
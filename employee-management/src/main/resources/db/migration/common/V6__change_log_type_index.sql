@@ -0,0 +1,4 @@
+-- Serves the employee delta sync (GET /api/v1/employees/changes): the entries of one entity type in an id
+-- range, in id order, without scanning the other types.
+
+CREATE INDEX idx_change_log_type_id ON change_log (entity_type, id);
@@ -0,0 +1,29 @@
+-- Webhook subscriptions and their durable delivery queue. The outbox relay inserts one webhook_delivery row per
+-- event and subscription (WebhookOutboxSink); the dispatcher deletes it once the endpoint acknowledged it.
+-- next_attempt_at is NULL for dead letters, which stay for inspection.
+
+CREATE TABLE webhook_subscription (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    url             VARCHAR(2048) NOT NULL,
+    entity_types    VARCHAR(255)  NOT NULL,
+    secret          VARCHAR(255),
+    max_concurrency INT           NOT NULL,
+    active          BOOLEAN       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE webhook_delivery (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    subscription_id BIGINT       NOT NULL,
+    event_id        BIGINT       NOT NULL,
+    entity_type     VARCHAR(32)  NOT NULL,
+    entity_id       BIGINT       NOT NULL,
+    change_type     VARCHAR(16)  NOT NULL,
+    occurred_at     DATETIME(6)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6),
+    last_error      VARCHAR(500),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_webhook_delivery_due ON webhook_delivery (subscription_id, next_attempt_at);
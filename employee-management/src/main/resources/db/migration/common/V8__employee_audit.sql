@@ -0,0 +1,17 @@
+-- Compacted audit trail of employee changes. Each node appends its records to a local journal (AuditJournal) and
+-- copies them here in batches; (journal_id, journal_sequence) identifies a record and makes the copy resumable.
+
+CREATE TABLE employee_audit (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    journal_id       VARCHAR(36)   NOT NULL,
+    journal_sequence BIGINT        NOT NULL,
+    employee_id      BIGINT        NOT NULL,
+    action           VARCHAR(16)   NOT NULL,
+    actor            VARCHAR(100),
+    occurred_at      DATETIME(6)   NOT NULL,
+    changes          VARCHAR(8000) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employee_audit_journal_sequence UNIQUE (journal_id, journal_sequence)
+);
+
+CREATE INDEX idx_employee_audit_employee ON employee_audit (employee_id, occurred_at);
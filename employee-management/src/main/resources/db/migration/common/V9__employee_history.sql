@@ -0,0 +1,38 @@
+-- Bitemporal history of employees, maintained by EmployeeHistoryWriter in the writing transaction.
+-- valid_from/valid_to: the days on which a version was true (valid time, end exclusive).
+-- recorded_from/recorded_to: when the application believed it (transaction time, end exclusive).
+-- Open ends are '9999-12-31' rather than NULL, so the current versions are found by equality on an index prefix.
+
+CREATE TABLE employee_history (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_id   BIGINT       NOT NULL,
+    name          VARCHAR(255),
+    role          VARCHAR(255),
+    salary        DOUBLE,
+    date_of_birth DATE,
+    email         VARCHAR(255),
+    phone_number  VARCHAR(255),
+    hire_date     DATE,
+    address       VARCHAR(255),
+    department_id BIGINT,
+    manager_id    BIGINT,
+    valid_from    DATE         NOT NULL,
+    valid_to      DATE         NOT NULL,
+    recorded_from DATETIME(6)  NOT NULL,
+    recorded_to   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Point lookups of one employee: the versions currently believed, by start of validity
+CREATE INDEX idx_employee_history_employee ON employee_history (employee_id, recorded_to, valid_from);
+-- Department as of a date: the optimizer takes whichever bound of the validity range is more selective,
+-- valid_to for recent dates (few versions ended since) and valid_from for old ones (few had started yet)
+CREATE INDEX idx_employee_history_department_to ON employee_history (department_id, recorded_to, valid_to);
+CREATE INDEX idx_employee_history_department_from ON employee_history (department_id, recorded_to, valid_from);
+
+-- History starts now: the existing employees become valid from today, with their current values
+INSERT INTO employee_history (employee_id, name, role, salary, date_of_birth, email, phone_number, hire_date, address,
+                              department_id, manager_id, valid_from, valid_to, recorded_from, recorded_to)
+SELECT id, name, role, salary, date_of_birth, email, phone_number, hire_date, address, department_id, manager_id,
+       CURRENT_DATE, DATE '9999-12-31', CURRENT_TIMESTAMP(6), TIMESTAMP '9999-12-31 00:00:00'
+FROM employee;
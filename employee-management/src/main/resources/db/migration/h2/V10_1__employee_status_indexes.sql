@@ -0,0 +1,3 @@
+-- H2 counterpart of mysql/V10_1__employee_status_indexes.sql (H2 has no online DDL options).
+CREATE INDEX idx_employee_status_id ON employee (status, id);
+CREATE INDEX idx_employee_status_termination_date ON employee (status, termination_date);
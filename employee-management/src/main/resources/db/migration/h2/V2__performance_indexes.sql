@@ -0,0 +1,5 @@
+-- H2 counterpart of mysql/V2__performance_indexes.sql (H2 has no online DDL options).
+CREATE INDEX idx_employee_manager_id ON employee (manager_id);
+CREATE INDEX idx_employee_department_hire_date ON employee (department_id, hire_date);
+CREATE INDEX idx_employee_hire_date ON employee (hire_date);
+CREATE INDEX idx_employee_project_project_employee ON employee_project (project_id, employee_id);
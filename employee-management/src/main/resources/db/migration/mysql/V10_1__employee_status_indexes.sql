@@ -0,0 +1,8 @@
+-- Indexes on the termination columns of V10. ALGORITHM=INPLACE, LOCK=NONE builds them online, as in V2: the
+-- employee table stays readable and writable during the build, and the statement fails instead of copying it.
+
+-- Default reads are restricted to active employees, pages ordered by id
+CREATE INDEX idx_employee_status_id ON employee (status, id) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Archival finds the long-terminated employees
+CREATE INDEX idx_employee_status_termination_date ON employee (status, termination_date) ALGORITHM=INPLACE LOCK=NONE;
@@ -0,0 +1,16 @@
+-- Secondary indexes for the real query patterns. ALGORITHM=INPLACE, LOCK=NONE builds them online: InnoDB keeps
+-- the table readable and writable during the build, and the statement fails fast instead of silently falling
+-- back to a blocking table copy.
+
+-- Direct reports of a manager (hierarchy traversal, manager deletion)
+CREATE INDEX idx_employee_manager_id ON employee (manager_id) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Employees of a department, newest hires first; the department_id prefix also serves the foreign key
+CREATE INDEX idx_employee_department_hire_date ON employee (department_id, hire_date) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Hire-date range scans across departments (e.g. reporting on hires per period)
+CREATE INDEX idx_employee_hire_date ON employee (hire_date) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Reverse direction of the join table: members of a project. The primary key (employee_id, project_id) only
+-- serves employee -> projects; with project_id first this index covers project -> employees without touching rows.
+CREATE INDEX idx_employee_project_project_employee ON employee_project (project_id, employee_id) ALGORITHM=INPLACE LOCK=NONE;
@@ -0,0 +1,160 @@
+package de.zeroco.employeemanagement.archive;
+
+import de.zeroco.employeemanagement.exception.DuplicateEmailException;
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.payload.FormerEmployee;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Terminations through the services and the archival of long-terminated employees. Terminations made long ago
+ * are simulated by moving the termination date of the employees under test back.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class EmployeeArchiveIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeArchive employeeArchive;
+
+    @Autowired
+    private EmployeeArchiver employeeArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.createDepartment(new Department(null, "Archive " + UUID.randomUUID(), null));
+    }
+
+    @Test
+    void terminatedEmployees_shouldBeHiddenFromReadsButRemainFormerEmployees() {
+        Employee created = employeeService.createEmployee(newEmployee(null, Set.of()));
+        employeeService.deleteEmployee(created.getId());
+
+        assertTrue(employeeService.getEmployeeById(created.getId()).isEmpty());
+        assertTrue(employeeService.getEmployeeByEmail(created.getEmail()).isEmpty());
+        assertEquals(List.of(), employeeService.getEmployeesByDepartment(department.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployee(created.getId()));
+
+        FormerEmployee former = employeeArchive.findById(created.getId()).orElseThrow();
+        assertEquals(today, former.terminationDate);
+        assertEquals(department.getId(), former.departmentId);
+        assertNull(former.archivedAt);
+    }
+
+    @Test
+    void emailOfTerminatedEmployee_shouldStayTakenUntilArchived() {
+        Employee created = employeeService.createEmployee(newEmployee(null, Set.of()));
+        employeeService.deleteEmployee(created.getId());
+
+        Employee again = newEmployee(null, Set.of());
+        again.setEmail(created.getEmail());
+        assertThrows(DuplicateEmailException.class, () -> employeeService.createEmployee(again));
+
+        terminatedDaysAgo(created.getId(), 400);
+        employeeArchiver.archiveTerminated();
+        assertNotNull(employeeService.createEmployee(again).getId());
+    }
+
+    @Test
+    void archiveTerminated_shouldMoveOnlyEmployeesPastTheRetentionPeriod() {
+        Project project = projectService.createProject(new Project(null, "Archive " + UUID.randomUUID(), new HashSet<>()));
+        Employee old = employeeService.createEmployee(newEmployee(null, Set.of(project)));
+        Employee recent = employeeService.createEmployee(newEmployee(null, Set.of()));
+        employeeService.deleteEmployee(old.getId());
+        employeeService.deleteEmployee(recent.getId());
+        terminatedDaysAgo(old.getId(), 400);
+
+        assertTrue(employeeArchiver.archiveTerminated() >= 1);
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee WHERE id = ?", Integer.class, old.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_project WHERE employee_id = ?", Integer.class, old.getId()));
+        FormerEmployee archived = employeeArchive.findById(old.getId()).orElseThrow();
+        assertEquals(List.of(project.getId()), archived.projectIds);
+        assertEquals(today.minusDays(400), archived.terminationDate);
+        assertNotNull(archived.archivedAt);
+        assertNull(employeeArchive.findById(recent.getId()).orElseThrow().archivedAt);
+
+        List<Long> formerIds = employeeArchive.findByTerminationDate(today.minusDays(400), today.plusDays(1), 10_000).stream()
+                .map(former -> former.id).toList();
+        assertTrue(formerIds.indexOf(old.getId()) >= 0 && formerIds.indexOf(old.getId()) < formerIds.indexOf(recent.getId()));
+    }
+
+    @Test
+    void terminatingAManager_shouldDetachTheReports() {
+        Employee manager = employeeService.createEmployee(newEmployee(null, Set.of()));
+        Employee report = employeeService.createEmployee(newEmployee(manager, Set.of()));
+
+        employeeService.deleteEmployee(manager.getId());
+
+        assertNull(employeeService.getEmployeeById(report.getId()).orElseThrow().getManager());
+        assertEquals(manager.getId(), employeeArchive.findById(manager.getId()).orElseThrow().id);
+    }
+
+    @Test
+    void deleteDepartment_shouldTerminateAndArchiveItsMembers() {
+        Employee member = employeeService.createEmployee(newEmployee(null, Set.of()));
+        Employee former = employeeService.createEmployee(newEmployee(null, Set.of()));
+        employeeService.deleteEmployee(former.getId());
+
+        departmentService.deleteDepartment(department.getId());
+
+        assertTrue(departmentService.getDepartmentById(department.getId()).isEmpty());
+        assertTrue(employeeService.getEmployeeById(member.getId()).isEmpty());
+        for (Employee employee : List.of(member, former)) {
+            FormerEmployee archived = employeeArchive.findById(employee.getId()).orElseThrow();
+            assertEquals(department.getId(), archived.departmentId);
+            assertNotNull(archived.archivedAt);
+        }
+    }
+
+    private void terminatedDaysAgo(long employeeId, int days) {
+        jdbcTemplate.update("UPDATE employee SET termination_date = ? WHERE id = ?", today.minusDays(days), employeeId);
+    }
+
+    private Employee newEmployee(Employee manager, Set<Project> projects) {
+        Employee employee = new Employee();
+        employee.setName("Former");
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        employee.setManager(manager);
+        employee.setProjects(new HashSet<>(projects));
+        return employee;
+    }
+}
@@ -0,0 +1,129 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void records_shouldBeReadableOnlyAfterForce() throws IOException {
+        AuditJournal journal = AuditJournal.open(directory, AuditJournal.MIN_SEGMENT_BYTES);
+        AuditRecord record = record(7, ChangeType.UPDATED, new FieldChange("salary", "5000.0", "5500.0"),
+                new FieldChange("address", null, "Hauptstraße 1"));
+
+        assertEquals(1, journal.append(record));
+        assertTrue(readAll(journal, 0).isEmpty());
+
+        journal.force();
+        List<AuditRecord> read = readAll(journal, 0);
+        assertEquals(List.of(record.withSequence(1)), read);
+        assertTrue(readAll(journal, 1).isEmpty());
+    }
+
+    @Test
+    void appending_shouldRollSegmentsAndDeleteOnlyFullyCompactedOnes() throws IOException {
+        AuditJournal journal = AuditJournal.open(directory, AuditJournal.MIN_SEGMENT_BYTES);
+        String large = "x".repeat(1000);
+        for (int i = 1; i <= 200; i++) {
+            journal.append(record(i, ChangeType.CREATED, new FieldChange("address", null, large)));
+        }
+        journal.force();
+        int segments = journal.segmentCount();
+        assertTrue(segments >= 3, "expected several segments, got " + segments);
+        assertEquals(200, readAll(journal, 0).size());
+        assertEquals(List.of(151L, 152L), readAll(journal, 150).stream().limit(2).map(AuditRecord::sequence).toList());
+
+        assertEquals(0, journal.deleteThrough(1));
+        int deleted = journal.deleteThrough(150);
+        assertTrue(deleted > 0);
+        assertEquals(segments - deleted, journal.segmentCount());
+        // The records after the compacted ones are all still there
+        assertEquals(50, readAll(journal, 150).size());
+
+        // The active segment is never deleted
+        assertEquals(segments - deleted - 1, journal.deleteThrough(Long.MAX_VALUE));
+        assertEquals(1, journal.segmentCount());
+    }
+
+    @Test
+    void reopening_shouldContinueAfterTheLastIntactRecord() throws IOException {
+        AuditJournal journal = AuditJournal.open(directory, AuditJournal.MIN_SEGMENT_BYTES);
+        for (int i = 1; i <= 3; i++) {
+            journal.append(record(i, ChangeType.CREATED));
+        }
+        journal.force();
+        String journalId = journal.journalId();
+
+        // A crash in the middle of the fourth frame: length and part of the payload written, checksum not
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.getFileName().toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        int end = AuditJournal.HEADER_BYTES;
+        for (AuditRecord ignored : readAll(journal, 0)) {
+            end += AuditJournal.FRAME_HEADER_BYTES + ByteBuffer.wrap(Files.readAllBytes(segment), end, 4).getInt();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(12).putInt(40).putInt(0).putInt(0x4).flip(), end);
+        }
+
+        AuditJournal reopened = AuditJournal.open(directory, AuditJournal.MIN_SEGMENT_BYTES);
+        assertEquals(journalId, reopened.journalId());
+        assertEquals(3, reopened.durableSequence());
+        assertEquals(4, reopened.append(record(4, ChangeType.DELETED)));
+        reopened.force();
+        assertEquals(List.of(1L, 2L, 3L, 4L), readAll(reopened, 0).stream().map(AuditRecord::sequence).toList());
+        assertEquals(ChangeType.DELETED, readAll(reopened, 3).get(0).action());
+    }
+
+    @Test
+    void rolling_shouldReplaceASegmentLeftOverFromAFailedRoll() throws IOException {
+        String large = "x".repeat(1000);
+        // Where the first roll happens, found with a journal of its own
+        AuditJournal probe = AuditJournal.open(directory.resolve("probe"), AuditJournal.MIN_SEGMENT_BYTES);
+        long firstOfSecondSegment = 0;
+        while (probe.segmentCount() == 1) {
+            firstOfSecondSegment = probe.append(record(1, ChangeType.CREATED, new FieldChange("address", null, large)));
+        }
+
+        Path journalDirectory = directory.resolve("journal");
+        AuditJournal journal = AuditJournal.open(journalDirectory, AuditJournal.MIN_SEGMENT_BYTES);
+        // A roll that failed after creating the file, e.g. on a full disk
+        Files.write(journalDirectory.resolve(String.format("audit-%020d.seg", firstOfSecondSegment)), new byte[1]);
+        for (long i = 1; i <= firstOfSecondSegment; i++) {
+            journal.append(record(i, ChangeType.CREATED, new FieldChange("address", null, large)));
+        }
+        journal.force();
+
+        assertEquals(2, journal.segmentCount());
+        assertEquals(firstOfSecondSegment, readAll(journal, 0).size());
+    }
+
+    private static AuditRecord record(long employeeId, ChangeType action, FieldChange... changes) {
+        return new AuditRecord(0, employeeId, action, "auditor", Instant.parse("2024-03-01T10:15:30.123456789Z"),
+                List.of(changes));
+    }
+
+    private static List<AuditRecord> readAll(AuditJournal journal, long afterSequence) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        journal.read(afterSequence, records::add);
+        return records;
+    }
+}
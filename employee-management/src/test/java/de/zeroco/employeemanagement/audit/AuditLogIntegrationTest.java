@@ -0,0 +1,135 @@
+package de.zeroco.employeemanagement.audit;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Audit records of service writes, through the journal and after compaction into {@code employee_audit}. */
+@SpringBootTest(properties = {"app.audit.enabled=true", "app.audit.compaction-interval-ms=3600000"})
+@ActiveProfiles("test")
+@WithMockUser(username = "hr-admin", roles = "ADMIN")
+public class AuditLogIntegrationTest {
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("audit-journal").toString();
+        registry.add("app.audit.path", () -> directory);
+    }
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.createDepartment(new Department(null, "Audit " + UUID.randomUUID(), null));
+    }
+
+    @Test
+    void serviceWrites_shouldBeAuditedWithBeforeAndAfterValues() throws IOException {
+        Employee created = employeeService.createEmployee(newEmployee("Audited", 5000.0));
+        Employee raise = newEmployee("Audited", 6500.0);
+        raise.setEmail(created.getEmail());
+        employeeService.updateEmployee(created.getId(), raise);
+        // Nothing audited changes
+        employeeService.updateEmployee(created.getId(), raise);
+        employeeService.deleteEmployee(created.getId());
+
+        List<AuditRecord> records = await(created.getId(), 3);
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED),
+                records.stream().map(AuditRecord::action).toList());
+        assertTrue(records.stream().allMatch(record -> "hr-admin".equals(record.actor())));
+        assertTrue(records.get(0).changes().contains(new FieldChange("salary", null, "5000.0")));
+        assertEquals(List.of(new FieldChange("salary", "5000.0", "6500.0")), records.get(1).changes());
+        assertTrue(records.get(2).changes().contains(new FieldChange("salary", "6500.0", null)));
+
+        // Compaction moves the records into the table without changing the query results
+        assertTrue(auditLog.compact() >= 3);
+        assertEquals(records, auditLog.query(created.getId(), Instant.EPOCH, Instant.now(), 100));
+        Instant afterCreate = records.get(1).occurredAt();
+        assertEquals(records.subList(1, 3), auditLog.query(created.getId(), afterCreate, Instant.now(), 100));
+        assertEquals(records.subList(0, 1), auditLog.query(created.getId(), Instant.EPOCH, Instant.now(), 1));
+    }
+
+    @Test
+    void rolledBackWrites_shouldNotBeAudited() {
+        Employee created = employeeService.createEmployee(newEmployee("Rolled Back", 4000.0));
+        transactionTemplate.executeWithoutResult(status -> {
+            Employee raise = newEmployee("Rolled Back", 9000.0);
+            raise.setEmail(created.getEmail());
+            employeeService.updateEmployee(created.getId(), raise);
+            status.setRollbackOnly();
+        });
+        employeeService.deleteEmployee(created.getId());
+
+        List<AuditRecord> records = await(created.getId(), 2);
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.DELETED), records.stream().map(AuditRecord::action).toList());
+        assertTrue(records.get(1).changes().contains(new FieldChange("salary", "4000.0", null)));
+    }
+
+    @Test
+    void deletingADepartment_shouldAuditItsMembersDeletion() {
+        Employee member = employeeService.createEmployee(newEmployee("Member", 3000.0));
+
+        departmentService.deleteDepartment(department.getId());
+
+        List<AuditRecord> records = await(member.getId(), 2);
+        assertEquals(ChangeType.DELETED, records.get(1).action());
+    }
+
+    /** Waits until the writer has made {@code count} records of the employee durable; they arrive within milliseconds. */
+    private List<AuditRecord> await(long employeeId, int count) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        BooleanSupplier done = () -> auditLog.query(employeeId, Instant.EPOCH, Instant.now(), 100).size() >= count;
+        while (!done.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "audit records did not arrive");
+            Thread.onSpinWait();
+        }
+        List<AuditRecord> records = auditLog.query(employeeId, Instant.EPOCH, Instant.now(), 100);
+        assertEquals(count, records.size());
+        return records;
+    }
+
+    private Employee newEmployee(String name, double salary) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(salary);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        return employee;
+    }
+}
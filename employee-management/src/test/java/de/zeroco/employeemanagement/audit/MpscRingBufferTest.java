@@ -0,0 +1,75 @@
+package de.zeroco.employeemanagement.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MpscRingBufferTest {
+
+    @Test
+    void offer_shouldFailWhenFullUntilTheConsumerDrains() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void concurrentProducers_shouldLoseNothingAndKeepEachProducersOrder() throws InterruptedException {
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64); // small, so producers keep running into a full buffer
+        int producers = 4;
+        int perProducer = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.yield(); // lets the consumer run on machines with few cores
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        long[] next = new long[producers];
+        List<long[]> drained = new ArrayList<>();
+        int received = 0;
+        while (received < producers * perProducer) {
+            drained.clear();
+            if (buffer.drainTo(drained, 32) == 0) {
+                Thread.yield();
+            }
+            for (long[] element : drained) {
+                assertEquals(next[(int) element[0]]++, element[1]);
+            }
+            received += drained.size();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
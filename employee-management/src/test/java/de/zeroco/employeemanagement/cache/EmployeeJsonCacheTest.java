@@ -0,0 +1,113 @@
+package de.zeroco.employeemanagement.cache;
+
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * End-to-end through MockMvc: the filter serves cached bytes identical to the controller output, and committed
+ * writes are visible immediately, including in the embedded manager of a report.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "cache-admin", roles = {"ADMIN", "USER"})
+public class EmployeeJsonCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeJsonCache cache;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.createDepartment(new Department(null, "Cache Department", null));
+    }
+
+    @Test
+    void getEmployee_secondRequest_shouldBeServedFromCacheWithIdenticalBytes() throws Exception {
+        Employee employee = employeeService.createEmployee(newEmployee("Ada", null));
+        String path = "/api/v1/employees/" + employee.getId();
+
+        String first = body(path);
+        long hits = cache.employeeStore().hits();
+        String second = body(path);
+
+        assertEquals(first, second);
+        assertEquals(hits + 1, cache.employeeStore().hits());
+    }
+
+    @Test
+    void managerUpdate_shouldInvalidateReportsEmbeddingTheManager() throws Exception {
+        Employee manager = employeeService.createEmployee(newEmployee("Grace", null));
+        Employee report = employeeService.createEmployee(newEmployee("Alan", manager));
+        String path = "/api/v1/employees/" + report.getId();
+        assertTrue(body(path).contains("Grace"));
+        body(path);
+
+        Employee renamed = newEmployee("Grace Renamed", null);
+        renamed.setEmail(manager.getEmail());
+        employeeService.updateEmployee(manager.getId(), renamed);
+
+        assertTrue(body(path).contains("Grace Renamed"));
+    }
+
+    @Test
+    void listPage_shouldBeCachedAndInvalidatedByWrites() throws Exception {
+        String path = "/api/v1/employees?page=0&size=500";
+        String before = body(path);
+        long hits = cache.pageStore().hits();
+        assertEquals(before, body(path));
+        assertEquals(hits + 1, cache.pageStore().hits());
+
+        Employee created = employeeService.createEmployee(newEmployee("Linus", null));
+
+        assertTrue(body(path).contains(created.getEmail()));
+    }
+
+    private String body(String path) throws Exception {
+        return mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    }
+
+    private Employee newEmployee(String name, Employee manager) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        if (manager != null) {
+            Employee managerReference = new Employee();
+            managerReference.setId(manager.getId());
+            employee.setManager(managerReference);
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,74 @@
+package de.zeroco.employeemanagement.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonByteStoreTest {
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedBeyondMaxBytes() {
+        JsonByteStore store = new JsonByteStore(10, 10, false, 16);
+        store.put("a", bytes("1234"), store.stamp("a"));
+        store.put("b", bytes("1234"), store.stamp("b"));
+        store.get("a"); // b is now the least recently used
+        store.put("c", bytes("1234"), store.stamp("c"));
+
+        assertNotNull(store.get("a"));
+        assertNull(store.get("b"));
+        assertNotNull(store.get("c"));
+        assertEquals(8, store.totalBytes());
+        assertEquals(1, store.evictions());
+    }
+
+    @Test
+    void put_shouldRejectEntriesLargerThanMaxEntryBytes() {
+        JsonByteStore store = new JsonByteStore(100, 4, false, 16);
+
+        assertFalse(store.put("a", bytes("12345"), store.stamp("a")));
+        assertNull(store.get("a"));
+    }
+
+    @Test
+    void put_afterInvalidation_shouldBeRejected() {
+        JsonByteStore store = new JsonByteStore(100, 100, false, 16);
+        long stamp = store.stamp("a");
+
+        store.invalidate("a"); // a write committed while the document was being built
+
+        assertFalse(store.put("a", bytes("{\"stale\":true}"), stamp));
+        assertNull(store.get("a"));
+        assertTrue(store.put("a", bytes("{\"fresh\":true}"), store.stamp("a")));
+    }
+
+    @Test
+    void clear_shouldRejectAllInFlightPuts() {
+        JsonByteStore store = new JsonByteStore(100, 100, false, 16);
+        long stamp = store.stamp("a");
+
+        store.clear();
+
+        assertFalse(store.put("a", bytes("{}"), stamp));
+    }
+
+    @Test
+    void offHeap_shouldStoreDirectBuffers() {
+        JsonByteStore store = new JsonByteStore(100, 100, true, 16);
+        store.put("a", bytes("{\"id\":1}"), store.stamp("a"));
+
+        ByteBuffer buffer = store.get("a");
+
+        assertTrue(buffer.isDirect());
+        assertTrue(buffer.isReadOnly());
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        assertEquals("{\"id\":1}", new String(content, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,38 @@
+package de.zeroco.employeemanagement.cache;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.ClusterChangeEvent;
+import de.zeroco.employeemanagement.model.CacheRegions;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Project;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+public class SecondLevelCacheInvalidatorTest {
+
+    private final Cache cache = mock(Cache.class);
+    private final SecondLevelCacheInvalidator invalidator = new SecondLevelCacheInvalidator(cache);
+
+    @Test
+    void remoteReferenceDataChange_shouldEvictTheEntityAndTheCachedQueries() {
+        invalidator.onClusterChange(new ClusterChangeEvent(ChangeLogEntry.EntityType.DEPARTMENT, 7, ChangeType.UPDATED));
+        invalidator.onClusterChange(new ClusterChangeEvent(ChangeLogEntry.EntityType.PROJECT, 8, ChangeType.DELETED));
+
+        verify(cache).evictEntityData(Department.class, 7L);
+        verify(cache).evictEntityData(Project.class, 8L);
+        verify(cache, times(2)).evictQueryRegion(CacheRegions.REFERENCE_QUERIES);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void remoteEmployeeChange_shouldLeaveTheCacheAlone_andBulkChangesClearIt() {
+        invalidator.onClusterChange(new ClusterChangeEvent(ChangeLogEntry.EntityType.EMPLOYEE, 1, ChangeType.UPDATED));
+        verifyNoInteractions(cache);
+
+        invalidator.onClusterChange(new ClusterChangeEvent(ChangeLogEntry.EntityType.ALL, 0, ChangeType.UPDATED));
+        verify(cache).evictAllRegions();
+    }
+}
@@ -0,0 +1,72 @@
+package de.zeroco.employeemanagement.changelog;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.change-log.retention-hours=0")
+@ActiveProfiles("test")
+public class ChangeLogTest {
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void serviceWrites_shouldBeRecordedAndReturnedAfterTheWatermark() {
+        ChangeLog.Watermark watermark = changeLog.currentWatermark();
+
+        Department department = departmentService.createDepartment(new Department(null, "Change Log", null));
+        departmentService.updateDepartment(department.getId(), new Department(null, "Change Log Renamed", null));
+
+        List<ChangeLogEntry> changes = changeLog.since(watermark, Duration.ZERO).orElseThrow().stream()
+                .filter(entry -> entry.getEntityType() == ChangeLogEntry.EntityType.DEPARTMENT
+                        && entry.getEntityId().equals(department.getId()))
+                .toList();
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.UPDATED),
+                changes.stream().map(ChangeLogEntry::getChangeType).toList());
+        assertTrue(changes.get(0).getId() > watermark.id());
+    }
+
+    @Test
+    void since_shouldIncludeEntriesWithinTheOverlapEvenBelowTheWatermarkId() {
+        departmentService.createDepartment(new Department(null, "Committed Late", null));
+        ChangeLog.Watermark watermark = changeLog.currentWatermark();
+
+        // Stands in for a transaction that took its id before the watermark but committed after it was read
+        List<ChangeLogEntry> withOverlap = changeLog.since(watermark, Duration.ofMinutes(1)).orElseThrow();
+        assertTrue(withOverlap.stream().anyMatch(entry -> entry.getId() == watermark.id()));
+        assertTrue(changeLog.since(new ChangeLog.Watermark(watermark.id(), Instant.now().plusSeconds(60)), Duration.ZERO)
+                .orElseThrow().isEmpty());
+    }
+
+    @Test
+    void prune_shouldKeepTheNewestEntryAndReportGapsAsUnavailable() {
+        departmentService.createDepartment(new Department(null, "Pruned 1", null));
+        departmentService.createDepartment(new Department(null, "Pruned 2", null));
+        ChangeLog.Watermark newest = changeLog.currentWatermark();
+
+        changeLog.prune();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_log", Integer.class));
+        assertTrue(changeLog.since(new ChangeLog.Watermark(0, Instant.EPOCH), Duration.ZERO).isEmpty());
+        assertTrue(changeLog.since(newest, Duration.ZERO).isPresent());
+    }
+}
@@ -0,0 +1,127 @@
+package de.zeroco.employeemanagement.cluster;
+
+import de.zeroco.employeemanagement.cache.EmployeeJsonCache;
+import de.zeroco.employeemanagement.cache.JsonByteStore;
+import de.zeroco.employeemanagement.directory.EmployeeDirectory;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two nodes on one database, each with its own employee directory and JSON cache: a write on node 0 must
+ * reach node 1's caches within the staleness bound, through the change log only.
+ */
+public class ClusterInvalidationTest {
+
+    private static final long STALENESS_BOUND_MS = 5_000;
+
+    private static TestCluster cluster;
+
+    @BeforeAll
+    static void startCluster() {
+        cluster = TestCluster.start(2, "app.directory.enabled=true", "app.cluster.invalidation.enabled=true",
+                "app.cluster.invalidation.poll-interval-ms=50");
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void employeeWriteOnOneNode_shouldInvalidateTheOtherNodesCaches() {
+        Department department = cluster.bean(0, DepartmentService.class)
+                .createDepartment(new Department(null, "Cluster", null));
+        Employee employee = cluster.bean(0, EmployeeService.class).createEmployee(newEmployee("Before", department));
+        awaitInDirectory(1, employee.getId());
+        assertEquals("Before", employeeOn(1, employee.getId()).getName());
+
+        // A cached document on node 1, as its filter would have stored it
+        JsonByteStore store = cluster.bean(1, EmployeeJsonCache.class).employeeStore();
+        String key = EmployeeJsonCache.employeeKey(employee.getId());
+        store.put(key, "{\"name\":\"Before\"}".getBytes(StandardCharsets.UTF_8), store.stamp(key));
+
+        Employee renamed = newEmployee("After", department);
+        renamed.setEmail(employee.getEmail());
+        cluster.bean(0, EmployeeService.class).updateEmployee(employee.getId(), renamed);
+
+        await(() -> "After".equals(employeeOn(1, employee.getId()).getName()) && !cached(store, key).contains("Before"));
+    }
+
+    @Test
+    void departmentRenameOnOneNode_shouldReachEmployeesCachedOnTheOtherNode() {
+        Department department = cluster.bean(0, DepartmentService.class)
+                .createDepartment(new Department(null, "Cluster Old", null));
+        Employee employee = cluster.bean(0, EmployeeService.class).createEmployee(newEmployee("Member", department));
+        awaitInDirectory(1, employee.getId());
+        assertEquals("Cluster Old", employeeOn(1, employee.getId()).getDepartment().getName());
+
+        cluster.bean(0, DepartmentService.class).updateDepartment(department.getId(), new Department(null, "Cluster New", null));
+
+        await(() -> "Cluster New".equals(employeeOn(1, employee.getId()).getDepartment().getName()));
+    }
+
+    @Test
+    void ownWrites_shouldNotBeDispatchedAgain() {
+        double before0 = invalidations(0);
+        double before1 = invalidations(1);
+
+        cluster.bean(0, DepartmentService.class).createDepartment(new Department(null, "Cluster Own", null));
+
+        await(() -> invalidations(1) > before1);
+        assertEquals(before0, invalidations(0));
+    }
+
+    private static Employee employeeOn(int node, Long id) {
+        return cluster.bean(node, EmployeeService.class).getEmployeeById(id).orElseThrow();
+    }
+
+    private static String cached(JsonByteStore store, String key) {
+        ByteBuffer buffer = store.get(key);
+        return buffer == null ? "" : StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    private static double invalidations(int node) {
+        return cluster.bean(node, MeterRegistry.class).get("app.cluster.invalidations").tag("scope", "entity")
+                .counter().count();
+    }
+
+    /** Waits until the node's directory answers for the employee itself, so a missed invalidation would show. */
+    private static void awaitInDirectory(int node, Long id) {
+        EmployeeDirectory directory = cluster.bean(node, EmployeeDirectory.class);
+        await(() -> directory.findById(id).isPresent());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + STALENESS_BOUND_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "not visible within " + STALENESS_BOUND_MS + " ms");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Employee newEmployee(String name, Department department) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        return employee;
+    }
+}
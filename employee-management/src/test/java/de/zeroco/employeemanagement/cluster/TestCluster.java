@@ -0,0 +1,65 @@
+package de.zeroco.employeemanagement.cluster;
+
+import de.zeroco.employeemanagement.EmployeeManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Several application instances ("nodes") in one JVM, each with its own Spring context, web server, caches and
+ * background threads, sharing one in-memory H2 database as they would share MySQL behind a load balancer.
+ * <p>
+ * The first node creates the schema, the others only use it. The second-level cache is off because JCache
+ * hands every context in the JVM the same cache manager, which would make it look shared between the nodes.
+ */
+public class TestCluster implements AutoCloseable {
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    public static TestCluster start(int size, String... properties) {
+        TestCluster cluster = new TestCluster();
+        String url = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        try {
+            for (int i = 0; i < size; i++) {
+                // Command-line arguments, as they take precedence over application-test.properties
+                List<String> args = new ArrayList<>(List.of(
+                        "--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=" + (i == 0 ? "create-drop" : "none"),
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--server.port=0",
+                        "--app.node-id=node-" + i));
+                for (String property : properties) {
+                    args.add("--" + property);
+                }
+                cluster.nodes.add(new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                        .profiles("test")
+                        .run(args.toArray(String[]::new)));
+            }
+        } catch (RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public <T> T bean(int node, Class<T> type) {
+        return nodes.get(node).getBean(type);
+    }
+
+    /** Stops the nodes in reverse order, so the one owning the schema goes last. */
+    @Override
+    public void close() {
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            nodes.get(i).close();
+        }
+        nodes.clear();
+    }
+}
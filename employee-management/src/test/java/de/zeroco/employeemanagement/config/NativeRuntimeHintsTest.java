@@ -0,0 +1,63 @@
+package de.zeroco.employeemanagement.config;
+
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.AuthRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterEntitiesAndPayloadsForReflection() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Employee.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AuthRequest.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+    }
+
+    @Test
+    void shouldRegisterJjwtImplementationsLoadedByName() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonDeserializer"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        // Every name must resolve, a typo would only surface in the native binary
+        for (String type : NativeRuntimeHints.JJWT_TYPES) {
+            assertTrue(isPresent(type), type);
+        }
+    }
+
+    @Test
+    void shouldRegisterStatementCountingProxiesAndMigrations() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/common/V1__baseline_schema.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V2__performance_indexes.sql").test(hints));
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, NativeRuntimeHintsTest.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package de.zeroco.employeemanagement.controller;
 import de.zeroco.employeemanagement.model.security.User;
 import de.zeroco.employeemanagement.payload.AuthRequest;
 import de.zeroco.employeemanagement.payload.AuthResponse;
+import de.zeroco.employeemanagement.payload.RefreshRequest;
 import de.zeroco.employeemanagement.repository.security.UserRepository;
 import de.zeroco.employeemanagement.security.JwtUtil;
+import de.zeroco.employeemanagement.security.TokenRevocationService;
 import de.zeroco.employeemanagement.security.UserDetailsServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,9 +20,12 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,6 +53,9 @@ public class AuthControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -70,12 +78,14 @@ public class AuthControllerTest {
         when(authenticationManager.authenticate(any())).thenReturn(null); // Successful auth
         when(userDetailsServiceImpl.loadUserByUsername("testuser")).thenReturn(userDetails);
         when(jwtUtil.generateToken(userDetails)).thenReturn("mocked.jwt.token");
+        when(jwtUtil.generateRefreshToken(userDetails)).thenReturn("mocked.refresh.token");
 
         mockMvc.perform(post("/api/v1/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(authRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token", is("mocked.jwt.token")));
+                .andExpect(jsonPath("$.token", is("mocked.jwt.token")))
+                .andExpect(jsonPath("$.refreshToken", is("mocked.refresh.token")));
 
         verify(authenticationManager, times(1)).authenticate(any());
         verify(userDetailsServiceImpl, times(1)).loadUserByUsername("testuser");
@@ -142,6 +152,54 @@ public class AuthControllerTest {
     }
 
 
+    @Test
+    void refresh_validRefreshToken_shouldRotateTokensWithoutPasswordCheck() throws Exception {
+        org.springframework.security.core.userdetails.User userDetails =
+                new org.springframework.security.core.userdetails.User(testUser.getUsername(), testUser.getPassword(), Arrays.asList(() -> "ROLE_USER"));
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        RefreshRequest refreshRequest = new RefreshRequest();
+        refreshRequest.refreshToken = "old.refresh.token";
+
+        when(jwtUtil.isRefreshToken("old.refresh.token")).thenReturn(true);
+        when(jwtUtil.extractTokenId("old.refresh.token")).thenReturn("jti-1");
+        when(jwtUtil.extractUsername("old.refresh.token")).thenReturn("testuser");
+        when(jwtUtil.extractExpiration("old.refresh.token")).thenReturn(expiration);
+        when(tokenRevocationService.revokeOnce("jti-1", expiration.toInstant())).thenReturn(true);
+        when(userDetailsServiceImpl.loadUserByUsername("testuser")).thenReturn(userDetails);
+        when(jwtUtil.generateToken(userDetails)).thenReturn("new.jwt.token");
+        when(jwtUtil.generateRefreshToken(userDetails)).thenReturn("new.refresh.token");
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(refreshRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token", is("new.jwt.token")))
+                .andExpect(jsonPath("$.refreshToken", is("new.refresh.token")));
+
+        verify(tokenRevocationService, times(1)).revokeOnce("jti-1", expiration.toInstant());
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    void refresh_revokedRefreshToken_shouldReturnUnauthorized() throws Exception {
+        RefreshRequest refreshRequest = new RefreshRequest();
+        refreshRequest.refreshToken = "revoked.refresh.token";
+
+        when(jwtUtil.isRefreshToken("revoked.refresh.token")).thenReturn(true);
+        when(jwtUtil.extractTokenId("revoked.refresh.token")).thenReturn("jti-2");
+        when(jwtUtil.extractUsername("revoked.refresh.token")).thenReturn("testuser");
+        when(jwtUtil.extractExpiration("revoked.refresh.token")).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        when(tokenRevocationService.revokeOnce(eq("jti-2"), any())).thenReturn(false);
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(refreshRequest)))
+                .andExpect(status().isUnauthorized());
+
+        verify(userDetailsServiceImpl, never()).loadUserByUsername(anyString());
+        verify(jwtUtil, never()).generateToken(any());
+    }
+
     @Test
     void register_newUser_shouldReturnSuccessMessage() throws Exception {
         User newUser = new User(null, "newuser", "newpassword123", "ROLE_USER");
@@ -2,7 +2,10 @@ package de.zeroco.employeemanagement.controller;
 
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
 import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +37,9 @@ public class DepartmentControllerTest {
     @MockBean
     private DepartmentService departmentService;
 
+    @MockBean
+    private EmployeeService employeeService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -178,4 +186,44 @@ public class DepartmentControllerTest {
         verify(departmentService, times(1)).getDepartmentById(3L); // Controller pre-check
         verify(departmentService, never()).deleteDepartment(3L);
     }
+
+    @Test
+    void getDepartmentEmployees_shouldReturnEmployees() throws Exception {
+        Employee employee = new Employee();
+        employee.setId(7L);
+        employee.setName("Jane Smith");
+        employee.setDepartment(department1);
+        when(employeeService.getEmployeesByDepartment(1L)).thenReturn(List.of(employee));
+
+        mockMvc.perform(get("/api/v1/departments/1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Jane Smith")));
+    }
+
+    @Test
+    void getDepartmentEmployees_whenDepartmentNotFound_shouldReturnNotFound() throws Exception {
+        when(employeeService.getEmployeesByDepartment(3L))
+                .thenThrow(new ResourceNotFoundException("Department not found with id: 3"));
+
+        mockMvc.perform(get("/api/v1/departments/3/employees"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getDepartmentEmployees_withAsOf_shouldReturnVersionsFromHistory() throws Exception {
+        Instant knownAt = Instant.parse("2024-02-01T00:00:00Z");
+        EmployeeVersion version = new EmployeeVersion(7L, "Jane Smith", "Analyst", 70000.0, LocalDate.of(1992, 2, 2),
+                "jane.smith@example.com", null, LocalDate.of(2021, 2, 2), null, 1L, null,
+                LocalDate.of(2023, 1, 1), null, Instant.parse("2023-01-01T09:00:00Z"));
+        when(employeeService.getEmployeesByDepartmentAsOf(1L, LocalDate.of(2023, 6, 30), knownAt)).thenReturn(List.of(version));
+
+        mockMvc.perform(get("/api/v1/departments/1/employees").param("asOf", "2023-06-30").param("knownAt", knownAt.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$[0].validTo").value(nullValue()));
+
+        verify(employeeService, never()).getEmployeesByDepartment(anyLong());
+    }
 }
@@ -2,9 +2,14 @@ package de.zeroco.employeemanagement.controller;
 
 import de.zeroco.employeemanagement.exception.DuplicateEmailException;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.exception.SyncTokenExpiredException;
 import de.zeroco.employeemanagement.model.Department;
 import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeChange;
+import de.zeroco.employeemanagement.payload.EmployeeChangesResponse;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
 import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.EmployeeSyncService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +20,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -22,8 +28,10 @@ import java.util.Optional;
 import java.util.HashSet;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +46,9 @@ public class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeSyncService employeeSyncService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -132,6 +143,28 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployeeById(3L);
     }
     
+    @Test
+    void getEmployeeById_withAsOf_shouldReturnVersionFromHistory() throws Exception {
+        EmployeeVersion version = new EmployeeVersion(1L, "John Doe", "Developer", 55000.0, LocalDate.of(1990, 1, 1),
+                "john.doe@example.com", "1234567890", LocalDate.of(2022, 1, 1), "123 Main St", 1L, null,
+                LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1), Instant.parse("2023-01-01T09:00:00Z"));
+        when(employeeService.getEmployeeAsOf(1L, LocalDate.of(2023, 6, 30), null)).thenReturn(version);
+
+        mockMvc.perform(get("/api/v1/employees/1").param("asOf", "2023-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeId", is(1)))
+                .andExpect(jsonPath("$.salary", is(55000.0)))
+                .andExpect(jsonPath("$.validTo", is("2024-01-01")));
+
+        verify(employeeService, never()).getEmployeeById(anyLong());
+    }
+
+    @Test
+    void getEmployeeById_withInvalidAsOf_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/1").param("asOf", "last year"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getAllEmployees_shouldReturnListOfEmployees() throws Exception {
         List<Employee> employees = Arrays.asList(employee1, employee2);
@@ -146,6 +179,28 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    void getAllEmployees_withPageAndSize_shouldReturnPage() throws Exception {
+        when(employeeService.getEmployeesPage(1, 1)).thenReturn(List.of(employee2));
+
+        mockMvc.perform(get("/api/v1/employees").param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Jane Smith")));
+
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getDirectReports_shouldReturnReports() throws Exception {
+        when(employeeService.getDirectReports(1L)).thenReturn(List.of(employee2));
+
+        mockMvc.perform(get("/api/v1/employees/1/reports"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Jane Smith")));
+    }
+
     @Test
     void updateEmployee_whenFound_shouldReturnUpdatedEmployee() throws Exception {
         Employee updatedDetails = new Employee(null, "Johnathan Doe", "Senior Developer", 65000.0, employee1.getDateOfBirth(),
@@ -224,4 +279,32 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).getEmployeeByEmail("non.existent@example.com");
     }
+
+    @Test
+    void getChanges_shouldReturnUpsertsTombstonesAndNextToken() throws Exception {
+        when(employeeSyncService.getChanges("t1", 500)).thenReturn(new EmployeeChangesResponse(
+                List.of(EmployeeChange.upsert(employee1), EmployeeChange.tombstone(7L)), "t2", false));
+
+        mockMvc.perform(get("/api/v1/employees/changes").param("since", "t1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].type", is("UPSERT")))
+                .andExpect(jsonPath("$.changes[0].employee.name", is("John Doe")))
+                .andExpect(jsonPath("$.changes[1].type", is("DELETE")))
+                .andExpect(jsonPath("$.changes[1].id", is(7)))
+                .andExpect(jsonPath("$.nextToken", is("t2")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void getChanges_whenTokenExpired_shouldReturnGone() throws Exception {
+        when(employeeSyncService.getChanges(eq("old"), anyInt()))
+                .thenThrow(new SyncTokenExpiredException("Changes after this sync token have been pruned; a full resync is required"));
+
+        mockMvc.perform(get("/api/v1/employees/changes").param("since", "old").param("limit", "100"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status", is(410)));
+
+        verify(employeeSyncService, times(1)).getChanges("old", 100);
+    }
 }
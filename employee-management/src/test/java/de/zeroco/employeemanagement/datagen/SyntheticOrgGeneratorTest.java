@@ -0,0 +1,82 @@
+package de.zeroco.employeemanagement.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticOrgGeneratorTest {
+
+    static class RecordingSink implements SyntheticOrgGenerator.Sink {
+        final List<Long> departments = new ArrayList<>();
+        final List<SyntheticOrgGenerator.GeneratedEmployee> employees = new ArrayList<>();
+        final Set<String> memberships = new HashSet<>();
+        int duplicateMemberships;
+
+        @Override
+        public void department(long id, String name) {
+            departments.add(id);
+        }
+
+        @Override
+        public void project(long id, String name) {
+        }
+
+        @Override
+        public void employee(SyntheticOrgGenerator.GeneratedEmployee employee) {
+            employees.add(employee);
+        }
+
+        @Override
+        public void projectMembership(long employeeId, long projectId) {
+            if (!memberships.add(employeeId + ":" + projectId)) {
+                duplicateMemberships++;
+            }
+        }
+    }
+
+    private static RecordingSink generate(long seed) {
+        RecordingSink sink = new RecordingSink();
+        new SyntheticOrgGenerator(seed, 5000, 20, 100, 7).generate(sink, 0, 0, 0);
+        return sink;
+    }
+
+    @Test
+    void sameSeed_shouldProduceIdenticalData() {
+        assertEquals(generate(7).employees, generate(7).employees);
+        assertNotEquals(generate(7).employees, generate(8).employees);
+    }
+
+    @Test
+    void generatedOrganisation_shouldSatisfyKeysAndUniqueness() {
+        RecordingSink sink = generate(42);
+        Set<String> emails = new HashSet<>();
+        for (SyntheticOrgGenerator.GeneratedEmployee e : sink.employees) {
+            assertTrue(emails.add(e.email()), "duplicate email " + e.email());
+            if (e.id() == 1) {
+                assertNull(e.managerId());
+            } else {
+                assertTrue(e.managerId() < e.id(), "manager must be inserted before the report");
+            }
+            assertTrue(sink.departments.contains(e.departmentId()));
+            assertTrue(e.hireDate().isAfter(e.dateOfBirth().plusYears(18).minusDays(1)));
+            assertTrue(e.salary() > 0);
+        }
+        assertEquals(0, sink.duplicateMemberships);
+    }
+
+    @Test
+    void departmentSizes_shouldBeSkewed() {
+        Map<Long, Integer> sizes = new HashMap<>();
+        generate(42).employees.forEach(e -> sizes.merge(e.departmentId(), 1, Integer::sum));
+        int largest = sizes.values().stream().max(Integer::compare).orElseThrow();
+        // With 20 departments a uniform split would give 250 each
+        assertTrue(largest > 2 * 250, "largest department has only " + largest + " employees");
+    }
+}
@@ -0,0 +1,107 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Uses two independent in-memory H2 databases as primary and replica stand-ins; each holds a marker row
+ * naming itself, so a query reveals where it was routed.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        replicaLagMonitor = new ReplicaLagMonitor(Map.of("replica", replica), Map.of("replica", "SELECT 0"), 1000);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor, new ReadYourWritesTracker(60_000));
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        targets.put("replica", replica);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        assertEquals("replica", readOnlyTx.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimary() {
+        assertEquals("primary", readWriteTx.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void readAfterOwnWrite_shouldUsePrimaryOnlyForThatUser() {
+        authenticateAs("alice");
+        readWriteTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET touched = TRUE"));
+
+        assertEquals("primary", readOnlyTx.execute(status -> whereAmI()));
+
+        authenticateAs("bob");
+        assertEquals("replica", readOnlyTx.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void laggingReplica_shouldFallBackToPrimary() {
+        replicaLagMonitor.recordLag("replica", 5000);
+        assertEquals("primary", readOnlyTx.execute(status -> whereAmI()));
+
+        replicaLagMonitor.probe(); // "SELECT 0" reports zero lag again
+        assertEquals("replica", readOnlyTx.execute(status -> whereAmI()));
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE marker (name VARCHAR(20), touched BOOLEAN DEFAULT FALSE)");
+        setup.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
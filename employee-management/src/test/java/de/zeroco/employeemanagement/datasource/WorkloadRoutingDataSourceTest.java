@@ -0,0 +1,79 @@
+package de.zeroco.employeemanagement.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WorkloadRoutingDataSourceTest {
+
+    static class ReportService {
+        @WorkloadPool(Workload.REPORTING)
+        public Workload report() {
+            return WorkloadContext.current();
+        }
+
+        public Workload interactive() {
+            return WorkloadContext.current();
+        }
+    }
+
+    @Test
+    void annotatedMethod_shouldRunOnItsWorkloadAndRestoreAfterwards() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ReportService());
+        factory.addAspect(new WorkloadPoolAspect());
+        ReportService service = factory.getProxy();
+
+        assertEquals(Workload.REPORTING, service.report());
+        assertEquals(Workload.INTERACTIVE, service.interactive());
+        assertEquals(Workload.INTERACTIVE, WorkloadContext.current());
+    }
+
+    @Test
+    void connections_shouldComeFromTheCurrentWorkloadPool() {
+        Map<Object, Object> targets = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            targets.put(workload, h2(workload));
+        }
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.afterPropertiesSet();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        assertEquals("INTERACTIVE", jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+        Workload previous = WorkloadContext.set(Workload.BULK);
+        try {
+            assertEquals("BULK", jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    @Test
+    void statementTimeout_shouldBeAppliedToEveryStatement() throws Exception {
+        DataSource dataSource = new StatementTimeoutDataSource(h2(Workload.REPORTING), 7);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertEquals(7, statement.getQueryTimeout());
+            assertEquals(7, connection.prepareStatement("SELECT 1").getQueryTimeout());
+        }
+    }
+
+    private static DataSource h2(Workload workload) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:workload-" + workload + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE marker (name VARCHAR(20))");
+        setup.update("INSERT INTO marker (name) VALUES (?)", workload.name());
+        return dataSource;
+    }
+}
@@ -0,0 +1,110 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectorySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EmployeeDirectory directory;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        directory = new EmployeeDirectory(new DirectoryUpdateLog(), 4);
+        directory.putDepartment(10, "Engineering");
+        directory.putDepartment(20, "Sales");
+        directory.putProject(100, "Website");
+        directory.putProject(200, "Migration");
+        directory.putEmployees(List.of(
+                new EmployeeRow(1, "Ada", "Engineer", 5000.0, LocalDate.of(1990, 1, 1), "ada@example.com",
+                        "+49 30 123", LocalDate.of(2020, 1, 1), "Berlin", 10, 0, new long[]{100}),
+                new EmployeeRow(2, "Grüße 日本", null, null, null, "alan@example.com",
+                        null, null, null, 20, 1, new long[]{100, 200})));
+        directory.setReady(true);
+        file = tempDir.resolve("directory.snapshot");
+    }
+
+    @Test
+    void writeAndRead_shouldRoundTripContentsAndWatermark() throws IOException {
+        Instant watermarkTime = Instant.parse("2024-05-01T10:00:00Z");
+        assertTrue(DirectorySnapshot.write(directory, file, 42, watermarkTime));
+
+        EmployeeDirectory restored = new EmployeeDirectory(new DirectoryUpdateLog(), 4);
+        DirectorySnapshot.Header header = DirectorySnapshot.read(file, restored);
+        restored.setReady(true);
+
+        assertEquals(42, header.watermarkId());
+        assertEquals(watermarkTime, header.watermarkTime());
+        assertEquals(2, header.departments());
+        assertEquals(2, header.projects());
+        assertEquals(2, header.employees());
+        assertEquals(header, DirectorySnapshot.readHeader(file));
+        for (long id : new long[]{1, 2}) {
+            assertEquals(directory.findById(id).orElseThrow(), restored.findById(id).orElseThrow());
+        }
+        Employee alan = restored.findByEmail("alan@example.com").orElseThrow();
+        assertEquals("Grüße 日本", alan.getName());
+        assertNull(alan.getSalary());
+        assertNull(alan.getDateOfBirth());
+        assertEquals(2, alan.getProjects().size());
+        assertEquals(List.of(2L), restored.findDirectReports(1).orElseThrow().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void write_withPendingChanges_shouldSkipAndKeepPreviousSnapshot() throws IOException {
+        assertTrue(DirectorySnapshot.write(directory, file, 1, Instant.now()));
+        byte[] previous = Files.readAllBytes(file);
+
+        directory.updateLog().append(DirectoryUpdateLog.Kind.EMPLOYEE, 1, ChangeType.UPDATED);
+
+        assertFalse(DirectorySnapshot.write(directory, file, 2, Instant.now()));
+        assertArrayEquals(previous, Files.readAllBytes(file));
+        assertFalse(Files.exists(tempDir.resolve("directory.snapshot.tmp")));
+    }
+
+    @Test
+    void read_corruptedBody_shouldBeRejected() throws IOException {
+        DirectorySnapshot.write(directory, file, 1, Instant.now());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[DirectorySnapshot.HEADER_BYTES + 20] ^= 0x01;
+        Files.write(file, bytes);
+
+        IOException e = assertThrows(IOException.class,
+                () -> DirectorySnapshot.read(file, new EmployeeDirectory(new DirectoryUpdateLog(), 4)));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void read_otherFormatVersionOrTruncatedFile_shouldBeRejected() throws IOException {
+        DirectorySnapshot.write(directory, file, 1, Instant.now());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, DirectorySnapshot.FORMAT_VERSION + 1), 4);
+        }
+        assertThrows(IOException.class, () -> DirectorySnapshot.readHeader(file));
+
+        DirectorySnapshot.write(directory, file, 1, Instant.now());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 1);
+        }
+        assertThrows(IOException.class,
+                () -> DirectorySnapshot.read(file, new EmployeeDirectory(new DirectoryUpdateLog(), 4)));
+    }
+}
@@ -0,0 +1,173 @@
+package de.zeroco.employeemanagement.directory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.repository.EmployeeRepository;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the directory against H2: answers must be identical to the database's, and service writes must be
+ * visible to the next read even before the background thread has applied them.
+ */
+@SpringBootTest(properties = "app.directory.enabled=true")
+@ActiveProfiles("test")
+public class EmployeeDirectoryIntegrationTest {
+
+    @Autowired
+    private EmployeeDirectory directory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void directoryAnswers_shouldMatchDatabase() throws Exception {
+        Department department = departmentService.createDepartment(new Department(null, "Directory", null));
+        Project project = projectService.createProject(new Project(null, "Directory Project", new HashSet<>()));
+        Employee manager = employeeService.createEmployee(newEmployee("Manager", department, null, project));
+        Employee report = employeeService.createEmployee(newEmployee("Report", department, manager, project));
+        awaitCurrent();
+
+        double hits = directoryHits();
+        String fromDirectory = objectMapper.writeValueAsString(employeeService.getEmployeeById(report.getId()).orElseThrow());
+        assertEquals(hits + 1, directoryHits());
+        String fromDatabase = transactionTemplate.execute(status -> {
+            try {
+                return objectMapper.writeValueAsString(employeeRepository.findById(report.getId()).orElseThrow());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertEquals(objectMapper.readTree(fromDatabase), objectMapper.readTree(fromDirectory));
+
+        assertEquals(report.getId(), employeeService.getEmployeeByEmail(report.getEmail()).orElseThrow().getId());
+        assertEquals(List.of(manager.getId(), report.getId()),
+                employeeService.getEmployeesByDepartment(department.getId()).stream().map(Employee::getId).toList());
+        assertEquals(List.of(report.getId()),
+                employeeService.getDirectReports(manager.getId()).stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void serviceWrites_shouldBeVisibleToTheNextRead() {
+        Department department = departmentService.createDepartment(new Department(null, "Directory Writes", null));
+        Employee manager = employeeService.createEmployee(newEmployee("Before", department, null, null));
+        Employee report = employeeService.createEmployee(newEmployee("Report", department, manager, null));
+        awaitCurrent();
+
+        Employee renamed = newEmployee("After", department, null, null);
+        renamed.setEmail(manager.getEmail());
+        employeeService.updateEmployee(manager.getId(), renamed);
+
+        assertEquals("After", employeeService.getEmployeeById(report.getId()).orElseThrow().getManager().getName());
+        awaitCurrent();
+        assertEquals("After", employeeService.getEmployeeById(report.getId()).orElseThrow().getManager().getName());
+
+        departmentService.updateDepartment(department.getId(), new Department(null, "Directory Renamed", null));
+        assertEquals("Directory Renamed", employeeService.getEmployeeById(report.getId()).orElseThrow().getDepartment().getName());
+        awaitCurrent();
+        assertEquals("Directory Renamed", employeeService.getEmployeeById(report.getId()).orElseThrow().getDepartment().getName());
+
+        employeeService.deleteEmployee(report.getId());
+        assertTrue(employeeService.getEmployeeById(report.getId()).isEmpty());
+        awaitCurrent();
+        assertTrue(employeeService.getDirectReports(manager.getId()).isEmpty());
+    }
+
+    @Test
+    void restoredSnapshot_shouldQueueChangesMadeSinceItWasWritten() throws Exception {
+        Department department = departmentService.createDepartment(new Department(null, "Snapshot", null));
+        Employee employee = employeeService.createEmployee(newEmployee("Before Snapshot", department, null, null));
+        awaitCurrent();
+        Path file = tempDir.resolve("directory.snapshot");
+        assertTrue(new DirectorySnapshotter(directory, changeLog, file, Duration.ZERO).write());
+
+        Employee renamed = newEmployee("After Snapshot", department, null, null);
+        renamed.setEmail(employee.getEmail());
+        employeeService.updateEmployee(employee.getId(), renamed);
+
+        EmployeeDirectory restored = new EmployeeDirectory(new DirectoryUpdateLog(), 16);
+        assertTrue(new DirectorySnapshotter(restored, changeLog, file, Duration.ZERO).restore());
+        assertTrue(restored.isReady());
+        assertTrue(restored.updateLog().isPending(employee.getId()));
+        assertTrue(restored.findById(employee.getId()).isEmpty());
+        assertTrue(restored.updateLog().awaitBatch(100, 1).stream().map(DirectoryUpdateLog.Entry::id).toList()
+                .contains(employee.getId()));
+    }
+
+    private void awaitCurrent() {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!(directory.isReady() && directory.updateLog().isEmpty())) {
+            assertTrue(System.currentTimeMillis() < deadline, "directory did not catch up");
+            Thread.onSpinWait();
+        }
+    }
+
+    private double directoryHits() {
+        return meterRegistry.get("app.directory.lookups").tag("result", "hit").functionCounter().count();
+    }
+
+    private static Employee newEmployee(String name, Department department, Employee manager, Project project) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        if (manager != null) {
+            Employee managerReference = new Employee();
+            managerReference.setId(manager.getId());
+            employee.setManager(managerReference);
+        }
+        if (project != null) {
+            employee.setProjects(new HashSet<>(Set.of(new Project(project.getId(), null, new HashSet<>()))));
+        }
+        return employee;
+    }
+}
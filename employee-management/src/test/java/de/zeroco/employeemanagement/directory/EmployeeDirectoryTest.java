@@ -0,0 +1,107 @@
+package de.zeroco.employeemanagement.directory;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeDirectoryTest {
+
+    private DirectoryUpdateLog updateLog;
+    private EmployeeDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        updateLog = new DirectoryUpdateLog();
+        directory = new EmployeeDirectory(updateLog, 4);
+        directory.putDepartment(10, "Engineering");
+        directory.putDepartment(20, "Sales");
+        directory.putProject(100, "Website");
+        directory.putProject(200, "Migration");
+        directory.putEmployees(List.of(
+                row(1, "ada@example.com", 10, 0, 100),
+                row(2, "alan@example.com", 10, 1, 100, 200),
+                row(3, "grace@example.com", 20, 2)));
+        directory.setReady(true);
+    }
+
+    @Test
+    void findById_shouldMaterializeEmployeeWithManagerChainDepartmentAndProjects() {
+        Employee employee = directory.findById(3).orElseThrow();
+
+        assertEquals("Employee 3", employee.getName());
+        assertEquals("Engineer", employee.getRole());
+        assertEquals(LocalDate.of(1990, 1, 3), employee.getDateOfBirth());
+        assertEquals("Sales", employee.getDepartment().getName());
+        assertEquals(2L, employee.getManager().getId());
+        assertEquals(1L, employee.getManager().getManager().getId());
+        assertNull(employee.getManager().getManager().getManager());
+        assertEquals(List.of("Migration", "Website"),
+                employee.getManager().getProjects().stream().map(Project::getName).sorted().toList());
+    }
+
+    @Test
+    void lookups_shouldFollowUpdates() {
+        // Alan moves to Sales, reports to nobody and changes email
+        directory.putEmployees(List.of(row(2, "alan.turing@example.com", 20, 0)));
+
+        assertTrue(directory.findByEmail("alan@example.com").isEmpty());
+        assertEquals(2L, directory.findByEmail("alan.turing@example.com").orElseThrow().getId());
+        assertEquals(List.of(1L), ids(directory.findByDepartment(10).orElseThrow()));
+        assertEquals(List.of(2L, 3L), ids(directory.findByDepartment(20).orElseThrow()));
+        assertEquals(List.of(), ids(directory.findDirectReports(1).orElseThrow()));
+        assertEquals(List.of(3L), ids(directory.findDirectReports(2).orElseThrow()));
+    }
+
+    @Test
+    void removedRows_shouldBeReused() {
+        directory.removeEmployees(List.of(3L));
+        assertTrue(directory.findById(3).isEmpty());
+        assertTrue(directory.findByEmail("grace@example.com").isEmpty());
+        assertEquals(List.of(), ids(directory.findDirectReports(2).orElseThrow()));
+
+        directory.putEmployees(List.of(row(4, "linus@example.com", 20, 2)));
+
+        assertEquals(3, directory.size());
+        assertEquals(List.of(4L), ids(directory.findDirectReports(2).orElseThrow()));
+        assertEquals("linus@example.com", directory.findById(4).orElseThrow().getEmail());
+    }
+
+    @Test
+    void pendingChanges_shouldMakeAffectedLookupsFallBack() throws InterruptedException {
+        updateLog.append(DirectoryUpdateLog.Kind.EMPLOYEE, 1, ChangeType.UPDATED);
+
+        // Employee 3 embeds employee 1 through its manager chain
+        assertTrue(directory.findById(1).isEmpty());
+        assertTrue(directory.findById(3).isEmpty());
+        assertTrue(directory.findByDepartment(20).isEmpty());
+
+        updateLog.markApplied(updateLog.awaitBatch(10, 1));
+
+        assertTrue(directory.findById(3).isPresent());
+        assertTrue(directory.findByDepartment(20).isPresent());
+    }
+
+    @Test
+    void lookups_whileNotReady_shouldFallBack() {
+        directory.setReady(false);
+
+        assertTrue(directory.findById(1).isEmpty());
+        assertTrue(directory.findByEmail("ada@example.com").isEmpty());
+    }
+
+    private static List<Long> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static EmployeeRow row(long id, String email, long departmentId, long managerId, long... projectIds) {
+        return new EmployeeRow(id, "Employee " + id, "Engineer", 5000.0, LocalDate.of(1990, 1, (int) id), email,
+                null, LocalDate.of(2020, 1, 1), null, departmentId, managerId, projectIds);
+    }
+}
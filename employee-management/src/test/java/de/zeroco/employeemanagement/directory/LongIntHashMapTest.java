@@ -0,0 +1,40 @@
+package de.zeroco.employeemanagement.directory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    void randomOperations_shouldMatchHashMap() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(5_000); // small key space, so removals hit long probe runs
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                assertEquals(previous == null ? LongIntHashMap.MISSING : previous, map.remove(key));
+            } else {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? LongIntHashMap.MISSING : previous, map.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+
+    @Test
+    void put_withReservedKey_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(0, 1));
+    }
+}
@@ -0,0 +1,28 @@
+package de.zeroco.employeemanagement.directory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringRowIndexTest {
+
+    @Test
+    void addAndRemove_shouldKeepRemainingRowsReachable() {
+        String[] column = new String[1_000];
+        StringRowIndex index = new StringRowIndex(4, row -> column[row]);
+        for (int row = 0; row < column.length; row++) {
+            column[row] = "employee" + row + "@example.com";
+            index.add(row);
+        }
+
+        for (int row = 0; row < column.length; row += 2) {
+            index.remove(row);
+        }
+
+        assertEquals(500, index.size());
+        for (int row = 0; row < column.length; row++) {
+            int expected = row % 2 == 0 ? LongIntHashMap.MISSING : row;
+            assertEquals(expected, index.get("employee" + row + "@example.com"));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package de.zeroco.employeemanagement.history;
+
+import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeVersion;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Versions recorded by service writes and the as-of queries over them. Writes made on different days are
+ * simulated by moving the recorded history of the employees under test back by whole days.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class EmployeeHistoryIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private Department engineering;
+    private Department sales;
+
+    @BeforeEach
+    void setUp() {
+        engineering = departmentService.createDepartment(new Department(null, "History " + UUID.randomUUID(), null));
+        sales = departmentService.createDepartment(new Department(null, "History " + UUID.randomUUID(), null));
+    }
+
+    @Test
+    void changesOnDifferentDays_shouldEachBeValidFromTheirDay() {
+        Employee created = employeeService.createEmployee(newEmployee(5000.0, engineering));
+        passDays(created.getId(), 10);
+        employeeService.updateEmployee(created.getId(), changed(created, 6000.0, engineering));
+        passDays(created.getId(), 5);
+        employeeService.updateEmployee(created.getId(), changed(created, 6000.0, sales));
+
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeAsOf(created.getId(), today.minusDays(16), null));
+        EmployeeVersion first = employeeService.getEmployeeAsOf(created.getId(), today.minusDays(15), null);
+        assertEquals(5000.0, first.salary);
+        assertEquals(today.minusDays(15), first.validFrom);
+        assertEquals(today.minusDays(5), first.validTo);
+        EmployeeVersion raised = employeeService.getEmployeeAsOf(created.getId(), today.minusDays(1), null);
+        assertEquals(6000.0, raised.salary);
+        assertEquals(engineering.getId(), raised.departmentId);
+        EmployeeVersion moved = employeeService.getEmployeeAsOf(created.getId(), today.plusDays(30), null);
+        assertEquals(sales.getId(), moved.departmentId);
+        assertNull(moved.validTo);
+
+        assertEquals(List.of(created.getId()), memberIds(engineering, today.minusDays(1)));
+        assertEquals(List.of(), memberIds(engineering, today));
+        assertEquals(List.of(created.getId()), memberIds(sales, today));
+        assertEquals(List.of(), memberIds(sales, today.minusDays(1)));
+    }
+
+    @Test
+    void changesOnTheSameDay_shouldReplaceTheDaysVersionButRemainKnownAtTheirTime() {
+        Instant beforeCreate = Instant.now();
+        Employee created = employeeService.createEmployee(newEmployee(5000.0, engineering));
+        employeeService.updateEmployee(created.getId(), changed(created, 5500.0, engineering));
+        Instant afterFirstUpdate = Instant.now();
+        employeeService.updateEmployee(created.getId(), changed(created, 5800.0, engineering));
+
+        EmployeeVersion current = employeeService.getEmployeeAsOf(created.getId(), today, null);
+        assertEquals(5800.0, current.salary);
+        assertEquals(today, current.validFrom);
+        assertEquals(5500.0, employeeService.getEmployeeAsOf(created.getId(), today, afterFirstUpdate).salary);
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeAsOf(created.getId(), today, beforeCreate));
+        assertEquals(1, employeeService.getEmployeesByDepartmentAsOf(engineering.getId(), today, afterFirstUpdate).size());
+    }
+
+    @Test
+    void deletedEmployees_shouldRemainInTheHistoryUntilTheirDeletion() {
+        Employee created = employeeService.createEmployee(newEmployee(5000.0, engineering));
+        passDays(created.getId(), 3);
+        employeeService.deleteEmployee(created.getId());
+
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeAsOf(created.getId(), today, null));
+        EmployeeVersion last = employeeService.getEmployeeAsOf(created.getId(), today.minusDays(1), null);
+        assertEquals(5000.0, last.salary);
+        assertEquals(today, last.validTo);
+        assertEquals(List.of(created.getId()), memberIds(engineering, today.minusDays(3)));
+    }
+
+    @Test
+    void rolledBackWrites_shouldLeaveNoVersion() {
+        Employee created = employeeService.createEmployee(newEmployee(5000.0, engineering));
+        passDays(created.getId(), 1);
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.updateEmployee(created.getId(), changed(created, 9000.0, engineering));
+            status.setRollbackOnly();
+        });
+
+        EmployeeVersion current = employeeService.getEmployeeAsOf(created.getId(), today, null);
+        assertEquals(5000.0, current.salary);
+        assertEquals(today.minusDays(1), current.validFrom);
+    }
+
+    /** Moves the recorded history of one employee {@code days} into the past, as if it had been written then. */
+    private void passDays(long employeeId, int days) {
+        jdbcTemplate.update("UPDATE employee_history SET"
+                + " valid_from = DATEADD(DAY, -" + days + ", valid_from),"
+                + " valid_to = CASE WHEN valid_to = DATE '9999-12-31' THEN valid_to ELSE DATEADD(DAY, -" + days + ", valid_to) END,"
+                + " recorded_from = DATEADD(DAY, -" + days + ", recorded_from),"
+                + " recorded_to = CASE WHEN recorded_to = TIMESTAMP '9999-12-31 00:00:00' THEN recorded_to"
+                + " ELSE DATEADD(DAY, -" + days + ", recorded_to) END"
+                + " WHERE employee_id = ?", employeeId);
+    }
+
+    private List<Long> memberIds(Department department, LocalDate day) {
+        return employeeService.getEmployeesByDepartmentAsOf(department.getId(), day, null).stream()
+                .map(version -> version.employeeId).toList();
+    }
+
+    private static Employee changed(Employee employee, double salary, Department department) {
+        Employee details = newEmployee(salary, department);
+        details.setEmail(employee.getEmail());
+        return details;
+    }
+
+    private static Employee newEmployee(double salary, Department department) {
+        Employee employee = new Employee();
+        employee.setName("Versioned");
+        employee.setRole("Engineer");
+        employee.setSalary(salary);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        return employee;
+    }
+}
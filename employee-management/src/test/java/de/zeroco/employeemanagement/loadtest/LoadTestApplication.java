@@ -0,0 +1,84 @@
+package de.zeroco.employeemanagement.loadtest;
+
+import de.zeroco.employeemanagement.EmployeeManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The application booted in-process on a random port with an in-memory H2 database, for load tests.
+ */
+public class LoadTestApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private LoadTestApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * @param properties additional "key=value" properties, overriding the H2 defaults
+     */
+    public static LoadTestApplication start(String name, String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:load-" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "spring.datasource.driverClassName=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "app.warmup.enabled=false",
+                "spring.jpa.show-sql=false",
+                "spring.datasource.hikari.maximum-pool-size=50",
+                "server.tomcat.max-connections=20000",
+                "server.tomcat.accept-count=1000",
+                "logging.level.root=WARN"));
+        all.addAll(List.of(properties));
+        return new LoadTestApplication(new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .properties(all.toArray(String[]::new))
+                .run());
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public String login(HttpClient client, String username, String password) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return extract(response.body(), "token");
+    }
+
+    public static String extract(String json, String field) {
+        Matcher matcher = Pattern.compile("\"" + field + "\"\\s*:\\s*\"?([^\",}]+)").matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Field '" + field + "' not found in response: " + json);
+        }
+        return matcher.group(1);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
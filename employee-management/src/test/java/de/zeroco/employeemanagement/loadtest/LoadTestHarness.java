@@ -0,0 +1,203 @@
+package de.zeroco.employeemanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Drives a weighted mix of HTTP operations against a running application and records per-operation latency in
+ * HdrHistograms.
+ *
+ * <ul>
+ *   <li>{@link ArrivalModel#CLOSED}: each virtual user sends a request, waits for the response, optionally thinks,
+ *       and repeats. Throughput adapts to the server, like a fixed population of interactive users.</li>
+ *   <li>{@link ArrivalModel#OPEN}: requests arrive at a fixed rate regardless of how fast the server answers, with up
+ *       to {@code virtualUsers} in flight. Latency is measured from the <em>intended</em> send time, so queueing
+ *       behind a slow server is not hidden (no coordinated omission).</li>
+ * </ul>
+ */
+public class LoadTestHarness {
+
+    public enum ArrivalModel {
+        CLOSED,
+        OPEN
+    }
+
+    /**
+     * A named request type with a relative weight in the mix. The factory gets a per-user random source, e.g. to
+     * pick an employee id.
+     */
+    public record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private int virtualUsers = 50;
+    private ArrivalModel arrivalModel = ArrivalModel.CLOSED;
+    private double requestsPerSecond = 500;
+    private Duration warmup = Duration.ofSeconds(5);
+    private Duration duration = Duration.ofSeconds(30);
+    private Duration thinkTime = Duration.ZERO;
+    private long seed = 1;
+    private HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+    public LoadTestHarness virtualUsers(int virtualUsers) {
+        this.virtualUsers = virtualUsers;
+        return this;
+    }
+
+    public LoadTestHarness closedLoop(Duration thinkTime) {
+        this.arrivalModel = ArrivalModel.CLOSED;
+        this.thinkTime = thinkTime;
+        return this;
+    }
+
+    public LoadTestHarness openLoop(double requestsPerSecond) {
+        this.arrivalModel = ArrivalModel.OPEN;
+        this.requestsPerSecond = requestsPerSecond;
+        return this;
+    }
+
+    public LoadTestHarness warmup(Duration warmup) {
+        this.warmup = warmup;
+        return this;
+    }
+
+    public LoadTestHarness duration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public LoadTestHarness seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public LoadTestHarness client(HttpClient client) {
+        this.client = client;
+        return this;
+    }
+
+    public HttpClient client() {
+        return client;
+    }
+
+    public LoadTestReport run(String scenario, List<Operation> mix) throws InterruptedException {
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        for (Operation operation : mix) {
+            histograms.put(operation.name(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation.name(), new AtomicLong());
+        }
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+
+        Phase warmupPhase = new Phase(mix, totalWeight, histograms, errors);
+        runPhase(warmupPhase, warmup);
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(counter -> counter.set(0));
+
+        long start = System.nanoTime();
+        runPhase(new Phase(mix, totalWeight, histograms, errors), duration);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        errors.forEach((name, count) -> errorCounts.put(name, count.get()));
+        return new LoadTestReport(scenario, arrivalModel, virtualUsers, elapsed, histograms, errorCounts);
+    }
+
+    private void runPhase(Phase phase, Duration length) throws InterruptedException {
+        if (length.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(virtualUsers);
+        try {
+            if (arrivalModel == ArrivalModel.CLOSED) {
+                for (int u = 0; u < virtualUsers; u++) {
+                    SplittableRandom random = new SplittableRandom(seed * 31 + u);
+                    users.execute(() -> {
+                        while (System.nanoTime() < deadline) {
+                            phase.execute(random, System.nanoTime());
+                            if (!thinkTime.isZero()) {
+                                LockSupport.parkNanos(thinkTime.toNanos());
+                            }
+                        }
+                    });
+                }
+            } else {
+                SplittableRandom random = new SplittableRandom(seed);
+                long interval = (long) (1_000_000_000L / requestsPerSecond);
+                long intended = System.nanoTime();
+                while (intended < deadline) {
+                    long now = System.nanoTime();
+                    if (intended > now) {
+                        LockSupport.parkNanos(intended - now);
+                    }
+                    long scheduledAt = intended;
+                    SplittableRandom requestRandom = random.split();
+                    users.execute(() -> phase.execute(requestRandom, scheduledAt));
+                    intended += interval;
+                }
+            }
+        } finally {
+            users.shutdown();
+            users.awaitTermination(5, TimeUnit.MINUTES);
+        }
+    }
+
+    private class Phase {
+        private final List<Operation> mix;
+        private final int totalWeight;
+        private final Map<String, Histogram> histograms;
+        private final Map<String, AtomicLong> errors;
+
+        Phase(List<Operation> mix, int totalWeight, Map<String, Histogram> histograms, Map<String, AtomicLong> errors) {
+            this.mix = mix;
+            this.totalWeight = totalWeight;
+            this.histograms = histograms;
+            this.errors = errors;
+        }
+
+        void execute(SplittableRandom random, long startNanos) {
+            Operation operation = pick(random);
+            try {
+                HttpResponse<Void> response = client.send(operation.request().apply(random), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.get(operation.name()).incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                errors.get(operation.name()).incrementAndGet();
+            }
+            long micros = (System.nanoTime() - startNanos) / 1000;
+            histograms.get(operation.name()).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        private Operation pick(SplittableRandom random) {
+            int ticket = random.nextInt(totalWeight);
+            for (Operation operation : mix) {
+                ticket -= operation.weight();
+                if (ticket < 0) {
+                    return operation;
+                }
+            }
+            return mix.get(mix.size() - 1);
+        }
+    }
+}
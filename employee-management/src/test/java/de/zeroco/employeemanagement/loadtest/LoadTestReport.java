@@ -0,0 +1,89 @@
+package de.zeroco.employeemanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a {@link LoadTestHarness} run. Printed as a table and written to {@code target/load-test/}:
+ * a flat JSON summary per scenario (stable keys, for diffing runs) and one HdrHistogram {@code .hgrm}
+ * percentile distribution per operation (plot with the HdrHistogram plotter to compare runs).
+ */
+public class LoadTestReport {
+
+    private final String scenario;
+    private final LoadTestHarness.ArrivalModel arrivalModel;
+    private final int virtualUsers;
+    private final Duration elapsed;
+    private final Map<String, Histogram> histograms;
+    private final Map<String, Long> errors;
+
+    LoadTestReport(String scenario, LoadTestHarness.ArrivalModel arrivalModel, int virtualUsers, Duration elapsed,
+                   Map<String, Histogram> histograms, Map<String, Long> errors) {
+        this.scenario = scenario;
+        this.arrivalModel = arrivalModel;
+        this.virtualUsers = virtualUsers;
+        this.elapsed = elapsed;
+        this.histograms = histograms;
+        this.errors = errors;
+    }
+
+    public long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double throughput() {
+        return totalRequests() / (elapsed.toNanos() / 1e9);
+    }
+
+    public Histogram histogram(String operation) {
+        return histograms.get(operation);
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n== %s (%s, %d virtual users, %.1f s, %.0f req/s, %d errors)%n", scenario, arrivalModel,
+                virtualUsers, elapsed.toNanos() / 1e9, throughput(), totalErrors());
+        out.printf(Locale.ROOT, "%-16s %9s %9s %9s %9s %9s %9s %7s%n", "operation", "count", "p50 ms", "p90 ms", "p99 ms",
+                "p99.9 ms", "max ms", "errors");
+        histograms.forEach((name, h) -> out.printf(Locale.ROOT, "%-16s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n", name,
+                h.getTotalCount(), ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / 1000.0, errors.get(name)));
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append(String.format(Locale.ROOT, "  \"scenario\": \"%s\",%n  \"arrivalModel\": \"%s\",%n  \"virtualUsers\": %d,%n"
+                        + "  \"durationSeconds\": %.3f,%n  \"throughput\": %.1f,%n  \"operations\": {%n",
+                scenario, arrivalModel, virtualUsers, elapsed.toNanos() / 1e9, throughput()));
+        int index = 0;
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram h = entry.getValue();
+            json.append(String.format(Locale.ROOT, "    \"%s\": {\"count\": %d, \"errors\": %d, \"p50Ms\": %.3f, \"p90Ms\": %.3f, "
+                            + "\"p99Ms\": %.3f, \"p999Ms\": %.3f, \"maxMs\": %.3f}%s%n",
+                    entry.getKey(), h.getTotalCount(), errors.get(entry.getKey()), ms(h, 50), ms(h, 90), ms(h, 99),
+                    ms(h, 99.9), h.getMaxValue() / 1000.0, ++index < histograms.size() ? "," : ""));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(directory.resolve(scenario + "-" + entry.getKey() + ".hgrm")))) {
+                h.outputPercentileDistribution(hgrm, 1000.0); // microseconds recorded, milliseconds reported
+            }
+        }
+        json.append("  }\n}\n");
+        Path summary = directory.resolve(scenario + ".json");
+        Files.writeString(summary, json);
+        return summary;
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,131 @@
+package de.zeroco.employeemanagement.loadtest;
+
+import de.zeroco.employeemanagement.datagen.SyntheticDataLoader;
+import de.zeroco.employeemanagement.datagen.SyntheticOrgGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Standard mixed workload against the employee, department and project APIs, in a closed and an open arrival
+ * model. Opt-in: {@code mvn -Pload-test test}. Tunable with system properties {@code load.users},
+ * {@code load.rps}, {@code load.durationSeconds} and {@code load.employees}; reports land in target/load-test/.
+ *
+ * <p>The API has no free-text search; "search" is the email lookup, {@code GET /api/v1/employees/email/{email}}.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MixedWorkloadLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 100);
+    private static final double RPS = Double.parseDouble(System.getProperty("load.rps", "500"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.durationSeconds", 30));
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 10_000);
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    private LoadTestApplication application;
+    private List<Map<String, Object>> seeded;
+    private String token;
+    private final AtomicLong created = new AtomicLong();
+
+    @BeforeAll
+    void start() throws Exception {
+        application = LoadTestApplication.start("mixed");
+        application.context().getBean(SyntheticDataLoader.class)
+                .load(new SyntheticOrgGenerator(42, EMPLOYEES, 20, 100, 7), 5000);
+        seeded = application.context().getBean(JdbcTemplate.class)
+                .queryForList("SELECT id, email, department_id FROM employee ORDER BY id");
+        token = application.login(new LoadTestHarness().client(), "adminuser", "password123");
+    }
+
+    @AfterAll
+    void stop() {
+        application.close();
+    }
+
+    @Test
+    void closedLoop() throws Exception {
+        LoadTestReport report = new LoadTestHarness()
+                .virtualUsers(USERS)
+                .closedLoop(Duration.ofMillis(10))
+                .duration(DURATION)
+                .run("mixed-closed", mix());
+        report.print(System.out);
+        report.write(REPORT_DIRECTORY);
+        assertTrue(report.totalRequests() > 0);
+        assertEquals(0, report.totalErrors());
+    }
+
+    @Test
+    void openLoop() throws Exception {
+        LoadTestReport report = new LoadTestHarness()
+                .virtualUsers(USERS)
+                .openLoop(RPS)
+                .duration(DURATION)
+                .run("mixed-open", mix());
+        report.print(System.out);
+        report.write(REPORT_DIRECTORY);
+        assertTrue(report.totalRequests() > 0);
+        assertEquals(0, report.totalErrors());
+    }
+
+    private List<LoadTestHarness.Operation> mix() {
+        String base = application.baseUrl();
+        return List.of(
+                new LoadTestHarness.Operation("login", 2, random -> HttpRequest.newBuilder(URI.create(base + "/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"regularuser\",\"password\":\"password123\"}"))
+                        .build()),
+                new LoadTestHarness.Operation("list-depts", 8, random -> get(base + "/api/v1/departments")),
+                new LoadTestHarness.Operation("list-projects", 5, random -> get(base + "/api/v1/projects")),
+                new LoadTestHarness.Operation("get-by-id", 45, random -> get(base + "/api/v1/employees/" + pick(random).get("ID"))),
+                new LoadTestHarness.Operation("search", 25, random -> get(base + "/api/v1/employees/email/" + pick(random).get("EMAIL"))),
+                new LoadTestHarness.Operation("create", 8, random -> {
+                    long n = created.incrementAndGet();
+                    return write("POST", base + "/api/v1/employees", employeeJson("load.create." + n + "@example.com",
+                            pick(random).get("DEPARTMENT_ID")));
+                }),
+                new LoadTestHarness.Operation("update", 7, random -> {
+                    Map<String, Object> row = pick(random);
+                    return write("PUT", base + "/api/v1/employees/" + row.get("ID"),
+                            employeeJson((String) row.get("EMAIL"), row.get("DEPARTMENT_ID")));
+                }));
+    }
+
+    private Map<String, Object> pick(SplittableRandom random) {
+        return seeded.get(random.nextInt(seeded.size()));
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token).GET().build();
+    }
+
+    private HttpRequest write(String method, String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String employeeJson(String email, Object departmentId) {
+        return "{\"name\":\"Load Test\",\"role\":\"Engineer\",\"salary\":65000.0,\"dateOfBirth\":\"1990-05-05\","
+                + "\"email\":\"" + email + "\",\"phoneNumber\":\"555-0000\",\"hireDate\":\"2020-02-02\","
+                + "\"address\":\"1 Load Lane\",\"department\":{\"id\":" + departmentId + "},\"projects\":[]}";
+    }
+}
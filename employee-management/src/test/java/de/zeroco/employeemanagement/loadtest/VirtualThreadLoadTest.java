@@ -0,0 +1,79 @@
+package de.zeroco.employeemanagement.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares platform-thread and virtual-thread request handling at 2k concurrent clients.
+ * Boots the application twice on an in-memory H2 database and drives authenticated GETs of a manager's direct
+ * reports, which no cache serves, through {@link LoadTestHarness}. Opt-in: run with {@code mvn -Pload-test test} on JDK 21.
+ */
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = Integer.getInteger("load.clients", 2000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.durationSeconds", 30));
+    private static final int REPORTS = 10;
+
+    @Test
+    void compareHandlingModes() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require JDK 21");
+
+        LoadTestReport platform = run(false);
+        LoadTestReport virtual = run(true);
+        platform.print(System.out);
+        virtual.print(System.out);
+
+        assertTrue(virtual.totalErrors() <= platform.totalErrors(), "Virtual-thread mode should not fail more requests than platform mode");
+    }
+
+    private LoadTestReport run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (LoadTestApplication application = LoadTestApplication.start(mode, "spring.threads.virtual.enabled=" + virtualThreads)) {
+            LoadTestHarness harness = new LoadTestHarness().virtualUsers(CONCURRENT_CLIENTS).closedLoop(Duration.ZERO).duration(DURATION);
+            String token = application.login(harness.client(), "adminuser", "password123");
+            String departmentId = LoadTestApplication.extract(post(harness, application, token, "/api/v1/departments",
+                    "{\"name\":\"Load Testing\"}"), "id");
+            String managerId = LoadTestApplication.extract(post(harness, application, token, "/api/v1/employees",
+                    employeeJson("load.manager@example.com", departmentId, null)), "id");
+            for (int i = 0; i < REPORTS; i++) {
+                post(harness, application, token, "/api/v1/employees", employeeJson("load.report." + i + "@example.com", departmentId, managerId));
+            }
+
+            // Department reads are served from the second-level cache; the direct reports are queried on every request
+            HttpRequest request = HttpRequest.newBuilder(URI.create(application.baseUrl() + "/api/v1/employees/" + managerId + "/reports"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET().build();
+            LoadTestReport report = harness.run("threads-" + mode, List.of(new LoadTestHarness.Operation("get-reports", 1, random -> request)));
+            report.write(Path.of("target", "load-test"));
+            return report;
+        }
+    }
+
+    private static String post(LoadTestHarness harness, LoadTestApplication application, String token, String path, String body) throws Exception {
+        return harness.client().send(HttpRequest.newBuilder(URI.create(application.baseUrl() + path))
+                        .header("Content-Type", "application/json")
+                        .header("Authorization", "Bearer " + token)
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static String employeeJson(String email, String departmentId, String managerId) {
+        return "{\"name\":\"Load Test\",\"role\":\"Engineer\",\"salary\":65000.0,\"dateOfBirth\":\"1990-05-05\","
+                + "\"email\":\"" + email + "\",\"phoneNumber\":\"555-0000\",\"hireDate\":\"2020-02-02\","
+                + "\"address\":\"1 Load Lane\",\"department\":{\"id\":" + departmentId + "},"
+                + (managerId != null ? "\"manager\":{\"id\":" + managerId + "}," : "") + "\"projects\":[]}";
+    }
+}
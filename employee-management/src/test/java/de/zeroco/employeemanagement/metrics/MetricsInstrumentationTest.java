@@ -0,0 +1,68 @@
+package de.zeroco.employeemanagement.metrics;
+
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.repository.DepartmentRepository;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MetricsInstrumentationTest {
+
+    @Test
+    void sqlStatementFilter_shouldRecordStatementsPerRequest() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employees/{id}");
+
+        new SqlStatementMetricsFilter(registry).doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, "EMPLOYEE");
+            }
+        });
+
+        DistributionSummary summary = registry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/employees/{id}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void serviceAspect_shouldTimeServiceMethods() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DepartmentRepository repository = mock(DepartmentRepository.class);
+        when(repository.findAll()).thenReturn(List.of(new Department(1L, "HR", null)));
+        DepartmentService target = new DepartmentService();
+        ReflectionTestUtils.setField(target, "departmentRepository", repository);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        DepartmentService service = factory.getProxy();
+        service.getAllDepartments();
+
+        Timer timer = registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("class", "DepartmentService").tag("method", "getAllDepartments").tag("exception", "none").timer();
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,90 @@
+package de.zeroco.employeemanagement.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the migrations against H2 in MySQL mode, both on an empty database and on one that was created by
+ * the former ddl-auto=update (simulated by applying the baseline script without Flyway).
+ */
+public class FlywayMigrationTest {
+
+    private static final List<String> PERFORMANCE_INDEXES = List.of(
+            "IDX_EMPLOYEE_MANAGER_ID",
+            "IDX_EMPLOYEE_DEPARTMENT_HIRE_DATE",
+            "IDX_EMPLOYEE_HIRE_DATE",
+            "IDX_EMPLOYEE_PROJECT_PROJECT_EMPLOYEE",
+            "IDX_CHANGE_LOG_CHANGED_AT",
+            "IDX_CHANGE_LOG_TYPE_ID",
+            "IDX_WEBHOOK_DELIVERY_DUE",
+            "IDX_EMPLOYEE_AUDIT_EMPLOYEE",
+            "IDX_EMPLOYEE_HISTORY_EMPLOYEE",
+            "IDX_EMPLOYEE_HISTORY_DEPARTMENT_TO",
+            "IDX_EMPLOYEE_HISTORY_DEPARTMENT_FROM",
+            "IDX_EMPLOYEE_STATUS_ID",
+            "IDX_EMPLOYEE_STATUS_TERMINATION_DATE",
+            "IDX_EMPLOYEE_ARCHIVE_TERMINATION_DATE");
+
+    @Test
+    void migrate_emptyDatabase_shouldCreateSchemaAndIndexes() {
+        DataSource dataSource = h2();
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertEquals("11", result.targetSchemaVersion);
+        assertIndexesPresent(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    void migrate_existingHibernateSchema_shouldBaselineAndOnlyAddIndexes() throws Exception {
+        DataSource dataSource = h2();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/common/V1__baseline_schema.sql"));
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO department (name) VALUES ('Engineering')");
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertEquals(11, result.migrationsExecuted);
+        assertIndexesPresent(jdbcTemplate);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM department", Integer.class));
+    }
+
+    private static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private static void assertIndexesPresent(JdbcTemplate jdbcTemplate) {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT UPPER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+        for (String index : PERFORMANCE_INDEXES) {
+            assertTrue(indexes.contains(index), "missing index " + index);
+        }
+    }
+
+    private static DataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,30 @@
+package de.zeroco.employeemanagement.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the application on a schema created by the migrations, as in production, instead of the Hibernate-generated
+ * one of the other tests. Hibernate validates every entity against it on startup, so a migration that drifts from
+ * its entity (a missing column, a different type) fails the context here rather than on the first deployment.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employeedb-flyway;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"})
+@ActiveProfiles("test")
+public class FlywaySchemaValidationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void contextStarts_onMigratedSchemaValidatedAgainstEntities() {
+        assertEquals("11", flyway.info().current().getVersion().getVersion());
+    }
+}
@@ -0,0 +1,151 @@
+package de.zeroco.employeemanagement.outbox;
+
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.outbox.relay.enabled=true", "app.outbox.relay.poll-interval-ms=20",
+        "app.outbox.relay.max-retry-delay-ms=100"})
+@ActiveProfiles("test")
+public class OutboxRelayTest {
+
+    @TestConfiguration
+    static class Sinks {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+
+        @Bean
+        Subscriber subscriber() {
+            return new Subscriber();
+        }
+    }
+
+    static class RecordingSink implements OutboxSink {
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<OutboxMessage> batch) {
+            if (failing) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            received.addAll(batch);
+        }
+    }
+
+    static class Subscriber {
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void on(OutboxMessage message) {
+            received.add(message);
+        }
+    }
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private Subscriber subscriber;
+
+    @Autowired
+    private OutboxStore store;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sink.failing = false;
+    }
+
+    @Test
+    void committedWrites_shouldBeRelayedInOrderToSinksAndSubscribers() {
+        Department department = departmentService.createDepartment(new Department(null, "Outbox", null));
+        departmentService.updateDepartment(department.getId(), new Department(null, "Outbox 2", null));
+        departmentService.updateDepartment(department.getId(), new Department(null, "Outbox 3", null));
+        departmentService.deleteDepartment(department.getId());
+
+        List<ChangeType> expected = List.of(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.UPDATED, ChangeType.DELETED);
+        await(() -> changesOf(sink.received, department.getId()).size() == 4);
+        assertEquals(expected, changesOf(sink.received, department.getId()));
+        assertEquals(expected, changesOf(subscriber.received, department.getId()));
+        await(() -> store.count() == 0);
+        assertTrue(meterRegistry.get("app.outbox.published").tag("sink", "recording").counter().count() >= 4);
+    }
+
+    @Test
+    void rolledBackWrites_shouldNotBeRelayed() {
+        Long rolledBack = transactionTemplate.execute(status -> {
+            Department department = departmentService.createDepartment(new Department(null, "Rolled Back", null));
+            status.setRollbackOnly();
+            return department.getId();
+        });
+        Department marker = departmentService.createDepartment(new Department(null, "Committed", null));
+
+        await(() -> !changesOf(sink.received, marker.getId()).isEmpty());
+        assertTrue(changesOf(sink.received, rolledBack).isEmpty());
+    }
+
+    @Test
+    void failingSink_shouldKeepMessagesUntilItRecovers() {
+        sink.failing = true;
+        double failures = meterRegistry.get("app.outbox.failures").tag("sink", "recording").counter().count();
+        Department department = departmentService.createDepartment(new Department(null, "Retried", null));
+
+        await(() -> meterRegistry.get("app.outbox.failures").tag("sink", "recording").counter().count() > failures);
+        assertTrue(store.count() > 0);
+        assertTrue(changesOf(sink.received, department.getId()).isEmpty());
+
+        sink.failing = false;
+        await(() -> !changesOf(sink.received, department.getId()).isEmpty());
+        assertEquals(List.of(ChangeType.CREATED), changesOf(sink.received, department.getId()));
+    }
+
+    private static List<ChangeType> changesOf(List<OutboxMessage> messages, Long departmentId) {
+        return messages.stream()
+                .filter(message -> message.entityType() == ChangeLogEntry.EntityType.DEPARTMENT
+                        && message.entityId() == departmentId)
+                .map(OutboxMessage::changeType)
+                .toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not reached");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package de.zeroco.employeemanagement.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.metrics.SqlStatementCounter;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.repository.DepartmentRepository;
+import de.zeroco.employeemanagement.repository.ProjectRepository;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.EmployeeSyncService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Runs every controller endpoint against a seeded in-process H2 database and fails the build when an endpoint
+ * issues more SQL statements than its declared budget. Repositories are real here, so N+1
+ * regressions that the mocked unit tests cannot see show up as a blown query budget.
+ *
+ * <p>Statement budgets must not depend on the amount of seeded data: list endpoints are checked with
+ * {@value #EMPLOYEES} employees, so a per-row lazy load would exceed the budget by far. Latency is left to the
+ * opt-in load tests: wall-clock limits would fail on a loaded build machine rather than on a regression. Auditing
+ * is enabled, as in production, so the state it captures on writes and the audit reads are budgeted too.
+ */
+@SpringBootTest(properties = {"app.audit.enabled=true", "app.audit.compaction-interval-ms=3600000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "budget-admin", roles = {"ADMIN", "USER"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+
+    static final int EMPLOYEES = 100;
+
+    @DynamicPropertySource
+    static void auditJournalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("audit-journal").toString();
+        registry.add("app.audit.path", () -> directory);
+    }
+
+    record Budget(int maxStatements) {
+    }
+
+    // The declared budgets, one per endpoint. Raise a budget only together with a justification in review.
+    // Statements are counted at the data source, so the JdbcTemplate stores written to inside a request count too.
+    static final Map<String, Budget> BUDGETS = Map.ofEntries(
+            Map.entry("GET /api/v1/employees", new Budget(6)),
+            Map.entry("GET /api/v1/employees/{id}", new Budget(6)),
+            Map.entry("GET /api/v1/employees/{id}?asOf", new Budget(1)), // One employee_history query
+            Map.entry("GET /api/v1/employees/email/{email}", new Budget(6)),
+            Map.entry("GET /api/v1/employees/{id}/reports", new Budget(6)),
+            Map.entry("GET /api/v1/employees/changes", new Budget(11)), // + change_log: stable id, oldest id, watermark, bulk-load check, page
+            Map.entry("GET /api/v1/employees/stream", new Budget(0)),
+            Map.entry("POST /api/v1/employees", new Budget(15)), // + change_log, outbox, history: open the first version
+            Map.entry("PUT /api/v1/employees/{id}", new Budget(20)), // + projects loaded for the audit, change_log, outbox, 3 history: close the open version, end it today, open the new one
+            Map.entry("DELETE /api/v1/employees/{id}", new Budget(14)), // + active reports to detach, projects loaded for the audit, change_log, outbox, 2 history: close the open version, end it today
+            Map.entry("GET /api/v1/departments", new Budget(1)),
+            Map.entry("GET /api/v1/departments/{id}", new Budget(1)),
+            Map.entry("GET /api/v1/departments/{id}/employees", new Budget(6)),
+            Map.entry("GET /api/v1/departments/{id}/employees?asOf", new Budget(1)), // One employee_history query
+            Map.entry("POST /api/v1/departments", new Budget(3)), // + change_log, outbox
+            Map.entry("PUT /api/v1/departments/{id}", new Budget(5)), // + change_log, outbox
+            Map.entry("DELETE /api/v1/departments/{id}", new Budget(20)), // + change_log, outbox and, for its one member:
+            // reports, projects for the audit, termination UPDATE, 2 history, change_log, outbox, reports after commit
+            // and 6 to archive it (select, its projects, batched insert, 2 deletes, manager reset)
+            Map.entry("GET /api/v1/projects", new Budget(1)),
+            Map.entry("GET /api/v1/projects/{id}", new Budget(1)),
+            Map.entry("POST /api/v1/projects", new Budget(3)), // + change_log, outbox
+            Map.entry("PUT /api/v1/projects/{id}", new Budget(5)), // + change_log, outbox
+            Map.entry("DELETE /api/v1/projects/{id}", new Budget(6)), // + change_log, outbox
+            Map.entry("POST /api/v1/auth/login", new Budget(2)),
+            Map.entry("POST /api/v1/auth/register", new Budget(2)),
+            Map.entry("GET /api/v1/admin/datasource-pools", new Budget(0)),
+            Map.entry("GET /api/v1/admin/audit/employees/{id}", new Budget(1)), // employee_audit, after the journal
+            Map.entry("GET /api/v1/admin/archive/employees/{id}", new Budget(3)), // Archived, else terminated and its projects
+            Map.entry("GET /api/v1/admin/archive/employees", new Budget(3)), // Archived, terminated and their projects
+            Map.entry("GET /api/v1/admin/webhooks", new Budget(1)),
+            Map.entry("POST /api/v1/admin/webhooks", new Budget(1)),
+            Map.entry("DELETE /api/v1/admin/webhooks/{id}", new Budget(3))
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeSyncService employeeSyncService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final List<Department> departments = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+    private final List<Employee> employees = new ArrayList<>();
+    private final Set<String> exercised = new HashSet<>();
+    private String seedToken;
+
+    @BeforeAll
+    void seed() {
+        seedToken = employeeSyncService.getChanges(null, 0).nextToken;
+        for (int d = 0; d < 5; d++) {
+            departments.add(departmentRepository.save(new Department(null, "Department " + d, null)));
+        }
+        for (int p = 0; p < 10; p++) {
+            projects.add(projectRepository.save(new Project(null, "Project " + p, new HashSet<>())));
+        }
+        for (int i = 0; i < EMPLOYEES; i++) {
+            // Every tenth employee manages the following nine
+            Employee manager = i % 10 == 0 ? null : employees.get(i - i % 10);
+            Set<Project> assigned = new HashSet<>(List.of(projects.get(i % 10), projects.get((i + 3) % 10)));
+            employees.add(employeeService.createEmployee(newEmployee("seed" + i, departments.get(i % 5), manager, assigned)));
+        }
+    }
+
+    @Test
+    void employeeReads_shouldStayWithinBudget() throws Exception {
+        Employee subordinate = employees.get(11);
+        assertBudget("GET /api/v1/employees", () -> get("/api/v1/employees"));
+        assertBudget("GET /api/v1/employees/{id}", () -> get("/api/v1/employees/" + subordinate.getId()));
+        assertBudget("GET /api/v1/employees/{id}?asOf", () -> get("/api/v1/employees/" + subordinate.getId())
+                .param("asOf", LocalDate.now().toString()));
+        assertBudget("GET /api/v1/employees/email/{email}", () -> get("/api/v1/employees/email/" + subordinate.getEmail()));
+        assertBudget("GET /api/v1/employees/{id}/reports", () -> get("/api/v1/employees/" + employees.get(10).getId() + "/reports"));
+        // Every seeded employee changed since the token
+        assertBudget("GET /api/v1/employees/changes", () -> get("/api/v1/employees/changes").param("since", seedToken));
+        assertBudget("GET /api/v1/employees/stream", () -> get("/api/v1/employees/stream"));
+    }
+
+    @Test
+    void employeeWrites_shouldStayWithinBudget() throws Exception {
+        Employee created = newEmployee("budget-create", departments.get(0), employees.get(0),
+                new HashSet<>(List.of(projects.get(0), projects.get(1))));
+        MvcResult result = assertBudget("POST /api/v1/employees", () -> post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(created)));
+        long id = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+
+        created.setName("Budget Updated");
+        created.setDepartment(departments.get(1));
+        created.setProjects(new HashSet<>(List.of(projects.get(2))));
+        assertBudget("PUT /api/v1/employees/{id}", () -> put("/api/v1/employees/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(created)));
+
+        assertBudget("DELETE /api/v1/employees/{id}", () -> delete("/api/v1/employees/" + id));
+    }
+
+    @Test
+    void departmentEndpoints_shouldStayWithinBudget() throws Exception {
+        assertBudget("GET /api/v1/departments", () -> get("/api/v1/departments"));
+        assertBudget("GET /api/v1/departments/{id}", () -> get("/api/v1/departments/" + departments.get(0).getId()));
+        assertBudget("GET /api/v1/departments/{id}/employees", () -> get("/api/v1/departments/" + departments.get(0).getId() + "/employees"));
+        assertBudget("GET /api/v1/departments/{id}/employees?asOf", () -> get("/api/v1/departments/" + departments.get(0).getId() + "/employees")
+                .param("asOf", LocalDate.now().toString()));
+        MvcResult result = assertBudget("POST /api/v1/departments", () -> post("/api/v1/departments")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Budget Department\"}"));
+        long id = idOf(result);
+        assertBudget("PUT /api/v1/departments/{id}", () -> put("/api/v1/departments/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Budget Department 2\"}"));
+        // Members are terminated and archived with their department
+        employeeService.createEmployee(newEmployee("budget-member", departmentRepository.findById(id).orElseThrow(), null, new HashSet<>()));
+        assertBudget("DELETE /api/v1/departments/{id}", () -> delete("/api/v1/departments/" + id));
+    }
+
+    @Test
+    void projectEndpoints_shouldStayWithinBudget() throws Exception {
+        assertBudget("GET /api/v1/projects", () -> get("/api/v1/projects"));
+        assertBudget("GET /api/v1/projects/{id}", () -> get("/api/v1/projects/" + projects.get(0).getId()));
+        MvcResult result = assertBudget("POST /api/v1/projects", () -> post("/api/v1/projects")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Budget Project\"}"));
+        long id = idOf(result);
+        assertBudget("PUT /api/v1/projects/{id}", () -> put("/api/v1/projects/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Budget Project 2\"}"));
+        assertBudget("DELETE /api/v1/projects/{id}", () -> delete("/api/v1/projects/" + id));
+    }
+
+    @Test
+    void authAndAdminEndpoints_shouldStayWithinBudget() throws Exception {
+        assertBudget("POST /api/v1/auth/register", () -> post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"budgetuser\",\"password\":\"password123\",\"roles\":\"ROLE_USER\"}"));
+        assertBudget("POST /api/v1/auth/login", () -> post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"budgetuser\",\"password\":\"password123\"}"));
+        assertBudget("GET /api/v1/admin/datasource-pools", () -> get("/api/v1/admin/datasource-pools"));
+        assertBudget("GET /api/v1/admin/audit/employees/{id}", () -> get("/api/v1/admin/audit/employees/" + employees.get(0).getId()));
+        assertBudget("GET /api/v1/admin/archive/employees", () -> get("/api/v1/admin/archive/employees"));
+        Employee terminated = employeeService.createEmployee(newEmployee("former", departments.get(0), null, new HashSet<>()));
+        employeeService.deleteEmployee(terminated.getId());
+        assertBudget("GET /api/v1/admin/archive/employees/{id}", () -> get("/api/v1/admin/archive/employees/" + terminated.getId()));
+        MvcResult webhook = assertBudget("POST /api/v1/admin/webhooks", () -> post("/api/v1/admin/webhooks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"url\":\"http://localhost:9/budget\",\"entityTypes\":[\"EMPLOYEE\"]}"));
+        assertBudget("GET /api/v1/admin/webhooks", () -> get("/api/v1/admin/webhooks"));
+        assertBudget("DELETE /api/v1/admin/webhooks/{id}", () -> delete("/api/v1/admin/webhooks/" + idOf(webhook)));
+    }
+
+    @AfterAll
+    void everyDeclaredBudget_shouldBeExercised() {
+        // Guards against a budget silently going unchecked after an endpoint or test is renamed
+        Set<String> unchecked = new HashSet<>(BUDGETS.keySet());
+        unchecked.removeAll(exercised);
+        assertTrue(unchecked.isEmpty(), "Budgets declared but never checked: " + unchecked);
+    }
+
+    @FunctionalInterface
+    interface RequestSupplier {
+        RequestBuilder get() throws Exception;
+    }
+
+    private MvcResult assertBudget(String endpoint, RequestSupplier request) throws Exception {
+        Budget budget = BUDGETS.get(endpoint);
+        if (budget == null) {
+            fail("No budget declared for " + endpoint);
+        }
+        exercised.add(endpoint);
+        SqlStatementCounter.reset();
+        MvcResult result = mockMvc.perform(request.get()).andReturn();
+        int statements = SqlStatementCounter.current();
+
+        int status = result.getResponse().getStatus();
+        assertTrue(status < 400, endpoint + " failed with HTTP " + status + ": " + result.getResponse().getContentAsString());
+        assertTrue(statements <= budget.maxStatements(),
+                endpoint + " issued " + statements + " SQL statements, budget is " + budget.maxStatements());
+        return result;
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+
+    private static Employee newEmployee(String key, Department department, Employee manager, Set<Project> projects) {
+        return new Employee(null, "Employee " + key, "Engineer", 50000.0, LocalDate.of(1990, 1, 1),
+                key + "@example.com", "555-0100", LocalDate.of(2020, 1, 1), "1 Test Street",
+                department, manager, projects);
+    }
+}
@@ -0,0 +1,131 @@
+package de.zeroco.employeemanagement.perf;
+
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.Project;
+import de.zeroco.employeemanagement.service.DepartmentService;
+import de.zeroco.employeemanagement.service.EmployeeService;
+import de.zeroco.employeemanagement.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the second-level cache for the Department and Project reference data against H2: once cached,
+ * employee writes resolve their department and projects without touching those tables, and writes through
+ * the services are visible immediately.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReferenceDataCacheTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedEmployeeWrites_shouldNotQueryDepartmentOrProjectTables() {
+        Department department = departmentService.createDepartment(new Department(null, "Cached Department", null));
+        Project project = projectService.createProject(new Project(null, "Cached Project", new HashSet<>()));
+        // First lookups may go to the database and populate the cache
+        departmentService.getDepartmentById(department.getId());
+        projectService.getProjectById(project.getId());
+        statistics.clear();
+
+        for (int i = 0; i < 10; i++) {
+            Employee created = employeeService.createEmployee(newEmployee("cache" + i, department, project));
+            employeeService.updateEmployee(created.getId(), newEmployee("cache" + i, department, project));
+        }
+
+        EntityStatistics departmentStatistics = statistics.getEntityStatistics(Department.class.getName());
+        EntityStatistics projectStatistics = statistics.getEntityStatistics(Project.class.getName());
+        assertEquals(0, departmentStatistics.getLoadCount() + departmentStatistics.getFetchCount(), "department loaded from the database");
+        assertEquals(0, projectStatistics.getLoadCount() + projectStatistics.getFetchCount(), "project loaded from the database");
+        assertTrue(departmentStatistics.getCacheHitCount() >= 20);
+        assertTrue(projectStatistics.getCacheHitCount() >= 20);
+        assertTrue(meterRegistry.get("app.hibernate.cache.gets").tag("region", "department").tag("result", "hit")
+                .functionCounter().count() >= 20);
+    }
+
+    @Test
+    void serviceWrites_shouldBeVisibleThroughCache() {
+        Department department = departmentService.createDepartment(new Department(null, "Before Rename", null));
+        assertTrue(names(departmentService.getAllDepartments()).contains("Before Rename"));
+        departmentService.getDepartmentById(department.getId());
+
+        departmentService.updateDepartment(department.getId(), new Department(null, "After Rename", null));
+
+        assertEquals("After Rename", departmentService.getDepartmentById(department.getId()).orElseThrow().getName());
+        List<String> names = names(departmentService.getAllDepartments());
+        assertTrue(names.contains("After Rename"));
+        assertFalse(names.contains("Before Rename"));
+
+        Project project = projectService.createProject(new Project(null, "Short Lived", new HashSet<>()));
+        assertTrue(projectService.getAllProjects().stream().anyMatch(p -> p.getId().equals(project.getId())));
+        projectService.deleteProject(project.getId());
+        assertTrue(projectService.getProjectById(project.getId()).isEmpty());
+        assertTrue(projectService.getAllProjects().stream().noneMatch(p -> p.getId().equals(project.getId())));
+    }
+
+    @Test
+    void cachedQuery_shouldBeServedFromQueryCache() {
+        departmentService.createDepartment(new Department(null, "Query Cached", null));
+        departmentService.getAllDepartments();
+        statistics.clear();
+
+        departmentService.getAllDepartments();
+        departmentService.getAllDepartments();
+
+        assertEquals(2, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getEntityStatistics(Department.class.getName()).getLoadCount());
+    }
+
+    private static List<String> names(List<Department> departments) {
+        return departments.stream().map(Department::getName).toList();
+    }
+
+    private static Employee newEmployee(String key, Department department, Project project) {
+        Employee employee = new Employee();
+        employee.setName("Employee " + key);
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(key + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        employee.setProjects(new HashSet<>(Set.of(new Project(project.getId(), null, new HashSet<>()))));
+        return employee;
+    }
+}
@@ -1,7 +1,10 @@
 package de.zeroco.employeemanagement.service;
 
+import de.zeroco.employeemanagement.archive.EmployeeArchive;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
 import de.zeroco.employeemanagement.repository.DepartmentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,10 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +31,15 @@ public class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeArchive employeeArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -112,6 +128,24 @@ public class DepartmentServiceTest {
         verify(departmentRepository, times(1)).delete(department1);
     }
 
+    @Test
+    void deleteDepartment_withMembers_shouldTerminateActiveAndArchiveAll() {
+        Employee active = new Employee(1L, "John Doe", "Developer", 60000.0, LocalDate.of(1990, 1, 1),
+                "john.doe@example.com", "1234567890", LocalDate.of(2022, 1, 1), "123 Main St", department1, null, new HashSet<>());
+        Employee terminated = new Employee(2L, "Jane Smith", "Analyst", 70000.0, LocalDate.of(1992, 2, 2),
+                "jane.smith@example.com", "0987654321", LocalDate.of(2021, 2, 2), "456 Oak St", department1, null, new HashSet<>());
+        terminated.setStatus(EmployeeStatus.TERMINATED);
+        department1.setEmployees(Set.of(active, terminated));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department1));
+
+        departmentService.deleteDepartment(1L);
+
+        verify(employeeService).deleteEmployee(1L);
+        verify(employeeService, never()).deleteEmployee(2L);
+        verify(employeeArchive).archive(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2), any());
+        verify(departmentRepository).delete(department1);
+    }
+
     @Test
     void deleteDepartment_whenNotFound_shouldThrowResourceNotFoundException() {
         when(departmentRepository.findById(3L)).thenReturn(Optional.empty());
@@ -1,9 +1,12 @@
 package de.zeroco.employeemanagement.service;
 
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
 import de.zeroco.employeemanagement.exception.DuplicateEmailException;
 import de.zeroco.employeemanagement.exception.ResourceNotFoundException;
 import de.zeroco.employeemanagement.model.Department;
 import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.model.EmployeeStatus;
 import de.zeroco.employeemanagement.model.Project;
 import de.zeroco.employeemanagement.repository.DepartmentRepository;
 import de.zeroco.employeemanagement.repository.EmployeeRepository;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -34,6 +38,9 @@ public class EmployeeServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -73,6 +80,7 @@ public class EmployeeServiceTest {
         assertNotNull(created);
         assertEquals("john.doe@example.com", created.getEmail());
         verify(employeeRepository).save(employee1);
+        verify(eventPublisher).publishEvent(new EmployeeChangedEvent(1L, ChangeType.CREATED));
     }
 
     @Test
@@ -84,6 +92,7 @@ public class EmployeeServiceTest {
         });
         assertEquals("Email already exists: john.doe@example.com", exception.getMessage());
         verify(employeeRepository, never()).save(any(Employee.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -161,14 +170,28 @@ public class EmployeeServiceTest {
         assertFalse(found.isPresent());
     }
     
+    @Test
+    void getEmployeesByDepartment_whenDepartmentNotFound_shouldThrowResourceNotFoundException() {
+        when(departmentRepository.findById(9L)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeesByDepartment(9L));
+        verify(employeeRepository, never()).findByDepartmentIdAndStatusOrderById(anyLong(), any());
+    }
+
+    @Test
+    void getDirectReports_shouldReturnReportsOfExistingManager() {
+        when(employeeRepository.existsByIdAndStatus(1L, EmployeeStatus.ACTIVE)).thenReturn(true);
+        when(employeeRepository.findByManagerIdAndStatusOrderById(1L, EmployeeStatus.ACTIVE)).thenReturn(List.of(employee2));
+        assertEquals(List.of(employee2), employeeService.getDirectReports(1L));
+    }
+
     @Test
     void getAllEmployees_shouldReturnListOfEmployees() {
         List<Employee> employees = Arrays.asList(employee1, employee2);
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(employees);
         List<Employee> foundEmployees = employeeService.getAllEmployees();
         assertNotNull(foundEmployees);
         assertEquals(2, foundEmployees.size());
-        verify(employeeRepository, times(1)).findAll();
+        verify(employeeRepository, times(1)).findByStatus(EmployeeStatus.ACTIVE);
     }
 
     @Test
@@ -238,11 +261,35 @@ public class EmployeeServiceTest {
 
 
     @Test
-    void deleteEmployee_whenFound_shouldDeleteEmployee() {
+    void deleteEmployee_whenFound_shouldTerminateEmployee() {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
-        doNothing().when(employeeRepository).delete(employee1);
         employeeService.deleteEmployee(1L);
-        verify(employeeRepository).delete(employee1);
+        assertEquals(EmployeeStatus.TERMINATED, employee1.getStatus());
+        assertEquals(LocalDate.now(), employee1.getTerminationDate());
+        verify(employeeRepository).save(employee1);
+        verify(employeeRepository, never()).delete(any(Employee.class));
+        verify(eventPublisher).publishEvent(new EmployeeChangedEvent(1L, ChangeType.DELETED));
+    }
+
+    @Test
+    void deleteEmployee_whenManager_shouldDetachReports() {
+        employee1.setManager(null);
+        employee2.setManager(manager);
+        when(employeeRepository.findById(10L)).thenReturn(Optional.of(manager));
+        when(employeeRepository.findByManagerIdAndStatusOrderById(10L, EmployeeStatus.ACTIVE)).thenReturn(List.of(employee2));
+        employeeService.deleteEmployee(10L);
+        assertNull(employee2.getManager());
+        assertEquals(EmployeeStatus.TERMINATED, manager.getStatus());
+        verify(eventPublisher).publishEvent(new EmployeeChangedEvent(2L, ChangeType.UPDATED));
+        verify(eventPublisher).publishEvent(new EmployeeChangedEvent(10L, ChangeType.DELETED));
+    }
+
+    @Test
+    void deleteEmployee_whenAlreadyTerminated_shouldThrowResourceNotFoundException() {
+        employee1.setStatus(EmployeeStatus.TERMINATED);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployee(1L));
+        verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
@@ -252,7 +299,7 @@ public class EmployeeServiceTest {
             employeeService.deleteEmployee(3L);
         });
         assertEquals("Employee not found with id: 3", exception.getMessage());
-        verify(employeeRepository, never()).delete(any(Employee.class));
+        verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
@@ -0,0 +1,165 @@
+package de.zeroco.employeemanagement.service;
+
+import de.zeroco.employeemanagement.changelog.ChangeLog;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.exception.SyncTokenExpiredException;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.Department;
+import de.zeroco.employeemanagement.model.Employee;
+import de.zeroco.employeemanagement.payload.EmployeeChange;
+import de.zeroco.employeemanagement.payload.EmployeeChangesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Delta sync against the change log on H2 ({@code app.employee-sync.commit-grace-ms=0} in the test profile). */
+@SpringBootTest
+@ActiveProfiles("test")
+public class EmployeeSyncIntegrationTest {
+
+    @Autowired
+    private EmployeeSyncService employeeSyncService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.createDepartment(new Department(null, "Sync " + UUID.randomUUID(), null));
+    }
+
+    @Test
+    void changes_shouldContainCurrentStateOncePerEmployeeAndTombstones() {
+        String token = initialToken();
+        Employee kept = employeeService.createEmployee(newEmployee("Kept"));
+        Employee renamed = newEmployee("Kept Renamed");
+        renamed.setEmail(kept.getEmail());
+        employeeService.updateEmployee(kept.getId(), renamed);
+        Employee removed = employeeService.createEmployee(newEmployee("Removed"));
+        employeeService.deleteEmployee(removed.getId());
+
+        EmployeeChangesResponse response = changesSince(token, 100);
+
+        assertEquals(List.of(kept.getId(), removed.getId()), response.changes.stream().map(change -> change.id).toList());
+        EmployeeChange upsert = response.changes.get(0);
+        assertEquals(EmployeeChange.Type.UPSERT, upsert.type);
+        assertEquals("Kept Renamed", upsert.employee.getName());
+        EmployeeChange tombstone = response.changes.get(1);
+        assertEquals(EmployeeChange.Type.DELETE, tombstone.type);
+        assertNull(tombstone.employee);
+        assertFalse(response.hasMore);
+
+        assertTrue(employeeSyncService.getChanges(response.nextToken, 100).changes.isEmpty());
+    }
+
+    @Test
+    void changes_shouldBePagedByLimitWithoutGapsOrRepeats() {
+        String token = initialToken();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(employeeService.createEmployee(newEmployee("Paged " + i)).getId());
+        }
+        awaitStable();
+
+        List<Long> seen = new ArrayList<>();
+        EmployeeChangesResponse page;
+        do {
+            page = employeeSyncService.getChanges(token, 2);
+            assertTrue(page.changes.size() <= 2);
+            page.changes.forEach(change -> seen.add(change.id));
+            token = page.nextToken;
+        } while (page.hasMore);
+
+        assertEquals(created, seen);
+    }
+
+    @Test
+    void deletingADepartment_shouldTombstoneItsEmployees() {
+        Employee member = employeeService.createEmployee(newEmployee("Member"));
+        String token = initialToken();
+
+        departmentService.deleteDepartment(department.getId());
+
+        EmployeeChangesResponse response = changesSince(token, 100);
+        assertEquals(1, response.changes.size());
+        assertEquals(member.getId(), response.changes.get(0).id);
+        assertEquals(EmployeeChange.Type.DELETE, response.changes.get(0).type);
+    }
+
+    @Test
+    void prunedOrUnknownTokens_shouldRequireAResync() {
+        String token = initialToken();
+        employeeService.createEmployee(newEmployee("Pruned"));
+        awaitStable();
+        long pruneUpTo = changeLog.currentWatermark().id();
+        employeeService.createEmployee(newEmployee("Retained"));
+        jdbcTemplate.update("DELETE FROM change_log WHERE id <= ?", pruneUpTo);
+
+        assertThrows(SyncTokenExpiredException.class, () -> employeeSyncService.getChanges(token, 100));
+        assertThrows(SyncTokenExpiredException.class, () -> employeeSyncService.getChanges("not-a-token", 100));
+        assertThrows(SyncTokenExpiredException.class,
+                () -> employeeSyncService.getChanges(EmployeeSyncService.encodeToken(Long.MAX_VALUE), 100));
+    }
+
+    @Test
+    void bulkLoadAfterTheToken_shouldRequireAResync() {
+        String token = initialToken();
+        changeLog.record(ChangeLogEntry.EntityType.ALL, 0, ChangeType.UPDATED);
+        awaitStable();
+
+        assertThrows(SyncTokenExpiredException.class, () -> employeeSyncService.getChanges(token, 100));
+        assertTrue(employeeSyncService.getChanges(initialToken(), 100).changes.isEmpty());
+    }
+
+    private String initialToken() {
+        awaitStable();
+        return employeeSyncService.getChanges(null, 0).nextToken;
+    }
+
+    private EmployeeChangesResponse changesSince(String token, int limit) {
+        awaitStable();
+        return employeeSyncService.getChanges(token, limit);
+    }
+
+    /** Waits until the newest entry lies before the sync horizon, which with a zero grace is a matter of microseconds. */
+    private void awaitStable() {
+        long newest = changeLog.currentWatermark().id();
+        while (changeLog.stableId(Duration.ZERO) < newest) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private Employee newEmployee(String name) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(5000.0);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setEmail(UUID.randomUUID() + "@example.com");
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setDepartment(new Department(department.getId(), null, null));
+        return employee;
+    }
+}
@@ -0,0 +1,153 @@
+package de.zeroco.employeemanagement.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.zeroco.employeemanagement.event.BulkDataLoadedEvent;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.event.EmployeeChangedEvent;
+import de.zeroco.employeemanagement.exception.StreamCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangeStreamTest {
+
+    /** Records the raw text of every event; can be held up to act as a slow client, or fail like a closed one. */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch hold = new CountDownLatch(0);
+        volatile boolean failing;
+        volatile int attempts;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                hold.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(builder.build().stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        List<String> names() {
+            return events.stream()
+                    .map(event -> event.lines().filter(line -> line.startsWith("event:")).findFirst().orElse("comment"))
+                    .map(line -> line.replace("event:", ""))
+                    .toList();
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private EmployeeChangeStream stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.destroy();
+        }
+    }
+
+    @Test
+    void changes_shouldBeCoalescedPerEmployeeIntoOneEvent() {
+        stream = newStream(16, 10);
+        RecordingEmitter client = new RecordingEmitter();
+        stream.subscribe(client);
+
+        stream.onEmployeeChanged(new EmployeeChangedEvent(1L, ChangeType.CREATED));
+        stream.onEmployeeChanged(new EmployeeChangedEvent(2L, ChangeType.UPDATED));
+        stream.onEmployeeChanged(new EmployeeChangedEvent(1L, ChangeType.DELETED));
+        assertEquals(2, stream.flush());
+        assertEquals(0, stream.flush());
+
+        await(() -> client.events.size() == 2);
+        assertEquals(List.of("ready", "changes"), client.names());
+        String changes = client.events.get(1);
+        assertTrue(changes.indexOf("\"id\":2") < changes.indexOf("\"id\":1"), changes);
+        assertTrue(changes.contains("DELETED") && !changes.contains("CREATED"), changes);
+        assertEquals(1, registry.get("app.stream.batches").counter().count());
+    }
+
+    @Test
+    void slowSubscriber_shouldGetAResyncWithoutHoldingUpOthers() {
+        stream = newStream(2, 10);
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.hold = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        stream.subscribe(slow);
+        await(() -> slow.attempts == 1); // stuck writing "ready"
+        stream.subscribe(fast);
+
+        for (long id = 1; id <= 5; id++) {
+            stream.onEmployeeChanged(new EmployeeChangedEvent(id, ChangeType.UPDATED));
+            stream.flush();
+        }
+        await(() -> fast.events.size() == 6);
+
+        slow.hold.countDown();
+        await(() -> slow.events.size() == 2);
+        assertEquals(List.of("ready", "resync"), slow.names());
+        assertEquals(1, registry.get("app.stream.resyncs").counter().count());
+
+        // Delivery resumes after the resync point
+        stream.onEmployeeChanged(new EmployeeChangedEvent(6L, ChangeType.UPDATED));
+        stream.flush();
+        await(() -> slow.events.size() == 3);
+        assertTrue(slow.events.get(2).contains("\"id\":6"));
+    }
+
+    @Test
+    void bulkLoad_shouldResyncEverySubscriber() {
+        stream = newStream(16, 10);
+        RecordingEmitter client = new RecordingEmitter();
+        stream.subscribe(client);
+
+        stream.onEmployeeChanged(new EmployeeChangedEvent(1L, ChangeType.UPDATED));
+        stream.onBulkDataLoaded(new BulkDataLoadedEvent(1000));
+        stream.flush();
+
+        await(() -> client.events.size() == 2);
+        assertEquals(List.of("ready", "resync"), client.names());
+    }
+
+    @Test
+    void subscribers_shouldBeLimitedAndRemovedWhenTheirConnectionFails() {
+        stream = newStream(16, 1);
+        RecordingEmitter client = new RecordingEmitter();
+        stream.subscribe(client);
+        assertThrows(StreamCapacityExceededException.class, () -> stream.subscribe(new RecordingEmitter()));
+        await(() -> client.events.size() == 1);
+
+        client.failing = true;
+        stream.onEmployeeChanged(new EmployeeChangedEvent(1L, ChangeType.UPDATED));
+        stream.flush();
+
+        await(() -> stream.subscriberCount() == 0);
+        stream.subscribe(new RecordingEmitter());
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    private EmployeeChangeStream newStream(int bufferSize, int maxSubscribers) {
+        return new EmployeeChangeStream(new ObjectMapper(), 50, bufferSize, maxSubscribers, 60_000, 60_000, 2, registry);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not reached");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package de.zeroco.employeemanagement.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmup-test;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.data-locations=classpath:warmup-test-data.sql",
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=20",
+        "app.warmup.jwt-iterations=50"
+})
+@ActiveProfiles("test")
+public class WarmupRunnerTest {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Test
+    void warmup_shouldRunBeforeReadinessAndCompleteWithoutErrors() {
+        WarmupReport report = warmupRunner.lastReport();
+
+        assertNotNull(report);
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, report.readinessDuringWarmup());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+        assertEquals(1, report.departments());
+        assertEquals(1, report.projects());
+        assertEquals(1, report.hotEmployees());
+        // 6 request templates, all resolvable with the seeded data, 20 rounds
+        assertEquals(120, report.requestsSent());
+        assertEquals(0, report.requestsFailed());
+    }
+}
@@ -0,0 +1,203 @@
+package de.zeroco.employeemanagement.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import de.zeroco.employeemanagement.event.ChangeType;
+import de.zeroco.employeemanagement.model.ChangeLogEntry;
+import de.zeroco.employeemanagement.model.WebhookSubscription;
+import de.zeroco.employeemanagement.outbox.OutboxMessage;
+import de.zeroco.employeemanagement.service.WebhookSubscriptionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Delivers to a stub HTTP receiver on localhost. The relay is off in the test profile, so batches are handed to
+ * {@link WebhookOutboxSink} directly, as the relay would.
+ */
+@SpringBootTest(properties = {"app.webhooks.dispatcher.enabled=true", "app.webhooks.poll-interval-ms=20",
+        "app.webhooks.batch-size=2", "app.webhooks.initial-retry-delay-ms=50", "app.webhooks.max-retry-delay-ms=200",
+        "app.webhooks.max-attempts=3"})
+@ActiveProfiles("test")
+public class WebhookDeliveryTest {
+
+    /** Records the requests; answers with the queued status codes, then 200. */
+    static class StubReceiver {
+        final HttpServer server;
+        final List<JsonNode> batches = new CopyOnWriteArrayList<>();
+        final List<String> signatures = new CopyOnWriteArrayList<>();
+        final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+        final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        volatile long delayMs;
+        volatile int defaultStatus = 200;
+
+        StubReceiver() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/hook", exchange -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                try {
+                    byte[] body = exchange.getRequestBody().readAllBytes();
+                    Thread.sleep(delayMs);
+                    Integer queued = statuses.poll();
+                    int status = queued != null ? queued : defaultStatus;
+                    if (status == 200) {
+                        bodies.add(body);
+                        batches.add(new ObjectMapper().readTree(body));
+                        signatures.add(exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER));
+                    }
+                    exchange.sendResponseHeaders(status, -1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    concurrent.decrementAndGet();
+                    exchange.close();
+                }
+            });
+            server.start();
+        }
+
+        String url() {
+            return "http://localhost:" + server.getAddress().getPort() + "/hook";
+        }
+
+        List<Long> entityIds() {
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode batch : batches) {
+                batch.get("events").forEach(event -> ids.add(event.get("entityId").asLong()));
+            }
+            return ids;
+        }
+    }
+
+    @Autowired
+    private WebhookOutboxSink sink;
+
+    @Autowired
+    private WebhookDeliveryStore store;
+
+    @Autowired
+    private WebhookSubscriptionService subscriptionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private StubReceiver receiver;
+    private final List<Long> subscriptions = new ArrayList<>();
+    private long nextEventId = 9_000_000;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        receiver = new StubReceiver();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.forEach(subscriptionService::deleteSubscription);
+        receiver.server.stop(0);
+    }
+
+    @Test
+    void events_shouldBeDeliveredInBatchesToMatchingSubscriptionsWithSignature() {
+        WebhookSubscription subscription = subscribe(Set.of(ChangeLogEntry.EntityType.EMPLOYEE,
+                ChangeLogEntry.EntityType.DEPARTMENT), 2, "s3cret");
+
+        sink.publish(List.of(event(ChangeLogEntry.EntityType.EMPLOYEE, 1), event(ChangeLogEntry.EntityType.PROJECT, 2),
+                event(ChangeLogEntry.EntityType.DEPARTMENT, 3)));
+
+        await(() -> receiver.entityIds().size() == 2);
+        assertEquals(Set.of(1L, 3L), Set.copyOf(receiver.entityIds()));
+        for (int i = 0; i < receiver.bodies.size(); i++) {
+            assertEquals("sha256=" + WebhookDispatcher.sign("s3cret", receiver.bodies.get(i)), receiver.signatures.get(i));
+            assertEquals(subscription.getId(), receiver.batches.get(i).get("subscriptionId").asLong());
+        }
+        await(() -> store.countQueued(subscription.getId()) == 0);
+        assertEquals(2, meterRegistry.get("app.webhooks.delivery.latency")
+                .tag("subscription", subscription.getId().toString()).timer().count());
+    }
+
+    @Test
+    void failedDeliveries_shouldBeRetriedWithBackoffUntilAccepted() {
+        WebhookSubscription subscription = subscribe(Set.of(ChangeLogEntry.EntityType.EMPLOYEE), 1, null);
+        receiver.statuses.add(503);
+        receiver.statuses.add(500);
+
+        sink.publish(List.of(event(ChangeLogEntry.EntityType.EMPLOYEE, 10)));
+
+        await(() -> receiver.entityIds().equals(List.of(10L)));
+        assertEquals(2, meterRegistry.get("app.webhooks.failures")
+                .tag("subscription", subscription.getId().toString()).counter().count());
+        await(() -> store.countQueued(subscription.getId()) == 0);
+    }
+
+    @Test
+    void deliveriesFailingEveryAttempt_shouldBecomeDeadLetters() {
+        WebhookSubscription subscription = subscribe(Set.of(ChangeLogEntry.EntityType.EMPLOYEE), 1, null);
+        receiver.defaultStatus = 500;
+
+        sink.publish(List.of(event(ChangeLogEntry.EntityType.EMPLOYEE, 20)));
+
+        await(() -> store.countDeadLetters(subscription.getId()) == 1);
+        assertEquals(0, store.countQueued(subscription.getId()));
+        assertTrue(receiver.batches.isEmpty());
+        assertEquals(1, meterRegistry.get("app.webhooks.dead")
+                .tag("subscription", subscription.getId().toString()).counter().count());
+    }
+
+    @Test
+    void concurrentRequests_shouldBeLimitedPerEndpoint() {
+        subscribe(Set.of(ChangeLogEntry.EntityType.EMPLOYEE), 1, null);
+        receiver.delayMs = 50;
+
+        List<OutboxMessage> events = new ArrayList<>();
+        for (long id = 100; id < 110; id++) {
+            events.add(event(ChangeLogEntry.EntityType.EMPLOYEE, id));
+        }
+        sink.publish(events);
+
+        await(() -> receiver.entityIds().size() == 10);
+        assertEquals(1, receiver.maxConcurrent.get());
+        assertTrue(receiver.batches.stream().allMatch(batch -> batch.get("events").size() <= 2));
+    }
+
+    private WebhookSubscription subscribe(Set<ChangeLogEntry.EntityType> entityTypes, int maxConcurrency, String secret) {
+        WebhookSubscription subscription = subscriptionService.createSubscription(
+                new WebhookSubscription(null, receiver.url(), entityTypes, secret, maxConcurrency, true));
+        subscriptions.add(subscription.getId());
+        return subscription;
+    }
+
+    private OutboxMessage event(ChangeLogEntry.EntityType entityType, long entityId) {
+        return new OutboxMessage(nextEventId++, entityType, entityId, ChangeType.UPDATED, Instant.now());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not reached");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+INSERT INTO department (id, name) VALUES (1, 'Engineering');
+INSERT INTO project (id, name) VALUES (1, 'Apollo');
+INSERT INTO employee (id, name, role, salary, date_of_birth, email, phone_number, hire_date, address, department_id, manager_id)
+VALUES (1, 'Grace Hopper', 'Engineer', 6000, '1980-12-09', 'grace@example.com', '555-0100', '2020-01-01', 'Arlington', 1, NULL);
+INSERT INTO employee_project (employee_id, project_id) VALUES (1, 1);